@@ -13,6 +13,7 @@
 
 package org.tinylog.benchmarks.api;
 
+import java.lang.StackWalker.Option;
 import java.lang.StackWalker.StackFrame;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -20,6 +21,9 @@ import java.util.stream.Stream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
 
 /**
  * Benchmark for comparing methods to extract a defined element from stack trace.
@@ -30,6 +34,9 @@ import org.openjdk.jmh.annotations.Mode;
  */
 public class StackTraceBenchmark {
 
+	private static final StackWalker CLASS_WALKER = StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+	private static final ClassContextSecurityManager SECURITY_MANAGER = new ClassContextSecurityManager();
+
 	/** */
 	public StackTraceBenchmark() {
 	}
@@ -117,6 +124,34 @@ public class StackTraceBenchmark {
 		return new ClassContextSecurityManager().getClassContext()[1];
 	}
 
+	/**
+	 * Benchmarks getting the caller class from a stack walker that retains class references, while the caller is
+	 * nested in a deep stack trace.
+	 *
+	 * @param stack
+	 *            Depth of stack trace
+	 * @return Found caller class
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public Class<?> stackWalkerInDeepStack(final DeepStack stack) {
+		return walkClass(stack.depth);
+	}
+
+	/**
+	 * Benchmarks getting the caller class from class context of security manager, while the caller is nested in a
+	 * deep stack trace.
+	 *
+	 * @param stack
+	 *            Depth of stack trace
+	 * @return Found caller class
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public Class<?> securityManagerInDeepStack(final DeepStack stack) {
+		return getClassContext(stack.depth);
+	}
+
 	/* Throwable.getStackTraceElement() is only available on Java 8 and prior */
 	
 	//	private static final Method stackTraceElementGetter = getStackTraceElementGetter();
@@ -149,6 +184,55 @@ public class StackTraceBenchmark {
 	//		}
 	//	}
 
+	/**
+	 * Calls itself recursively until the passed depth is reached and gets the caller class from stack walker afterwards.
+	 *
+	 * @param depth
+	 *            Number of remaining recursive calls
+	 * @return Found caller class
+	 */
+	private static Class<?> walkClass(final int depth) {
+		if (depth > 0) {
+			return walkClass(depth - 1);
+		} else {
+			return CLASS_WALKER.walk(new StackFrameExtractor(1)).getDeclaringClass();
+		}
+	}
+
+	/**
+	 * Calls itself recursively until the passed depth is reached and gets the caller class from class context of
+	 * security manager afterwards.
+	 *
+	 * @param depth
+	 *            Number of remaining recursive calls
+	 * @return Found caller class
+	 */
+	private static Class<?> getClassContext(final int depth) {
+		if (depth > 0) {
+			return getClassContext(depth - 1);
+		} else {
+			return SECURITY_MANAGER.getClassContext()[1];
+		}
+	}
+
+	/**
+	 * State with the number of additional frames in stack trace.
+	 */
+	@State(Scope.Thread)
+	public static class DeepStack {
+
+		/**
+		 * Number of additional frames in stack trace.
+		 */
+		@Param({"10", "100", "500"})
+		private int depth;
+
+		/** */
+		public DeepStack() {
+		}
+
+	}
+
 	/**
 	 * Extractor for extracting a defined stack frame from stack trace.
 	 */
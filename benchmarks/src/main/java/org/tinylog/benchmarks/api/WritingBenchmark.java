@@ -31,6 +31,10 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.writers.raw.ByteArrayWriter;
+import org.tinylog.writers.raw.FileChannelWriter;
+import org.tinylog.writers.raw.MappedFileWriter;
+import org.tinylog.writers.raw.RandomAccessFileWriter;
 
 /**
  * Benchmark for comparing writing performance of different classes that Java provides for writing to a file.
@@ -38,6 +42,9 @@ import org.openjdk.jmh.annotations.TearDown;
  * @see FileOutputStream
  * @see RandomAccessFile
  * @see FileChannel
+ * @see RandomAccessFileWriter
+ * @see FileChannelWriter
+ * @see MappedFileWriter
  */
 public class WritingBenchmark {
 
@@ -279,6 +286,66 @@ public class WritingBenchmark {
 		}
 	}
 
+	/**
+	 * Benchmarks writing via tinylog's {@link RandomAccessFileWriter} without using any kind of buffering.
+	 *
+	 * @param configuration
+	 *            Configuration with target file
+	 * @throws IOException
+	 *             Failed to write to target file
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public void randomAccessFileWriter(final Configuration configuration) throws IOException {
+		write(new RandomAccessFileWriter(new RandomAccessFile(configuration.file, "rw")));
+	}
+
+	/**
+	 * Benchmarks writing via tinylog's {@link FileChannelWriter} without using any kind of additional buffering.
+	 *
+	 * @param configuration
+	 *            Configuration with target file
+	 * @throws IOException
+	 *             Failed to write to target file
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public void fileChannelWriter(final Configuration configuration) throws IOException {
+		write(new FileChannelWriter(new RandomAccessFile(configuration.file, "rw")));
+	}
+
+	/**
+	 * Benchmarks writing via tinylog's memory-mapping {@link MappedFileWriter}.
+	 *
+	 * @param configuration
+	 *            Configuration with target file
+	 * @throws IOException
+	 *             Failed to write to target file
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public void mappedFileWriter(final Configuration configuration) throws IOException {
+		write(new MappedFileWriter(new RandomAccessFile(configuration.file, "rw")));
+	}
+
+	/**
+	 * Writes all lines via the passed byte array writer and closes it afterwards.
+	 *
+	 * @param writer
+	 *            Byte array writer to use
+	 * @throws IOException
+	 *             Failed to write to target file
+	 */
+	private static void write(final ByteArrayWriter writer) throws IOException {
+		try {
+			for (long i = 0; i < LINES; ++i) {
+				writer.write(DATA, DATA.length);
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
 	/**
 	 * Holder of target file.
 	 */
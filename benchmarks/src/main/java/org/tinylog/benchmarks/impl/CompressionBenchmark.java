@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.converters.FileConverter;
+
+/**
+ * Benchmark for comparing compression throughput and ratio of file converters on log text.
+ *
+ * <p>
+ *     Each invocation compresses a 32 MB log file that has been generated with a typical format pattern. The
+ *     compression ratio of each converter is printed after the trial.
+ * </p>
+ */
+public class CompressionBenchmark {
+
+	/** */
+	public CompressionBenchmark() {
+	}
+
+	/**
+	 * Benchmarks compressing a log file by a file converter.
+	 *
+	 * @param configuration
+	 *            Configuration with log file and converter
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void compress(final Configuration configuration) throws InterruptedException {
+		FileConverter converter = configuration.createConverter();
+		converter.open(configuration.file.getAbsolutePath());
+		converter.close();
+		converter.shutdown();
+	}
+
+	/**
+	 * Configuration with log file and converter.
+	 */
+	@State(Scope.Thread)
+	public static class Configuration {
+
+		private static final long SIZE = 32 * 1024 * 1024;
+
+		private static final String[] USERS = {"alice", "bob", "carol", "dave", "eve", "mallory"};
+		private static final String[] CLASSES = {
+			"org.example.shop.OrderService", "org.example.shop.PaymentGateway", "org.example.web.RequestFilter",
+			"org.example.db.ConnectionPool"
+		};
+
+		@Param({"gzip", "gzip: 4", "lz4", "lz4: 9", "zstd", "zstd: 9"})
+		private String converter;
+
+		private final Random random = new Random();
+
+		private File template;
+		private File file;
+		private File compressed;
+
+		/** */
+		public Configuration() {
+		}
+
+		/**
+		 * Generates the log file that will be compressed.
+		 *
+		 * @throws IOException
+		 *             Failed to write the log file
+		 */
+		@Setup(Level.Trial)
+		public void init() throws IOException {
+			template = File.createTempFile("tinylog", ".template");
+			template.deleteOnExit();
+
+			file = new File(template.getAbsolutePath() + ".log");
+			file.deleteOnExit();
+
+			compressed = new File(file.getAbsolutePath() + createConverter().getBackupSuffix());
+			compressed.deleteOnExit();
+
+			// @checkstyle off: MagicNumber
+			random.setSeed(42);
+			try (Writer writer = Files.newBufferedWriter(template.toPath(), StandardCharsets.UTF_8)) {
+				for (long size = 0; size < SIZE;) {
+					String line = String.format(
+						Locale.ROOT,
+						"2026-10-17 %02d:%02d:%02d.%03d [pool-1-thread-%d] %s %s.handle(): User %s processed order #%d in %d ms%n",
+						random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000), random.nextInt(8) + 1,
+						random.nextInt(10) == 0 ? "WARN " : "INFO ", CLASSES[random.nextInt(CLASSES.length)],
+						USERS[random.nextInt(USERS.length)], random.nextInt(1_000_000), random.nextInt(500)
+					);
+					writer.write(line);
+					size += line.length();
+				}
+			}
+			// @checkstyle on: MagicNumber
+		}
+
+		/**
+		 * Copies the generated log file before each compression, as converters delete the original file.
+		 *
+		 * @throws IOException
+		 *             Failed to copy the log file
+		 */
+		@Setup(Level.Invocation)
+		public void prepare() throws IOException {
+			Files.copy(template.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.deleteIfExists(compressed.toPath());
+		}
+
+		/**
+		 * Prints the compression ratio and deletes all files.
+		 *
+		 * @throws IOException
+		 *             Failed to delete files
+		 */
+		@TearDown(Level.Trial)
+		public void dispose() throws IOException {
+			System.out.printf(
+				Locale.ROOT,
+				"%n%s: %,d bytes -> %,d bytes (ratio %.2f)%n",
+				converter, template.length(), compressed.length(), (double) template.length() / compressed.length()
+			);
+
+			Files.deleteIfExists(compressed.toPath());
+			Files.deleteIfExists(file.toPath());
+			Files.deleteIfExists(template.toPath());
+		}
+
+		/**
+		 * Creates the file converter to benchmark.
+		 *
+		 * @return Created file converter
+		 */
+		private FileConverter createConverter() {
+			int separator = converter.indexOf(':');
+			if (separator == -1) {
+				return new ServiceLoader<FileConverter>(FileConverter.class).create(converter);
+			} else {
+				String name = converter.substring(0, separator).trim();
+				String argument = converter.substring(separator + 1).trim();
+				return new ServiceLoader<FileConverter>(FileConverter.class, String.class).create(name, argument);
+			}
+		}
+
+	}
+
+}
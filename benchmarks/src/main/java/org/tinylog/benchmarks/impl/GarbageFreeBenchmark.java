@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.impl;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.Logger;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.writers.Writer;
+
+/**
+ * Benchmark for measuring the allocations per log statement with and without garbage-free mode.
+ *
+ * <p>
+ *     This benchmark should be executed with the GC profiler ({@code -prof gc}), for example via the Maven profiles
+ *     "benchmark-garbage-free" and "benchmark-option-gc". In garbage-free mode, "gc.alloc.rate.norm" is expected to be
+ *     zero bytes per operation. The used writer consumes log entries without allocating any objects, so that the
+ *     benchmark measures the allocations of the logging pipeline itself.
+ * </p>
+ */
+public class GarbageFreeBenchmark {
+
+	private static final String MESSAGE = "Hello World!";
+
+	/** */
+	public GarbageFreeBenchmark() {
+	}
+
+	/**
+	 * Benchmarks issuing a log entry with a static text message.
+	 *
+	 * @param lifeCycle
+	 *            Initialized tinylog
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void log(final LifeCycle lifeCycle) {
+		Logger.info(MESSAGE);
+	}
+
+	/**
+	 * Life cycle for initializing and shutting down tinylog.
+	 */
+	@State(Scope.Benchmark)
+	public static class LifeCycle {
+
+		@Param({"false", "true"})
+		private boolean garbageFree;
+
+		@Param({"false", "true"})
+		private boolean writingThread;
+
+		/** */
+		public LifeCycle() {
+		}
+
+		/**
+		 * Configures tinylog with a writer that doesn't allocate any objects.
+		 */
+		@Setup(Level.Trial)
+		public void init() {
+			Configuration.set("autoshutdown", "false");
+			Configuration.set("level", "info");
+			Configuration.set("writer", BlackholeWriter.class.getName());
+			Configuration.set("writingthread", Boolean.toString(writingThread));
+			Configuration.set("garbagefree", Boolean.toString(garbageFree));
+		}
+
+		/**
+		 * Shuts down tinylog.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for the writing thread
+		 */
+		@TearDown(Level.Trial)
+		public void shutDown() throws InterruptedException {
+			ProviderRegistry.getLoggingProvider().shutdown();
+		}
+
+	}
+
+	/**
+	 * Writer that only consumes the severity level and text message of log entries without allocating any objects.
+	 */
+	public static final class BlackholeWriter implements Writer {
+
+		private final Collection<LogEntryValue> requiredLogEntryValues;
+		private long consumed;
+
+		/**
+		 * @param properties
+		 *            Configuration for writer (will be ignored)
+		 */
+		public BlackholeWriter(final Map<String, String> properties) {
+			requiredLogEntryValues = EnumSet.of(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		}
+
+		@Override
+		public Collection<LogEntryValue> getRequiredLogEntryValues() {
+			return requiredLogEntryValues;
+		}
+
+		@Override
+		public void write(final LogEntry logEntry) {
+			consumed += logEntry.getLevel().ordinal() + logEntry.getMessage().length();
+		}
+
+		@Override
+		public void flush() {
+			// Nothing to flush
+		}
+
+		@Override
+		public void close() {
+			consumed = 0;
+		}
+
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.core.LogEntry;
+import org.tinylog.runtime.RuntimeProvider;
+import org.tinylog.writers.JsonWriter;
+
+/**
+ * Benchmark for measuring the throughput of the JSON writer.
+ *
+ * <p>
+ *     The JSON writer is called directly without the logging pipeline of tinylog. Log entries are written with four
+ *     fields, either with a plain text message or with a message that contains characters that must be escaped.
+ * </p>
+ */
+public class JsonBenchmark {
+
+	/** */
+	public JsonBenchmark() {
+	}
+
+	/**
+	 * Benchmarks writing a log entry as JSON object.
+	 *
+	 * @param configuration
+	 *            Configuration with JSON writer and log entry
+	 * @throws IOException
+	 *             Failed to write the log entry
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public void write(final Configuration configuration) throws IOException {
+		configuration.writer.write(configuration.logEntry);
+	}
+
+	/**
+	 * Configuration with JSON writer and log entry.
+	 */
+	@State(Scope.Thread)
+	public static class Configuration {
+
+		private static final String PLAIN_MESSAGE = "User alice processed order #4711 in 42 ms";
+		private static final String SPECIAL_MESSAGE = "User \"alice\" processed order\n\tC:\\orders\\4711.xml";
+
+		@Param({"JSON", "LDJSON"})
+		private String format;
+
+		@Param({"false", "true"})
+		private boolean escaping;
+
+		private File file;
+		private JsonWriter writer;
+		private LogEntry logEntry;
+
+		/** */
+		public Configuration() {
+		}
+
+		/**
+		 * Creates the JSON writer and the log entry.
+		 *
+		 * @throws IOException
+		 *             Failed to create the log file
+		 */
+		@Setup(Level.Trial)
+		public void init() throws IOException {
+			file = File.createTempFile("tinylog", ".json");
+			file.deleteOnExit();
+
+			Map<String, String> properties = new HashMap<>();
+			properties.put("file", file.getAbsolutePath());
+			properties.put("format", format);
+			properties.put("writingthread", "true");
+			properties.put("field.date", "{date: yyyy-MM-dd HH:mm:ss.SSS}");
+			properties.put("field.level", "{level}");
+			properties.put("field.class", "{class}");
+			properties.put("field.message", "{message}");
+			writer = new JsonWriter(properties);
+
+			logEntry = new LogEntry(
+				RuntimeProvider.createTimestamp(), Thread.currentThread(), Collections.<String, String>emptyMap(),
+				JsonBenchmark.class.getName(), "write", null, -1, null, org.tinylog.Level.INFO,
+				escaping ? SPECIAL_MESSAGE : PLAIN_MESSAGE, null
+			);
+		}
+
+		/**
+		 * Closes the JSON writer and deletes the log file.
+		 *
+		 * @throws IOException
+		 *             Failed to close the writer or to delete the log file
+		 */
+		@TearDown(Level.Trial)
+		public void dispose() throws IOException {
+			writer.close();
+			Files.deleteIfExists(file.toPath());
+		}
+
+	}
+
+}
@@ -96,6 +96,23 @@ public final class Logger {
 		}
 	}
 
+	/**
+	 * Gets a logger instance for a dedicated class. Enabled severity levels are resolved once for the passed class.
+	 * Thereby, log entries at disabled severity levels can be discarded without any stack trace inspection.
+	 *
+	 * <p>
+	 * The returned logger should be only used by the passed class itself. Usually, it is stored in a static final
+	 * field of this class.
+	 * </p>
+	 *
+	 * @param clazz
+	 *            Class that issues log entries
+	 * @return Logger instance
+	 */
+	public static ClassLogger forClass(final Class<?> clazz) {
+		return new ClassLogger(clazz.getName());
+	}
+
 	/**
 	 * Puts the given tags into an immutable {@link Set}. Any "empty" tags are treated as the same as {@code null} tags
 	 *
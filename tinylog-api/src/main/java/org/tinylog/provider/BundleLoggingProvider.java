@@ -24,7 +24,7 @@ import org.tinylog.format.MessageFormatter;
 /**
  * Logging provider that combines multiple logging providers into one.
  */
-public final class BundleLoggingProvider implements LoggingProvider {
+public final class BundleLoggingProvider implements ClassAwareLoggingProvider {
 
 	private final LoggingProvider[] loggingProviders;
 	private final ContextProvider contextProvider;
@@ -67,6 +67,21 @@ public final class BundleLoggingProvider implements LoggingProvider {
 		return minimumLevel;
 	}
 
+	@Override
+	public Level getMinimumLevel(final String className, final String tag) {
+		Level minimumLevel = Level.OFF;
+		for (int i = 0; i < loggingProviders.length; ++i) {
+			LoggingProvider provider = loggingProviders[i];
+			Level level = provider instanceof ClassAwareLoggingProvider
+				? ((ClassAwareLoggingProvider) provider).getMinimumLevel(className, tag)
+				: provider.getMinimumLevel(tag);
+			if (level.ordinal() < minimumLevel.ordinal()) {
+				minimumLevel = level;
+			}
+		}
+		return minimumLevel;
+	}
+
 	@Override
 	public boolean isEnabled(final int depth, final String tag, final Level level) {
 		for (LoggingProvider loggingProvider : loggingProviders) {
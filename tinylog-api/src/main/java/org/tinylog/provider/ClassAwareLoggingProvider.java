@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import org.tinylog.Level;
+
+/**
+ * Extension for logging providers that can resolve severity levels for dedicated classes in advance.
+ *
+ * <p>
+ * Loggers that are bound to a class can use this API for determining once which severity levels are enabled for the
+ * class. Thereby, disabled log entries can be discarded without inspecting the stack trace.
+ * </p>
+ */
+public interface ClassAwareLoggingProvider extends LoggingProvider {
+
+	/**
+	 * Gets the lowest activated severity level for log entries that are issued by a class.
+	 *
+	 * <p>
+	 * The result of this method is cacheable and can be used to stop processing log entries at an early stage, before
+	 * doing any expensive operations. All lower severity levels than the returned level will be never output by the
+	 * passed class.
+	 * </p>
+	 *
+	 * @param className
+	 *            Fully-qualified name of the class that issues log entries
+	 * @param tag
+	 *            Tag to check (can be {@code null})
+	 * @return Lowest activated severity level
+	 */
+	Level getMinimumLevel(String className, String tag);
+
+}
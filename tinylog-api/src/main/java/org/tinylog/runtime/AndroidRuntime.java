@@ -93,6 +93,16 @@ final class AndroidRuntime implements RuntimeDialect {
 		return findStackTraceElement(loggerClassName, new Throwable().getStackTrace());
 	}
 
+	@Override
+	public StackTraceElement getCachedCallerStackTraceElement(final int depth) {
+		return getCallerStackTraceElement(depth + 1);
+	}
+
+	@Override
+	public StackTraceElement getCachedCallerStackTraceElement(final String loggerClassName) {
+		return getCallerStackTraceElement(loggerClassName);
+	}
+
 	@Override
 	public Timestamp createTimestamp() {
 		return new LegacyTimestamp();
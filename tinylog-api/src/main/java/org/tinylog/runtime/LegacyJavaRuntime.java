@@ -114,6 +114,16 @@ public final class LegacyJavaRuntime extends AbstractJavaRuntime {
 		}
 	}
 
+	@Override
+	public StackTraceElement getCachedCallerStackTraceElement(final int depth) {
+		return getCallerStackTraceElement(depth + 1);
+	}
+
+	@Override
+	public StackTraceElement getCachedCallerStackTraceElement(final String loggerClassName) {
+		return getCallerStackTraceElement(loggerClassName);
+	}
+
 	@Override
 	public Timestamp createTimestamp() {
 		return new LegacyTimestamp();
@@ -13,10 +13,15 @@
 
 package org.tinylog.runtime;
 
+import java.lang.StackWalker.Option;
 import java.lang.StackWalker.StackFrame;
 import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -26,11 +31,32 @@ import org.tinylog.provider.InternalLogger;
 
 /**
  * Runtime dialect implementation for Java 9+.
+ *
+ * <p>
+ * Callers are looked up via {@link StackWalker}. Stack frames are fetched lazily, so only the frames up to the caller
+ * have to be walked instead of materializing the entire stack trace.
+ * </p>
+ *
+ * <p>
+ * Creating stack trace elements is expensive. Therefore, stack trace elements of code locations can be cached. A code
+ * location is identified by class, method and bytecode index of its stack frame. The cache is attached to the
+ * declaring classes via {@link ClassValue} and does not prevent class loaders from being garbage collected.
+ * </p>
+ *
+ * <p>
+ * The cache holds up to 256 code locations per class and up to 4096 code locations in total. Code locations of
+ * unloaded classes still count towards the total limit. As soon as a limit is reached, stack trace elements of further
+ * code locations are created on each call.
+ * </p>
  */
 @IgnoreJRERequirement
 final class ModernJavaRuntime extends AbstractJavaRuntime {
 
-	private static final ClassContextSecurityManager securityManager = new ClassContextSecurityManager();
+	private static final int MAX_CALL_SITES = 4096;
+	private static final int MAX_CALL_SITES_PER_CLASS = 256;
+
+	private static final StackWalker stackWalker = StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+	private static final Method descriptorMethod = getDescriptorMethod();
 
 	private static final Timestamp startTime = new PreciseTimestamp(
 		ManagementFactory.getRuntimeMXBean().getStartTime(),
@@ -38,6 +64,8 @@ final class ModernJavaRuntime extends AbstractJavaRuntime {
 	);
 
 	private final ProcessHandle currentProcess = getCurrentProcess();
+	private final CallSiteCache callSites = new CallSiteCache();
+	private final AtomicInteger cachedCallSites = new AtomicInteger();
 
 	/** */
 	ModernJavaRuntime() {
@@ -60,43 +88,40 @@ final class ModernJavaRuntime extends AbstractJavaRuntime {
 
 	@Override
 	public String getCallerClassName(final int depth) {
-		Class<?>[] classes = securityManager.getClassContext();
-		return classes.length > depth + 1 ? classes[depth + 1].getName() : null;
+		StackFrame frame = stackWalker.walk(new FixedStackFrameExtractor(depth));
+		return frame == null ? null : frame.getDeclaringClass().getName();
 	}
 
 	@Override
 	public String getCallerClassName(final String loggerClassName) {
-		Class<?>[] classes = securityManager.getClassContext();
-		int index = 0;
-
-		while (index < classes.length) {
-			if (loggerClassName.equals(classes[index++].getName())) {
-				break;
-			}
-		}
-
-		while (index < classes.length) {
-			String className = classes[index++].getName();
-			if (!loggerClassName.equals(className)) {
-				return className;
-			}
-		}
-
-		return null;
+		StackFrame frame = stackWalker.walk(new DynamicStackFrameExtractor(loggerClassName));
+		return frame == null ? null : frame.getDeclaringClass().getName();
 	}
 
 	@Override
 	public StackTraceElement getCallerStackTraceElement(final int depth) {
-		StackFrame frame = StackWalker.getInstance().walk(new FixedStackFrameExtractor(depth));
+		StackFrame frame = stackWalker.walk(new FixedStackFrameExtractor(depth));
 		return frame == null ? null : frame.toStackTraceElement();
 	}
 
 	@Override
 	public StackTraceElement getCallerStackTraceElement(final String loggerClassName) {
-		StackFrame frame = StackWalker.getInstance().walk(new DynamicStackFrameExtractor(loggerClassName));
+		StackFrame frame = stackWalker.walk(new DynamicStackFrameExtractor(loggerClassName));
 		return frame == null ? null : frame.toStackTraceElement();
 	}
 
+	@Override
+	public StackTraceElement getCachedCallerStackTraceElement(final int depth) {
+		StackFrame frame = stackWalker.walk(new FixedStackFrameExtractor(depth));
+		return frame == null ? null : getStackTraceElement(frame);
+	}
+
+	@Override
+	public StackTraceElement getCachedCallerStackTraceElement(final String loggerClassName) {
+		StackFrame frame = stackWalker.walk(new DynamicStackFrameExtractor(loggerClassName));
+		return frame == null ? null : getStackTraceElement(frame);
+	}
+
 	@Override
 	public Timestamp createTimestamp() {
 		return new PreciseTimestamp();
@@ -107,6 +132,55 @@ final class ModernJavaRuntime extends AbstractJavaRuntime {
 		return new PreciseTimestampFormatter(pattern, locale);
 	}
 
+	/**
+	 * Gets the stack trace element for a stack frame from cache. Stack trace elements will be created and cached, if
+	 * their code locations are not cached yet. The cache is limited in size per class and in total. Stack trace elements
+	 * for code locations that don't fit into the cache anymore are created on each call.
+	 *
+	 * @param frame
+	 *            Stack frame of a code location
+	 * @return Stack trace element of given stack frame
+	 */
+	private StackTraceElement getStackTraceElement(final StackFrame frame) {
+		if (descriptorMethod == null) {
+			return frame.toStackTraceElement();
+		}
+
+		String descriptor;
+		try {
+			descriptor = (String) descriptorMethod.invoke(frame);
+		} catch (ReflectiveOperationException ex) {
+			return frame.toStackTraceElement();
+		}
+
+		ConcurrentMap<CallSite, StackTraceElement> cache = callSites.get(frame.getDeclaringClass());
+		CallSite callSite = new CallSite(frame.getMethodName(), descriptor, frame.getByteCodeIndex());
+		StackTraceElement element = cache.get(callSite);
+		if (element == null) {
+			element = frame.toStackTraceElement();
+			if (cache.size() < MAX_CALL_SITES_PER_CLASS && cachedCallSites.get() < MAX_CALL_SITES
+				&& cache.putIfAbsent(callSite, element) == null) {
+				cachedCallSites.incrementAndGet();
+			}
+		}
+		return element;
+	}
+
+	/**
+	 * Gets the method for receiving method descriptors of stack frames. Without method descriptors, code locations of
+	 * overloaded methods cannot be distinguished. This feature is available since Java 10, and therefore, the method
+	 * has to be called via reflection.
+	 *
+	 * @return {@code StackFrame.getDescriptor()} or {@code null} if not available
+	 */
+	private static Method getDescriptorMethod() {
+		try {
+			return StackFrame.class.getMethod("getDescriptor");
+		} catch (NoSuchMethodException ex) {
+			return null;
+		}
+	}
+
 	/**
 	 * Gets the process handle of the current process.
 	 *
@@ -122,17 +196,61 @@ final class ModernJavaRuntime extends AbstractJavaRuntime {
 	}
 
 	/**
-	 * Security manager with accessible {@link SecurityManager#getClassContext()}.
+	 * Cache of stack trace elements for all code locations of a class.
 	 */
-	private static final class ClassContextSecurityManager extends SecurityManager {
+	@IgnoreJRERequirement
+	private static final class CallSiteCache extends ClassValue<ConcurrentMap<CallSite, StackTraceElement>> {
 
 		/** */
-		private ClassContextSecurityManager() {
+		private CallSiteCache() {
+		}
+
+		@Override
+		protected ConcurrentMap<CallSite, StackTraceElement> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<CallSite, StackTraceElement>();
+		}
+
+	}
+
+	/**
+	 * Code location within a class that is identified by method and bytecode index.
+	 */
+	private static final class CallSite {
+
+		private static final int HASH_MULTIPLIER = 31;
+
+		private final String methodName;
+		private final String descriptor;
+		private final int byteCodeIndex;
+
+		/**
+		 * @param methodName
+		 *            Name of method
+		 * @param descriptor
+		 *            Descriptor of method
+		 * @param byteCodeIndex
+		 *            Index of the current instruction in the method's bytecode
+		 */
+		private CallSite(final String methodName, final String descriptor, final int byteCodeIndex) {
+			this.methodName = methodName;
+			this.descriptor = descriptor;
+			this.byteCodeIndex = byteCodeIndex;
 		}
 
 		@Override
-		protected Class<?>[] getClassContext() {
-			return super.getClassContext();
+		public int hashCode() {
+			return methodName.hashCode() * HASH_MULTIPLIER + byteCodeIndex;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (obj instanceof CallSite) {
+				CallSite other = (CallSite) obj;
+				return byteCodeIndex == other.byteCodeIndex && methodName.equals(other.methodName)
+					&& descriptor.equals(other.descriptor);
+			} else {
+				return false;
+			}
 		}
 
 	}
@@ -85,6 +85,28 @@ interface RuntimeDialect {
 	 */
 	StackTraceElement getCallerStackTraceElement(String loggerClassName);
 
+	/**
+	 * Gets the complete stack trace element of a caller from stack trace. Resolved stack trace elements can be cached
+	 * and reused for repeated calls from the same code location, if the dialect is able to identify the code location
+	 * cheaper than creating a stack trace element.
+	 *
+	 * @param depth
+	 *            Position of caller in stack trace
+	 * @return Stack trace element of a caller
+	 */
+	StackTraceElement getCachedCallerStackTraceElement(int depth);
+
+	/**
+	 * Gets the complete stack trace element of a caller from stack trace. Resolved stack trace elements can be cached
+	 * and reused for repeated calls from the same code location, if the dialect is able to identify the code location
+	 * cheaper than creating a stack trace element.
+	 *
+	 * @param loggerClassName
+	 *            Logger class name that should appear before the real caller
+	 * @return Stack trace element of a caller
+	 */
+	StackTraceElement getCachedCallerStackTraceElement(String loggerClassName);
+
 	/**
 	 * Creates a timestamp with the current date and time.
 	 *
@@ -150,6 +150,37 @@ public final class RuntimeProvider {
 		}
 	}
 
+	/**
+	 * Gets the complete stack trace element of a caller from stack trace. Any anonymous part will be stripped from
+	 * class name. Stack trace elements can be cached and reused for repeated calls from the same code location.
+	 *
+	 * @param depth
+	 *            Position of caller in stack trace
+	 * @return Stack trace element of a caller
+	 */
+	public static StackTraceElement getCachedCallerStackTraceElement(final int depth) {
+		return normalizeClassName(dialect.getCachedCallerStackTraceElement(depth + 1));
+	}
+
+	/**
+	 * Gets the complete stack trace element of a caller from stack trace. Any anonymous part will be stripped from
+	 * class name. Stack trace elements can be cached and reused for repeated calls from the same code location.
+	 *
+	 * @param loggerClassName
+	 *            Logger class name that should appear before the real caller
+	 * @return Stack trace element of a caller
+	 */
+	public static StackTraceElement getCachedCallerStackTraceElement(final String loggerClassName) {
+		StackTraceElement element = dialect.getCachedCallerStackTraceElement(loggerClassName);
+
+		if (element == null) {
+			InternalLogger.log(Level.ERROR, "Logger class \"" + loggerClassName + "\" is missing in stack trace");
+			return new StackTraceElement("<unknown class>", "<unknown method>", "<unknown file>", -1);
+		} else {
+			return normalizeClassName(element);
+		}
+	}
+
 	/**
 	 * Creates a timestamp with the current date and time.
 	 *
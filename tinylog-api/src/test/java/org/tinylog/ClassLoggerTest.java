@@ -0,0 +1,388 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.modules.junit4.rule.PowerMockRule;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.format.AdvancedMessageFormatter;
+import org.tinylog.provider.ClassAwareLoggingProvider;
+import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.ProviderRegistry;
+import org.tinylog.rules.SystemStreamCollector;
+import org.tinylog.util.LevelConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ClassLogger}.
+ */
+@RunWith(Parameterized.class)
+@PrepareForTest(ClassLogger.class)
+public final class ClassLoggerTest {
+
+	/**
+	 * Activates PowerMock (alternative to {@link PowerMockRunner}).
+	 */
+	@Rule
+	public PowerMockRule rule = new PowerMockRule();
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(false);
+
+	/**
+	 * Information about the severity level for the class under test.
+	 */
+	@Parameterized.Parameter
+	public LevelConfiguration levelConfiguration;
+
+	private ClassAwareLoggingProvider loggingProvider;
+	private ClassLogger logger;
+
+	/**
+	 * Returns for all severity levels which severity levels are enabled.
+	 *
+	 * @return Each object array contains the severity level configuration
+	 */
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> getLevels() {
+		List<Object[]> levels = new ArrayList<>();
+		for (LevelConfiguration configuration : LevelConfiguration.AVAILABLE_LEVELS) {
+			levels.add(new Object[] {configuration});
+		}
+
+		return levels;
+	}
+
+	/**
+	 * Mocks the underlying logging provider and creates a new class logger instance.
+	 */
+	@Before
+	public void init() {
+		loggingProvider = mockLoggingProvider();
+		logger = Logger.forClass(ClassLoggerTest.class);
+	}
+
+	/**
+	 * Resets the underlying logging provider.
+	 */
+	@After
+	public void reset() {
+		Whitebox.setInternalState(ClassLogger.class, ProviderRegistry.getLoggingProvider());
+	}
+
+	/**
+	 * Verifies that the class name of the passed class is used.
+	 */
+	@Test
+	public void className() {
+		assertThat(logger.getClassName()).isEqualTo(ClassLoggerTest.class.getName());
+	}
+
+	/**
+	 * Verifies that the severity level for the class is resolved once when creating the logger.
+	 */
+	@Test
+	public void resolveLevelOnce() {
+		logger.trace("Hello World!");
+		logger.error("Hello World!");
+
+		verify(loggingProvider).getMinimumLevel(ClassLoggerTest.class.getName(), null);
+		verify(loggingProvider, never()).getMinimumLevel(isNull());
+	}
+
+	/**
+	 * Verifies that the minimum severity level for untagged log entries is used for logging providers that cannot
+	 * resolve severity levels for classes.
+	 */
+	@Test
+	public void fallbackToMinimumLevel() {
+		LoggingProvider provider = mock(LoggingProvider.class);
+		when(provider.getMinimumLevel(null)).thenReturn(levelConfiguration.getLevel());
+		Whitebox.setInternalState(ClassLogger.class, provider);
+
+		ClassLogger logger = new ClassLogger(ClassLoggerTest.class.getName());
+		logger.info("Hello World!");
+
+		if (levelConfiguration.isInfoEnabled()) {
+			verify(provider).log(eq(2), isNull(), eq(Level.INFO), isNull(), isNull(), eq("Hello World!"), isNull());
+		} else {
+			verify(provider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies evaluating whether {@link Level#TRACE TRACE} level is enabled.
+	 */
+	@Test
+	public void isTraceEnabled() {
+		assertThat(logger.isTraceEnabled()).isEqualTo(levelConfiguration.isTraceEnabled());
+	}
+
+	/**
+	 * Verifies that a plain message object will be logged correctly at {@link Level#TRACE TRACE} level.
+	 */
+	@Test
+	public void traceObject() {
+		logger.trace("Hello World!");
+
+		if (levelConfiguration.isTraceEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), isNull(), eq("Hello World!"), isNull());
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
+	 * {@link Level#TRACE TRACE} level.
+	 */
+	@Test
+	public void traceMessageAndLazyArguments() {
+		Supplier<Integer> supplier = mockSupplier(42);
+		logger.trace("The number is {}", supplier);
+		verify(supplier, never()).get();
+
+		if (levelConfiguration.isTraceEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), same(supplier));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies evaluating whether {@link Level#DEBUG DEBUG} level is enabled.
+	 */
+	@Test
+	public void isDebugEnabled() {
+		assertThat(logger.isDebugEnabled()).isEqualTo(levelConfiguration.isDebugEnabled());
+	}
+
+	/**
+	 * Verifies that a plain message object will be logged correctly at {@link Level#DEBUG DEBUG} level.
+	 */
+	@Test
+	public void debugObject() {
+		logger.debug("Hello World!");
+
+		if (levelConfiguration.isDebugEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), isNull(), eq("Hello World!"), isNull());
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that an exception with a formatted custom message will be logged correctly at {@link Level#DEBUG DEBUG}
+	 * level.
+	 */
+	@Test
+	public void debugExceptionWithMessageAndArguments() {
+		Exception exception = new NullPointerException();
+
+		logger.debug(exception, "Hello {}!", "World");
+
+		if (levelConfiguration.isDebugEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.DEBUG), same(exception), any(AdvancedMessageFormatter.class),
+				eq("Hello {}!"), eq("World"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies evaluating whether {@link Level#INFO INFO} level is enabled.
+	 */
+	@Test
+	public void isInfoEnabled() {
+		assertThat(logger.isInfoEnabled()).isEqualTo(levelConfiguration.isInfoEnabled());
+	}
+
+	/**
+	 * Verifies that a plain message object will be logged correctly at {@link Level#INFO INFO} level.
+	 */
+	@Test
+	public void infoObject() {
+		logger.info("Hello World!");
+
+		if (levelConfiguration.isInfoEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.INFO), isNull(), isNull(), eq("Hello World!"), isNull());
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that an exception with a formatted custom message will be logged correctly at {@link Level#INFO INFO}
+	 * level.
+	 */
+	@Test
+	public void infoExceptionWithMessageAndArguments() {
+		Exception exception = new NullPointerException();
+
+		logger.info(exception, "Hello {}!", "World");
+
+		if (levelConfiguration.isInfoEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.INFO), same(exception), any(AdvancedMessageFormatter.class),
+				eq("Hello {}!"), eq("World"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies evaluating whether {@link Level#WARN WARN} level is enabled.
+	 */
+	@Test
+	public void isWarnEnabled() {
+		assertThat(logger.isWarnEnabled()).isEqualTo(levelConfiguration.isWarnEnabled());
+	}
+
+	/**
+	 * Verifies that a plain message object will be logged correctly at {@link Level#WARN WARN} level.
+	 */
+	@Test
+	public void warnObject() {
+		logger.warn("Hello World!");
+
+		if (levelConfiguration.isWarnEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.WARN), isNull(), isNull(), eq("Hello World!"), isNull());
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that an exception with a formatted custom message will be logged correctly at {@link Level#WARN WARN}
+	 * level.
+	 */
+	@Test
+	public void warnExceptionWithMessageAndArguments() {
+		Exception exception = new NullPointerException();
+
+		logger.warn(exception, "Hello {}!", "World");
+
+		if (levelConfiguration.isWarnEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.WARN), same(exception), any(AdvancedMessageFormatter.class),
+				eq("Hello {}!"), eq("World"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies evaluating whether {@link Level#ERROR ERROR} level is enabled.
+	 */
+	@Test
+	public void isErrorEnabled() {
+		assertThat(logger.isErrorEnabled()).isEqualTo(levelConfiguration.isErrorEnabled());
+	}
+
+	/**
+	 * Verifies that a plain message object will be logged correctly at {@link Level#ERROR ERROR} level.
+	 */
+	@Test
+	public void errorObject() {
+		logger.error("Hello World!");
+
+		if (levelConfiguration.isErrorEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), isNull(), eq("Hello World!"), isNull());
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that an exception with a formatted custom message will be logged correctly at {@link Level#ERROR ERROR}
+	 * level.
+	 */
+	@Test
+	public void errorExceptionWithMessageAndArguments() {
+		Exception exception = new NullPointerException();
+
+		logger.error(exception, "Hello {}!", "World");
+
+		if (levelConfiguration.isErrorEnabled()) {
+			verify(loggingProvider).log(eq(2), isNull(), eq(Level.ERROR), same(exception), any(AdvancedMessageFormatter.class),
+				eq("Hello {}!"), eq("World"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Mocks a class aware logging provider for {@link ClassLogger}. The minimum severity level for untagged log
+	 * entries is always {@link Level#TRACE TRACE}, so that only the severity level for the class can disable log
+	 * entries.
+	 *
+	 * @return Mock instance for logging provider
+	 */
+	private ClassAwareLoggingProvider mockLoggingProvider() {
+		ClassAwareLoggingProvider provider = mock(ClassAwareLoggingProvider.class);
+
+		when(provider.getMinimumLevel(null)).thenReturn(Level.TRACE);
+		when(provider.getMinimumLevel(ClassLoggerTest.class.getName(), null)).thenReturn(levelConfiguration.getLevel());
+		when(provider.isEnabled(anyInt(), isNull(), eq(Level.TRACE))).thenReturn(levelConfiguration.isTraceEnabled());
+		when(provider.isEnabled(anyInt(), isNull(), eq(Level.DEBUG))).thenReturn(levelConfiguration.isDebugEnabled());
+		when(provider.isEnabled(anyInt(), isNull(), eq(Level.INFO))).thenReturn(levelConfiguration.isInfoEnabled());
+		when(provider.isEnabled(anyInt(), isNull(), eq(Level.WARN))).thenReturn(levelConfiguration.isWarnEnabled());
+		when(provider.isEnabled(anyInt(), isNull(), eq(Level.ERROR))).thenReturn(levelConfiguration.isErrorEnabled());
+
+		Whitebox.setInternalState(ClassLogger.class, provider);
+
+		return provider;
+	}
+
+	/**
+	 * Creates a mocked supplier that returns the given value.
+	 *
+	 * @param value
+	 *            Value that should be returned by the created supplier
+	 * @param <T>
+	 *            Type of value
+	 * @return A new supplier
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Supplier<T> mockSupplier(final T value) {
+		Supplier<T> supplier = mock(Supplier.class);
+		when(supplier.get()).thenReturn(value);
+		return supplier;
+	}
+
+}
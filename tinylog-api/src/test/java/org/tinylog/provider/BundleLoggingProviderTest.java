@@ -93,6 +93,28 @@ public final class BundleLoggingProviderTest {
 		assertThat(bundle.getMinimumLevel(null)).isEqualTo(Level.DEBUG);
 	}
 
+	/**
+	 * Verifies that {@code getMinimumLevel(String, String)} method returns the lowest minimum severity level for a
+	 * class of underlying logging providers and falls back to the tag's minimum severity level for providers, which
+	 * don't support class based severity levels.
+	 */
+	@Test
+	public void getClassMinimumLevel() {
+		ClassAwareLoggingProvider classAware = mock(ClassAwareLoggingProvider.class);
+		when(classAware.getContextProvider()).thenReturn(mock(ContextProvider.class));
+		when(classAware.getMinimumLevel("org.example.Foo", null)).thenReturn(Level.WARN);
+
+		LoggingProvider plain = mock(LoggingProvider.class);
+		when(plain.getContextProvider()).thenReturn(mock(ContextProvider.class));
+		when(plain.getMinimumLevel((String) null)).thenReturn(Level.ERROR);
+
+		BundleLoggingProvider provider = new BundleLoggingProvider(asList(classAware, plain));
+		assertThat(provider.getMinimumLevel("org.example.Foo", null)).isEqualTo(Level.WARN);
+
+		when(plain.getMinimumLevel((String) null)).thenReturn(Level.INFO);
+		assertThat(provider.getMinimumLevel("org.example.Foo", null)).isEqualTo(Level.INFO);
+	}
+
 	/**
 	 * Verifies that {@code isEnabled()} method evaluates the severity level from underlying logging providers and
 	 * returns {@code true} if given severity level is enabled at least for one of the underlying logging providers.
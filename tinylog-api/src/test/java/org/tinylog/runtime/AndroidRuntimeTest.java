@@ -193,6 +193,21 @@ public final class AndroidRuntimeTest {
 		assertThat(runtime.getCallerStackTraceElement(AndroidRuntime.class.getName())).isEqualTo(new Throwable().getStackTrace()[0]);
 	}
 
+	/**
+	 * Verifies that the complete stack trace element of a caller will be returned correctly, if depth in stack trace is
+	 * defined as index and stack trace elements can be cached.
+	 */
+	@Test
+	public void cachedCallerStackTraceElementByIndex() {
+		AndroidRuntime runtime = new AndroidRuntime();
+
+		Method method = Whitebox.getMethod(AndroidRuntimeTest.class, "fillStackTraceElements", Thread.class, StackTraceElement[].class);
+		Whitebox.setInternalState(runtime, Method.class, method);
+		Whitebox.setInternalState(runtime, int.class, 5);
+
+		assertThat(runtime.getCachedCallerStackTraceElement(1)).isEqualTo(new Throwable().getStackTrace()[0]);
+	}
+
 	/**
 	 * Verifies that {@code null} will be returned, if stack trace does not contain the expected successor.
 	 */
@@ -181,6 +181,25 @@ public final class LegacyJavaRuntimeTest {
 		assertThat(new LegacyJavaRuntime().getCallerStackTraceElement(className)).isEqualTo(new Throwable().getStackTrace()[0]);
 	}
 
+	/**
+	 * Verifies that the complete stack trace element of a caller will be returned correctly, if depth in stack trace is
+	 * defined as index and stack trace elements can be cached.
+	 */
+	@Test
+	public void cachedCallerStackTraceElementByIndex() {
+		assertThat(new LegacyJavaRuntime().getCachedCallerStackTraceElement(1)).isEqualTo(new Throwable().getStackTrace()[0]);
+	}
+
+	/**
+	 * Verifies that the complete stack trace element of a caller will be returned correctly, if successor in stack
+	 * trace is defined and stack trace elements can be cached.
+	 */
+	@Test
+	public void cachedCallerStackTraceElementBySuccessor() {
+		String className = LegacyJavaRuntime.class.getName();
+		assertThat(new LegacyJavaRuntime().getCachedCallerStackTraceElement(className)).isEqualTo(new Throwable().getStackTrace()[0]);
+	}
+
 	/**
 	 * Verifies that {@code null} will be returned, if stack trace does not contain the expected successor.
 	 */
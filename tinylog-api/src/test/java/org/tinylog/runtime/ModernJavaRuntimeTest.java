@@ -14,6 +14,8 @@
 package org.tinylog.runtime;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.Test;
@@ -117,6 +119,43 @@ public final class ModernJavaRuntimeTest {
 		assertThat(new ModernJavaRuntime().getCallerStackTraceElement(className)).isEqualTo(new Throwable().getStackTrace()[0]);
 	}
 
+	/**
+	 * Verifies that the complete stack trace element of a caller will be returned correctly, if depth in stack trace is
+	 * defined as index and stack trace elements can be cached.
+	 */
+	@Test
+	public void cachedCallerStackTraceElementByIndex() {
+		assertThat(new ModernJavaRuntime().getCachedCallerStackTraceElement(1)).isEqualTo(new Throwable().getStackTrace()[0]);
+	}
+
+	/**
+	 * Verifies that the complete stack trace element of a caller will be returned correctly, if successor in stack
+	 * trace is defined and stack trace elements can be cached.
+	 */
+	@Test
+	public void cachedCallerStackTraceElementBySuccessor() {
+		String className = ModernJavaRuntime.class.getName();
+		assertThat(new ModernJavaRuntime().getCachedCallerStackTraceElement(className)).isEqualTo(new Throwable().getStackTrace()[0]);
+	}
+
+	/**
+	 * Verifies that cached stack trace elements are reused for repeated calls from the same code location, but not for
+	 * different code locations.
+	 */
+	@Test
+	public void reuseCachedStackTraceElements() {
+		ModernJavaRuntime runtime = new ModernJavaRuntime();
+
+		List<StackTraceElement> elements = new ArrayList<>();
+		for (int i = 0; i < 2; ++i) {
+			elements.add(runtime.getCachedCallerStackTraceElement(1));
+		}
+		StackTraceElement other = runtime.getCachedCallerStackTraceElement(1);
+
+		assertThat(elements.get(1)).isSameAs(elements.get(0));
+		assertThat(other.getLineNumber()).isEqualTo(elements.get(0).getLineNumber() + 2);
+	}
+
 	/**
 	 * Verifies that {@code null} will be returned, if stack trace does not contain the expected successor.
 	 */
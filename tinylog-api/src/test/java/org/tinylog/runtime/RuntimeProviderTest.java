@@ -196,6 +196,25 @@ public final class RuntimeProviderTest {
 		assertThat(RuntimeProvider.getCallerStackTraceElement(className)).isEqualTo(new Throwable().getStackTrace()[0]);
 	}
 
+	/**
+	 * Verifies that the complete stack trace element of a caller will be returned correctly, if depth in stack trace is
+	 * defined as index and stack trace elements can be cached.
+	 */
+	@Test
+	public void cachedCallerStackTraceElementByIndex() {
+		assertThat(RuntimeProvider.getCachedCallerStackTraceElement(1)).isEqualTo(new Throwable().getStackTrace()[0]);
+	}
+
+	/**
+	 * Verifies that the complete stack trace element of a caller will be returned correctly, if successor in stack trace
+	 * is defined and stack trace elements can be cached.
+	 */
+	@Test
+	public void cachedCallerStackTraceElementBySuccessor() {
+		String className = RuntimeProvider.class.getName();
+		assertThat(RuntimeProvider.getCachedCallerStackTraceElement(className)).isEqualTo(new Throwable().getStackTrace()[0]);
+	}
+
 	/**
 	 * Verifies that the anonymous part from the class name of a stack trace element will be stripped.
 	 */
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Base encoder for compressing a file via a compressing output stream.
+ */
+abstract class AbstractStreamEncoder implements Runnable {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final File sourceFile;
+	private final File targetFile;
+
+	/**
+	 * @param file
+	 *            File that should be compressed
+	 * @param extension
+	 *            File extension for the compressed file
+	 */
+	AbstractStreamEncoder(final File file, final String extension) {
+		sourceFile = file;
+		targetFile = new File(file.getAbsolutePath() + extension);
+
+		try {
+			if (!targetFile.createNewFile()) {
+				InternalLogger.log(Level.ERROR, "Failed to pre-create file '" + targetFile + "'");
+			}
+		} catch (IOException ex) {
+			InternalLogger.log(Level.ERROR, ex, "Failed to pre-create file '" + targetFile + "'");
+		}
+	}
+
+	@Override
+	public void run() {
+		try {
+			FileInputStream fileInputStream = new FileInputStream(sourceFile);
+			try {
+				FileOutputStream fileOutputStream = new FileOutputStream(targetFile);
+				try {
+					OutputStream outputStream = createStream(fileOutputStream);
+					try {
+						byte[] buffer = new byte[BUFFER_SIZE];
+						int count;
+						while ((count = fileInputStream.read(buffer)) >= 0) {
+							outputStream.write(buffer, 0, count);
+						}
+					} finally {
+						outputStream.close();
+					}
+				} finally {
+					fileOutputStream.close();
+				}
+			} finally {
+				fileInputStream.close();
+			}
+
+			if (!sourceFile.delete()) {
+				InternalLogger.log(Level.WARN, "Failed to delete original log file '" + sourceFile + "'");
+			}
+		} catch (IOException ex) {
+			InternalLogger.log(Level.ERROR, ex, "Failed to compress log file '" + sourceFile + "'");
+		}
+	}
+
+	/**
+	 * Creates the compressing output stream.
+	 *
+	 * @param stream
+	 *            Output stream of the target file
+	 * @return Compressing output stream
+	 * @throws IOException
+	 *             Failed to create the compressing output stream
+	 */
+	protected abstract OutputStream createStream(OutputStream stream) throws IOException;
+
+}
@@ -19,8 +19,17 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
 /**
  * Converter for compressing a log file asynchronously by the GZIP algorithm when backing up the file.
+ *
+ * <p>
+ *     By default, log files are compressed by a single thread. Optionally, a number of threads can be passed for
+ *     deflating large log files in parallel chunks (for example "gzip: 4"). Parallel compression requires Java 7 or
+ *     later.
+ * </p>
  */
 public final class GzipFileConverter implements FileConverter {
 
@@ -30,10 +39,25 @@ public final class GzipFileConverter implements FileConverter {
 		new NamedDaemonThreadFactory("tinylog-GZipThread-" + count.getAndIncrement())
 	);
 
+	private final int threads;
+	private final ExecutorService pool;
+
 	private volatile File file;
 
 	/** */
 	public GzipFileConverter() {
+		this(null);
+	}
+
+	/**
+	 * @param threads
+	 *            Number of threads for compressing a log file (single thread if {@code null})
+	 */
+	public GzipFileConverter(final String threads) {
+		this.threads = parseThreads(threads);
+		this.pool = this.threads > 1
+			? Executors.newFixedThreadPool(this.threads, new NamedDaemonThreadFactory("tinylog-GZipWorkerThread"))
+			: null;
 	}
 
 	@Override
@@ -53,13 +77,46 @@ public final class GzipFileConverter implements FileConverter {
 
 	@Override
 	public void close() {
-		executor.execute(new GzipEncoder(file));
+		if (pool == null) {
+			executor.execute(new GzipEncoder(file));
+		} else {
+			executor.execute(new ParallelGzipEncoder(file, pool, threads));
+		}
 	}
 
 	@Override
 	public void shutdown() throws InterruptedException {
 		executor.shutdown();
 		executor.awaitTermination(1, TimeUnit.MINUTES);
+
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Parses the number of threads for compressing a log file.
+	 *
+	 * @param threads
+	 *            Number of threads as text
+	 * @return Number of threads or 1, if the passed text is absent or invalid
+	 */
+	private static int parseThreads(final String threads) {
+		if (threads == null || threads.trim().isEmpty()) {
+			return 1;
+		}
+
+		try {
+			int count = Integer.parseInt(threads.trim());
+			if (count > 0) {
+				return count;
+			}
+		} catch (NumberFormatException ex) {
+			// Logged below
+		}
+
+		InternalLogger.log(Level.ERROR, "Invalid number of compression threads: '" + threads + "'");
+		return 1;
 	}
 
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Converter for compressing a log file asynchronously in the LZ4 frame format when backing up the file.
+ *
+ * <p>
+ *     LZ4 compresses much faster than GZIP but with a lower compression ratio. Optionally, a compression level between
+ *     1 (fastest and default) and 9 (best compression) can be passed (for example "lz4: 5"). The compressor is
+ *     implemented in pure Java and does not require any further dependencies.
+ * </p>
+ */
+public final class Lz4FileConverter implements FileConverter {
+
+	private static final AtomicInteger count = new AtomicInteger();
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(
+		new NamedDaemonThreadFactory("tinylog-Lz4Thread-" + count.getAndIncrement())
+	);
+
+	private final int level;
+
+	private volatile File file;
+
+	/** */
+	public Lz4FileConverter() {
+		this(null);
+	}
+
+	/**
+	 * @param level
+	 *            Compression level between 1 and 9 (1 if {@code null})
+	 */
+	public Lz4FileConverter(final String level) {
+		this.level = parseLevel(level);
+	}
+
+	@Override
+	public String getBackupSuffix() {
+		return Lz4Encoder.FILE_EXTENSION;
+	}
+
+	@Override
+	public void open(final String fileName) {
+		file = new File(fileName);
+	}
+
+	@Override
+	public byte[] write(final byte[] data) {
+		return data;
+	}
+
+	@Override
+	public void close() {
+		executor.execute(new Lz4Encoder(file, level));
+	}
+
+	@Override
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Parses the compression level.
+	 *
+	 * @param level
+	 *            Compression level as text
+	 * @return Compression level or the minimum level, if the passed text is absent or invalid
+	 */
+	private static int parseLevel(final String level) {
+		if (level == null || level.trim().isEmpty()) {
+			return Lz4FrameOutputStream.MIN_LEVEL;
+		}
+
+		try {
+			int value = Integer.parseInt(level.trim());
+			if (value >= Lz4FrameOutputStream.MIN_LEVEL && value <= Lz4FrameOutputStream.MAX_LEVEL) {
+				return value;
+			}
+		} catch (NumberFormatException ex) {
+			// Logged below
+		}
+
+		InternalLogger.log(Level.ERROR, "Invalid LZ4 compression level: '" + level + "'");
+		return Lz4FrameOutputStream.MIN_LEVEL;
+	}
+
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Output stream that compresses data in the LZ4 frame format.
+ *
+ * <p>
+ *     Data is compressed in independent blocks of 1 MB. The compression level defines how many previous positions are
+ *     tried for finding the longest match. Level 1 checks only the latest position with the same hash like the fast
+ *     reference implementation. Each further level doubles the number of tried positions, but the search stops as soon
+ *     as a sufficiently long match has been found. The frame contains a content checksum and can be decompressed by
+ *     all LZ4 tools.
+ * </p>
+ */
+final class Lz4FrameOutputStream extends FilterOutputStream {
+
+	/**
+	 * Minimum supported compression level.
+	 */
+	static final int MIN_LEVEL = 1;
+
+	/**
+	 * Maximum supported compression level.
+	 */
+	static final int MAX_LEVEL = 9;
+
+	private static final int MAGIC_NUMBER = 0x184D2204;
+	private static final byte FRAME_FLAGS = 0x64; // Version 01, independent blocks, content checksum
+	private static final byte BLOCK_DESCRIPTOR = 0x60; // Maximum block size of 1 MB
+	private static final int BLOCK_SIZE = 1024 * 1024;
+	private static final int UNCOMPRESSED_FLAG = 0x80000000;
+
+	private static final int MIN_MATCH = 4;
+	private static final int LAST_LITERALS = 5;
+	private static final int MATCH_FIND_LIMIT = 12;
+	private static final int MAX_DISTANCE = 0xFFFF;
+	private static final int HASH_BITS = 16;
+	private static final int RUN_MASK = 0x0F;
+	private static final int MAX_LENGTH_BYTE = 0xFF;
+	private static final int SKIP_TRIGGER = 6;
+	private static final int NICE_MATCH = 64;
+
+	private final int attempts;
+	private final byte[] block;
+	private final byte[] compressed;
+	private final int[] heads;
+	private final int[] chain;
+	private final XxHash32 checksum;
+
+	private int count;
+	private boolean closed;
+
+	/**
+	 * @param stream
+	 *            Underlying output stream for compressed data
+	 * @param level
+	 *            Compression level between {@link #MIN_LEVEL} and {@link #MAX_LEVEL}
+	 * @throws IOException
+	 *             Failed to write frame header
+	 */
+	Lz4FrameOutputStream(final OutputStream stream, final int level) throws IOException {
+		super(stream);
+
+		this.attempts = 1 << Math.max(0, Math.min(MAX_LEVEL, level) - 1);
+		this.block = new byte[BLOCK_SIZE];
+		this.compressed = new byte[BLOCK_SIZE + BLOCK_SIZE / MAX_LENGTH_BYTE + MATCH_FIND_LIMIT];
+		this.heads = new int[1 << HASH_BITS];
+		this.chain = attempts > 1 ? new int[MAX_DISTANCE + 1] : null;
+		this.checksum = new XxHash32();
+
+		byte[] header = new byte[] {0, 0, 0, 0, FRAME_FLAGS, BLOCK_DESCRIPTOR, 0};
+		int descriptor = Integer.SIZE / Byte.SIZE;
+		writeInt(header, 0, MAGIC_NUMBER);
+		header[header.length - 1] = (byte) (XxHash32.hash(header, descriptor, header.length - descriptor - 1) >> Byte.SIZE);
+		out.write(header);
+	}
+
+	@Override
+	public void write(final int value) throws IOException {
+		if (count == BLOCK_SIZE) {
+			writeBlock();
+		}
+		block[count++] = (byte) value;
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		int position = offset;
+		int end = offset + length;
+
+		while (position < end) {
+			if (count == BLOCK_SIZE) {
+				writeBlock();
+			}
+
+			int copy = Math.min(BLOCK_SIZE - count, end - position);
+			System.arraycopy(data, position, block, count, copy);
+			count += copy;
+			position += copy;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (count > 0) {
+			writeBlock();
+		}
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			closed = true;
+			try {
+				if (count > 0) {
+					writeBlock();
+				}
+
+				byte[] trailer = new byte[2 * Integer.SIZE / Byte.SIZE];
+				writeInt(trailer, Integer.SIZE / Byte.SIZE, checksum.getValue());
+				out.write(trailer);
+			} finally {
+				out.close();
+			}
+		}
+	}
+
+	/**
+	 * Compresses and outputs all data in the current block.
+	 *
+	 * @throws IOException
+	 *             Failed to write block
+	 */
+	private void writeBlock() throws IOException {
+		checksum.update(block, 0, count);
+
+		int size = compress(count);
+		byte[] header = new byte[Integer.SIZE / Byte.SIZE];
+		if (size < count) {
+			writeInt(header, 0, size);
+			out.write(header);
+			out.write(compressed, 0, size);
+		} else {
+			writeInt(header, 0, count | UNCOMPRESSED_FLAG);
+			out.write(header);
+			out.write(block, 0, count);
+		}
+
+		count = 0;
+	}
+
+	/**
+	 * Compresses the current block as LZ4 block into {@link #compressed}.
+	 *
+	 * @param length
+	 *            Number of bytes in the current block
+	 * @return Size of compressed data
+	 */
+	private int compress(final int length) {
+		Arrays.fill(heads, -1);
+
+		int output = 0;
+		int anchor = 0;
+		int position = 0;
+		int limit = length - MATCH_FIND_LIMIT;
+		int matchLimit = length - LAST_LITERALS;
+		int misses = 0;
+
+		while (position <= limit) {
+			int hash = hash(readInt(block, position));
+			int candidate = heads[hash];
+			heads[hash] = position;
+			if (chain != null) {
+				chain[position & MAX_DISTANCE] = candidate;
+			}
+
+			int matchLength = 0;
+			int matchStart = 0;
+			int tries = attempts;
+			int value = readInt(block, position);
+
+			while (candidate >= 0 && position - candidate <= MAX_DISTANCE && tries-- > 0 && matchLength < NICE_MATCH) {
+				if (readInt(block, candidate) == value) {
+					int current = MIN_MATCH + countEqual(candidate + MIN_MATCH, position + MIN_MATCH, matchLimit);
+					if (current > matchLength) {
+						matchLength = current;
+						matchStart = candidate;
+					}
+				}
+
+				candidate = chain == null ? -1 : chain[candidate & MAX_DISTANCE];
+			}
+
+			if (matchLength == 0) {
+				position += chain == null ? 1 + (misses++ >>> SKIP_TRIGGER) : 1;
+			} else {
+				while (position > anchor && matchStart > 0 && block[position - 1] == block[matchStart - 1]) {
+					position -= 1;
+					matchStart -= 1;
+					matchLength += 1;
+				}
+
+				output = writeSequence(output, anchor, position - anchor, position - matchStart, matchLength);
+
+				if (chain != null) {
+					for (int next = position + 1; next < position + matchLength && next <= limit; ++next) {
+						int nextHash = hash(readInt(block, next));
+						chain[next & MAX_DISTANCE] = heads[nextHash];
+						heads[nextHash] = next;
+					}
+				}
+
+				position += matchLength;
+				anchor = position;
+				misses = 0;
+			}
+		}
+
+		return writeLiterals(output, anchor, length - anchor);
+	}
+
+	/**
+	 * Counts the number of equal bytes at two positions in the current block.
+	 *
+	 * @param first
+	 *            First position
+	 * @param second
+	 *            Second position (must be greater than the first position)
+	 * @param limit
+	 *            Exclusive maximum position for the second position
+	 * @return Number of equal bytes
+	 */
+	private int countEqual(final int first, final int second, final int limit) {
+		int length = 0;
+		while (second + length < limit && block[first + length] == block[second + length]) {
+			length += 1;
+		}
+		return length;
+	}
+
+	/**
+	 * Writes a sequence of literals followed by a match.
+	 *
+	 * @param output
+	 *            Current position in {@link #compressed}
+	 * @param start
+	 *            Start of literals in the current block
+	 * @param literals
+	 *            Number of literals
+	 * @param offset
+	 *            Distance of the match
+	 * @param matchLength
+	 *            Length of the match
+	 * @return New position in {@link #compressed}
+	 */
+	private int writeSequence(final int output, final int start, final int literals, final int offset,
+		final int matchLength) {
+		int token = output;
+		int position = writeLiterals(output, start, literals);
+
+		compressed[position++] = (byte) offset;
+		compressed[position++] = (byte) (offset >> Byte.SIZE);
+
+		int remaining = matchLength - MIN_MATCH;
+		if (remaining >= RUN_MASK) {
+			compressed[token] |= RUN_MASK;
+			position = writeLength(position, remaining - RUN_MASK);
+		} else {
+			compressed[token] |= (byte) remaining;
+		}
+
+		return position;
+	}
+
+	/**
+	 * Writes a token with the number of literals followed by the literals themselves.
+	 *
+	 * @param output
+	 *            Current position in {@link #compressed}
+	 * @param start
+	 *            Start of literals in the current block
+	 * @param literals
+	 *            Number of literals
+	 * @return New position in {@link #compressed}
+	 */
+	private int writeLiterals(final int output, final int start, final int literals) {
+		int position = output + 1;
+		if (literals >= RUN_MASK) {
+			compressed[output] = (byte) (RUN_MASK << (Byte.SIZE / 2));
+			position = writeLength(position, literals - RUN_MASK);
+		} else {
+			compressed[output] = (byte) (literals << (Byte.SIZE / 2));
+		}
+
+		System.arraycopy(block, start, compressed, position, literals);
+		return position + literals;
+	}
+
+	/**
+	 * Writes the remaining part of a length that does not fit into the token.
+	 *
+	 * @param output
+	 *            Current position in {@link #compressed}
+	 * @param length
+	 *            Remaining length
+	 * @return New position in {@link #compressed}
+	 */
+	private int writeLength(final int output, final int length) {
+		int position = output;
+		int remaining = length;
+		while (remaining >= MAX_LENGTH_BYTE) {
+			compressed[position++] = (byte) MAX_LENGTH_BYTE;
+			remaining -= MAX_LENGTH_BYTE;
+		}
+		compressed[position++] = (byte) remaining;
+		return position;
+	}
+
+	/**
+	 * Calculates the hash of four bytes.
+	 *
+	 * @param value
+	 *            Four bytes as integer
+	 * @return Hash with {@link #HASH_BITS} bits
+	 */
+	private static int hash(final int value) {
+		// @checkstyle off: MagicNumber
+		return value * -1640531535 >>> Integer.SIZE - HASH_BITS;
+		// @checkstyle on: MagicNumber
+	}
+
+	/**
+	 * Reads an integer in little-endian byte order.
+	 *
+	 * @param data
+	 *            Byte array with data
+	 * @param offset
+	 *            Position of first byte
+	 * @return Read integer
+	 */
+	private static int readInt(final byte[] data, final int offset) {
+		// @checkstyle off: MagicNumber
+		return data[offset] & 0xFF | (data[offset + 1] & 0xFF) << 8 | (data[offset + 2] & 0xFF) << 16 | data[offset + 3] << 24;
+		// @checkstyle on: MagicNumber
+	}
+
+	/**
+	 * Writes an integer in little-endian byte order.
+	 *
+	 * @param data
+	 *            Target byte array
+	 * @param offset
+	 *            Position of first byte
+	 * @param value
+	 *            Integer to write
+	 */
+	private static void writeInt(final byte[] data, final int offset, final int value) {
+		// @checkstyle off: MagicNumber
+		data[offset] = (byte) value;
+		data[offset + 1] = (byte) (value >> 8);
+		data[offset + 2] = (byte) (value >> 16);
+		data[offset + 3] = (byte) (value >> 24);
+		// @checkstyle on: MagicNumber
+	}
+
+}
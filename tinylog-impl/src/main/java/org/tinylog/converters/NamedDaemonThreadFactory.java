@@ -18,14 +18,14 @@ import java.util.concurrent.ThreadFactory;
 /**
  * Thread factory that creates new daemon threads with a given name and lowest priority.
  */
-final class NamedDaemonThreadFactory implements ThreadFactory {
+public final class NamedDaemonThreadFactory implements ThreadFactory {
 
 	private final String name;
 
 	/**
 	 * @param name Name for created threads
 	 */
-	NamedDaemonThreadFactory(final String name) {
+	public NamedDaemonThreadFactory(final String name) {
 		this.name = name;
 	}
 
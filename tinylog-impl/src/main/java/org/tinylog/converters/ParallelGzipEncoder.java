@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * GZIP encoder for compressing a file by multiple threads.
+ *
+ * <p>
+ *     The file is split into chunks that are deflated concurrently. Each chunk uses the last 32 KB of its predecessor
+ *     as preset dictionary and ends with a sync flush at a byte boundary. Therefore, all compressed chunks can be
+ *     concatenated to one single GZIP member with the same compression ratio as a sequential encoder.
+ * </p>
+ */
+final class ParallelGzipEncoder implements Runnable {
+
+	/**
+	 * Size of uncompressed chunks that are deflated independently.
+	 */
+	static final int CHUNK_SIZE = 128 * 1024;
+
+	private static final int DICTIONARY_SIZE = 32 * 1024;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+	private static final byte[] FINAL_BLOCK = {0x03, 0x00};
+
+	private final File sourceFile;
+	private final File targetFile;
+	private final ExecutorService pool;
+	private final int threads;
+
+	/**
+	 * @param file
+	 *            File that should be compressed
+	 * @param pool
+	 *            Thread pool for deflating chunks
+	 * @param threads
+	 *            Number of threads in the passed thread pool
+	 */
+	ParallelGzipEncoder(final File file, final ExecutorService pool, final int threads) {
+		this.sourceFile = file;
+		this.targetFile = new File(file.getAbsolutePath() + GzipEncoder.FILE_EXTENSION);
+		this.pool = pool;
+		this.threads = threads;
+
+		try {
+			if (!targetFile.createNewFile()) {
+				InternalLogger.log(Level.ERROR, "Failed to pre-create file '" + targetFile + "'");
+			}
+		} catch (IOException ex) {
+			InternalLogger.log(Level.ERROR, ex, "Failed to pre-create file '" + targetFile + "'");
+		}
+	}
+
+	@Override
+	public void run() {
+		try {
+			FileInputStream fileInputStream = new FileInputStream(sourceFile);
+			try {
+				FileOutputStream fileOutputStream = new FileOutputStream(targetFile);
+				try {
+					encode(fileInputStream, fileOutputStream);
+				} finally {
+					fileOutputStream.close();
+				}
+			} finally {
+				fileInputStream.close();
+			}
+
+			if (!sourceFile.delete()) {
+				InternalLogger.log(Level.WARN, "Failed to delete original log file '" + sourceFile + "'");
+			}
+		} catch (IOException ex) {
+			InternalLogger.log(Level.ERROR, ex, "Failed to compress log file '" + sourceFile + "'");
+		} catch (ExecutionException ex) {
+			InternalLogger.log(Level.ERROR, ex.getCause(), "Failed to compress log file '" + sourceFile + "'");
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			InternalLogger.log(Level.ERROR, ex, "Interrupted while compressing log file '" + sourceFile + "'");
+		}
+	}
+
+	/**
+	 * Compresses the passed input stream as single GZIP member into the passed output stream.
+	 *
+	 * @param input
+	 *            Uncompressed source data
+	 * @param output
+	 *            Target for compressed data
+	 * @throws IOException
+	 *             Failed to read or write data
+	 * @throws ExecutionException
+	 *             Failed to deflate a chunk
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a deflated chunk
+	 */
+	private void encode(final InputStream input, final OutputStream output)
+		throws IOException, ExecutionException, InterruptedException {
+		Deque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+		CRC32 checksum = new CRC32();
+		long size = 0;
+
+		try {
+			output.write(HEADER);
+
+			byte[] previous = null;
+			byte[] chunk = readChunk(input);
+			while (chunk.length > 0) {
+				checksum.update(chunk);
+				size += chunk.length;
+
+				pending.add(pool.submit(new ChunkDeflater(chunk, previous)));
+				if (pending.size() >= threads * 2) {
+					output.write(pending.removeFirst().get());
+				}
+
+				previous = chunk;
+				chunk = readChunk(input);
+			}
+
+			while (!pending.isEmpty()) {
+				output.write(pending.removeFirst().get());
+			}
+
+			output.write(FINAL_BLOCK);
+			writeInt(output, (int) checksum.getValue());
+			writeInt(output, (int) size);
+		} finally {
+			for (Future<byte[]> future : pending) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Reads the next chunk from the passed input stream.
+	 *
+	 * @param input
+	 *            Uncompressed source data
+	 * @return Read data or an empty array if the end of the stream has been reached
+	 * @throws IOException
+	 *             Failed to read data
+	 */
+	private static byte[] readChunk(final InputStream input) throws IOException {
+		byte[] chunk = new byte[CHUNK_SIZE];
+		int length = 0;
+
+		while (length < CHUNK_SIZE) {
+			int count = input.read(chunk, length, CHUNK_SIZE - length);
+			if (count < 0) {
+				break;
+			} else {
+				length += count;
+			}
+		}
+
+		if (length < CHUNK_SIZE) {
+			return Arrays.copyOf(chunk, length);
+		} else {
+			return chunk;
+		}
+	}
+
+	/**
+	 * Writes an integer in little-endian byte order as required by the GZIP trailer.
+	 *
+	 * @param output
+	 *            Target stream
+	 * @param value
+	 *            Integer to write
+	 * @throws IOException
+	 *             Failed to write data
+	 */
+	private static void writeInt(final OutputStream output, final int value) throws IOException {
+		// @checkstyle off: MagicNumber
+		output.write(value & 0xff);
+		output.write((value >>> 8) & 0xff);
+		output.write((value >>> 16) & 0xff);
+		output.write((value >>> 24) & 0xff);
+		// @checkstyle on: MagicNumber
+	}
+
+	/**
+	 * Task for deflating a single chunk as raw deflate data without final block.
+	 */
+	private static final class ChunkDeflater implements Callable<byte[]> {
+
+		private final byte[] data;
+		private final byte[] dictionary;
+
+		/**
+		 * @param data
+		 *            Uncompressed chunk
+		 * @param dictionary
+		 *            Uncompressed previous chunk or {@code null} for the first chunk
+		 */
+		ChunkDeflater(final byte[] data, final byte[] dictionary) {
+			this.data = data;
+			this.dictionary = dictionary;
+		}
+
+		@IgnoreJRERequirement
+		@Override
+		public byte[] call() {
+			Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			try {
+				if (dictionary != null) {
+					// Copy instead of passing an offset, as some JDK versions ignore the offset of a dictionary
+					int start = Math.max(0, dictionary.length - DICTIONARY_SIZE);
+					deflater.setDictionary(Arrays.copyOfRange(dictionary, start, dictionary.length));
+				}
+
+				deflater.setInput(data);
+
+				ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2);
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int count;
+				do {
+					count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+					output.write(buffer, 0, count);
+				} while (count == buffer.length);
+
+				return output.toByteArray();
+			} finally {
+				deflater.end();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Converter for compressing log entries by the GZIP algorithm while writing them into the log file.
+ *
+ * <p>
+ *     In contrast to the {@link GzipFileConverter}, the log file itself is a GZIP file and there is no recompression
+ *     after a rollover. Therefore, the file name of log files should end with ".gz". The compressed data is
+ *     sync-flushed after a defined amount of uncompressed data (64 KB by default, for example "streaming gzip: 16KB")
+ *     and at least every second, if further log entries are written. All log entries up to the latest sync flush can
+ *     be decompressed, even if the log file has not been closed yet. The GZIP trailer is appended when closing the
+ *     log file. Continued log files get an additional GZIP member.
+ * </p>
+ *
+ * <p>
+ *     This converter requires Java 7 or later.
+ * </p>
+ */
+public final class StreamingGzipFileConverter implements FileConverter {
+
+	private static final long KB = 1024L;
+	private static final long MB = KB * 1024L;
+
+	private static final long DEFAULT_SYNC_SIZE = 64 * KB;
+	private static final long SYNC_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+	private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+	private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+	private static final byte[] EMPTY = new byte[0];
+
+	private final long syncSize;
+	private final Deflater deflater;
+	private final CRC32 checksum;
+
+	private byte[] buffer;
+	private int count;
+
+	private String fileName;
+	private boolean started;
+	private long size;
+	private long unsynced;
+	private long lastSync;
+
+	/** */
+	public StreamingGzipFileConverter() {
+		this(null);
+	}
+
+	/**
+	 * @param syncSize
+	 *            Amount of uncompressed data after which compressed data is sync-flushed (64 KB if {@code null})
+	 */
+	public StreamingGzipFileConverter(final String syncSize) {
+		this.syncSize = parseSyncSize(syncSize);
+		this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		this.checksum = new CRC32();
+		this.buffer = new byte[INITIAL_BUFFER_SIZE];
+	}
+
+	@Override
+	public String getBackupSuffix() {
+		return null;
+	}
+
+	@Override
+	public void open(final String fileName) {
+		this.fileName = fileName;
+		this.started = false;
+		this.size = 0;
+		this.unsynced = 0;
+		this.lastSync = System.nanoTime();
+
+		deflater.reset();
+		checksum.reset();
+	}
+
+	@IgnoreJRERequirement
+	@Override
+	public byte[] write(final byte[] data) {
+		count = 0;
+
+		if (!started) {
+			append(HEADER);
+			started = true;
+		}
+
+		checksum.update(data);
+		size += data.length;
+		unsynced += data.length;
+		deflater.setInput(data);
+
+		long now = System.nanoTime();
+		if (unsynced >= syncSize || now - lastSync >= SYNC_INTERVAL) {
+			deflate(Deflater.SYNC_FLUSH);
+			unsynced = 0;
+			lastSync = now;
+		} else {
+			deflate(Deflater.NO_FLUSH);
+		}
+
+		return count == 0 ? EMPTY : Arrays.copyOf(buffer, count);
+	}
+
+	@Override
+	public void close() {
+		if (fileName != null) {
+			count = 0;
+
+			if (!started) {
+				append(HEADER);
+			}
+
+			deflater.finish();
+			while (!deflater.finished()) {
+				ensureCapacity();
+				count += deflater.deflate(buffer, count, buffer.length - count);
+			}
+
+			appendInt((int) checksum.getValue());
+			appendInt((int) size);
+
+			try {
+				FileOutputStream stream = new FileOutputStream(fileName, true);
+				try {
+					stream.write(buffer, 0, count);
+				} finally {
+					stream.close();
+				}
+			} catch (IOException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to complete compressed log file '" + fileName + "'");
+			}
+
+			fileName = null;
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		deflater.end();
+	}
+
+	/**
+	 * Deflates the current input into the buffer.
+	 *
+	 * @param mode
+	 *            Flush mode of {@link Deflater}
+	 */
+	@IgnoreJRERequirement
+	private void deflate(final int mode) {
+		int deflated;
+		do {
+			ensureCapacity();
+			deflated = deflater.deflate(buffer, count, buffer.length - count, mode);
+			count += deflated;
+		} while (count == buffer.length || !deflater.needsInput());
+	}
+
+	/**
+	 * Appends a byte array to the buffer.
+	 *
+	 * @param data
+	 *            Bytes to append
+	 */
+	private void append(final byte[] data) {
+		ensureCapacity(data.length);
+		System.arraycopy(data, 0, buffer, count, data.length);
+		count += data.length;
+	}
+
+	/**
+	 * Appends an integer in little-endian byte order as required by the GZIP trailer.
+	 *
+	 * @param value
+	 *            Integer to append
+	 */
+	private void appendInt(final int value) {
+		ensureCapacity(Integer.SIZE / Byte.SIZE);
+		for (int i = 0; i < Integer.SIZE; i += Byte.SIZE) {
+			buffer[count++] = (byte) (value >> i);
+		}
+	}
+
+	/**
+	 * Grows the buffer if it is full.
+	 */
+	private void ensureCapacity() {
+		ensureCapacity(1);
+	}
+
+	/**
+	 * Grows the buffer if there is not enough free space.
+	 *
+	 * @param required
+	 *            Number of required free bytes
+	 */
+	private void ensureCapacity(final int required) {
+		if (buffer.length - count < required) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + required));
+		}
+	}
+
+	/**
+	 * Parses the amount of uncompressed data after which compressed data is sync-flushed. The units MB, KB and bytes
+	 * are supported.
+	 *
+	 * @param argument
+	 *            Amount of data as text
+	 * @return Parsed amount of data or 64 KB, if the passed text is absent or invalid
+	 */
+	private static long parseSyncSize(final String argument) {
+		if (argument == null || argument.trim().isEmpty()) {
+			return DEFAULT_SYNC_SIZE;
+		}
+
+		String text = argument.trim().toLowerCase(Locale.ROOT);
+		try {
+			long value;
+			if (text.endsWith("mb")) {
+				value = Long.parseLong(text.substring(0, text.length() - "mb".length()).trim()) * MB;
+			} else if (text.endsWith("kb")) {
+				value = Long.parseLong(text.substring(0, text.length() - "kb".length()).trim()) * KB;
+			} else if (text.endsWith("bytes")) {
+				value = Long.parseLong(text.substring(0, text.length() - "bytes".length()).trim());
+			} else {
+				value = Long.parseLong(text);
+			}
+
+			if (value > 0) {
+				return value;
+			}
+		} catch (NumberFormatException ex) {
+			// Logged below
+		}
+
+		InternalLogger.log(Level.ERROR, "Invalid sync size for streaming GZIP compression: '" + argument + "'");
+		return DEFAULT_SYNC_SIZE;
+	}
+
+}
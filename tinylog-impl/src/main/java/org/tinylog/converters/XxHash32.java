@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+/**
+ * Streaming implementation of the 32-bit xxHash algorithm as required for checksums by the LZ4 frame format.
+ */
+final class XxHash32 {
+
+	private static final int PRIME1 = 0x9E3779B1;
+	private static final int PRIME2 = 0x85EBCA77;
+	private static final int PRIME3 = 0xC2B2AE3D;
+	private static final int PRIME4 = 0x27D4EB2F;
+	private static final int PRIME5 = 0x165667B1;
+
+	private static final int STRIPE_SIZE = 16;
+
+	private final byte[] stripe;
+	private int buffered;
+	private long length;
+
+	private int v1;
+	private int v2;
+	private int v3;
+	private int v4;
+
+	/** */
+	XxHash32() {
+		stripe = new byte[STRIPE_SIZE];
+		reset();
+	}
+
+	/**
+	 * Resets this hash to its initial state with seed 0.
+	 */
+	void reset() {
+		buffered = 0;
+		length = 0;
+		v1 = PRIME1 + PRIME2;
+		v2 = PRIME2;
+		v3 = 0;
+		v4 = -PRIME1;
+	}
+
+	/**
+	 * Updates the hash with data.
+	 *
+	 * @param data
+	 *            Byte array with data
+	 * @param offset
+	 *            Start position of data
+	 * @param count
+	 *            Number of bytes
+	 */
+	void update(final byte[] data, final int offset, final int count) {
+		int position = offset;
+		int end = offset + count;
+		length += count;
+
+		if (buffered > 0) {
+			int copy = Math.min(STRIPE_SIZE - buffered, count);
+			System.arraycopy(data, position, stripe, buffered, copy);
+			buffered += copy;
+			position += copy;
+			if (buffered < STRIPE_SIZE) {
+				return;
+			}
+			process(stripe, 0);
+			buffered = 0;
+		}
+
+		while (end - position >= STRIPE_SIZE) {
+			process(data, position);
+			position += STRIPE_SIZE;
+		}
+
+		if (position < end) {
+			buffered = end - position;
+			System.arraycopy(data, position, stripe, 0, buffered);
+		}
+	}
+
+	/**
+	 * Calculates the hash of all data that has been passed since the last reset.
+	 *
+	 * @return Calculated hash
+	 */
+	int getValue() {
+		// @checkstyle off: MagicNumber
+		int hash;
+		if (length >= STRIPE_SIZE) {
+			hash = Integer.rotateLeft(v1, 1) + Integer.rotateLeft(v2, 7) + Integer.rotateLeft(v3, 12)
+				+ Integer.rotateLeft(v4, 18);
+		} else {
+			hash = PRIME5;
+		}
+
+		hash += (int) length;
+
+		int position = 0;
+		while (buffered - position >= Integer.SIZE / Byte.SIZE) {
+			hash += readInt(stripe, position) * PRIME3;
+			hash = Integer.rotateLeft(hash, 17) * PRIME4;
+			position += Integer.SIZE / Byte.SIZE;
+		}
+
+		while (position < buffered) {
+			hash += (stripe[position] & 0xFF) * PRIME5;
+			hash = Integer.rotateLeft(hash, 11) * PRIME1;
+			position += 1;
+		}
+
+		hash ^= hash >>> 15;
+		hash *= PRIME2;
+		hash ^= hash >>> 13;
+		hash *= PRIME3;
+		hash ^= hash >>> 16;
+		return hash;
+		// @checkstyle on: MagicNumber
+	}
+
+	/**
+	 * Calculates the hash of data at once.
+	 *
+	 * @param data
+	 *            Byte array with data
+	 * @param offset
+	 *            Start position of data
+	 * @param count
+	 *            Number of bytes
+	 * @return Calculated hash
+	 */
+	static int hash(final byte[] data, final int offset, final int count) {
+		XxHash32 hash = new XxHash32();
+		hash.update(data, offset, count);
+		return hash.getValue();
+	}
+
+	/**
+	 * Processes a full stripe.
+	 *
+	 * @param data
+	 *            Byte array with data
+	 * @param offset
+	 *            Start position of stripe
+	 */
+	private void process(final byte[] data, final int offset) {
+		// @checkstyle off: MagicNumber
+		v1 = round(v1, readInt(data, offset));
+		v2 = round(v2, readInt(data, offset + 4));
+		v3 = round(v3, readInt(data, offset + 8));
+		v4 = round(v4, readInt(data, offset + 12));
+		// @checkstyle on: MagicNumber
+	}
+
+	/**
+	 * Mixes a lane into an accumulator.
+	 *
+	 * @param accumulator
+	 *            Current accumulator
+	 * @param lane
+	 *            Four bytes of data as integer
+	 * @return New accumulator
+	 */
+	private static int round(final int accumulator, final int lane) {
+		// @checkstyle off: MagicNumber
+		return Integer.rotateLeft(accumulator + lane * PRIME2, 13) * PRIME1;
+		// @checkstyle on: MagicNumber
+	}
+
+	/**
+	 * Reads an integer in little-endian byte order.
+	 *
+	 * @param data
+	 *            Byte array with data
+	 * @param offset
+	 *            Position of first byte
+	 * @return Read integer
+	 */
+	private static int readInt(final byte[] data, final int offset) {
+		// @checkstyle off: MagicNumber
+		return data[offset] & 0xFF | (data[offset + 1] & 0xFF) << 8 | (data[offset + 2] & 0xFF) << 16 | data[offset + 3] << 24;
+		// @checkstyle on: MagicNumber
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+/**
+ * Zstandard encoder for compressing a file.
+ */
+final class ZstdEncoder extends AbstractStreamEncoder {
+
+	/**
+	 * File extension for compressed Zstandard files.
+	 */
+	static final String FILE_EXTENSION = ".zst";
+
+	private final int level;
+
+	/**
+	 * @param file
+	 *            File that should be compressed
+	 * @param level
+	 *            Compression level
+	 */
+	ZstdEncoder(final File file, final int level) {
+		super(file, FILE_EXTENSION);
+		this.level = level;
+	}
+
+	@Override
+	protected OutputStream createStream(final OutputStream stream) throws IOException {
+		return new ZstdOutputStream(stream, level);
+	}
+
+}
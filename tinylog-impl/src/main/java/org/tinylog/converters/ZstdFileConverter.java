@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Converter for compressing a log file asynchronously by the Zstandard algorithm when backing up the file.
+ *
+ * <p>
+ *     Zstandard achieves compression ratios similar to GZIP at a much higher speed. Optionally, a compression level
+ *     between 1 (fastest) and 22 (best compression) can be passed (for example "zstd: 9"). The default level is 3.
+ *     This converter requires <a href="https://github.com/luben/zstd-jni">zstd-jni</a> as additional dependency.
+ * </p>
+ */
+public final class ZstdFileConverter implements FileConverter {
+
+	private static final String ZSTD_CLASS = "com.github.luben.zstd.ZstdOutputStream";
+
+	private static final int MIN_LEVEL = 1;
+	private static final int MAX_LEVEL = 22;
+	private static final int DEFAULT_LEVEL = 3;
+
+	private static final AtomicInteger count = new AtomicInteger();
+
+	private final ExecutorService executor;
+	private final int level;
+
+	private volatile File file;
+
+	/** */
+	public ZstdFileConverter() {
+		this(null);
+	}
+
+	/**
+	 * @param level
+	 *            Compression level between 1 and 22 (3 if {@code null})
+	 *
+	 * @throws IllegalStateException
+	 *             zstd-jni is not available
+	 */
+	public ZstdFileConverter(final String level) {
+		try {
+			Class.forName(ZSTD_CLASS, false, ZstdFileConverter.class.getClassLoader());
+		} catch (ClassNotFoundException ex) {
+			throw new IllegalStateException("Zstandard compression requires zstd-jni, but '" + ZSTD_CLASS + "' is not available");
+		}
+
+		this.executor = Executors.newSingleThreadExecutor(
+			new NamedDaemonThreadFactory("tinylog-ZstdThread-" + count.getAndIncrement())
+		);
+		this.level = parseLevel(level);
+	}
+
+	@Override
+	public String getBackupSuffix() {
+		return ZstdEncoder.FILE_EXTENSION;
+	}
+
+	@Override
+	public void open(final String fileName) {
+		file = new File(fileName);
+	}
+
+	@Override
+	public byte[] write(final byte[] data) {
+		return data;
+	}
+
+	@Override
+	public void close() {
+		executor.execute(new ZstdEncoder(file, level));
+	}
+
+	@Override
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Parses the compression level.
+	 *
+	 * @param level
+	 *            Compression level as text
+	 * @return Compression level or the default level, if the passed text is absent or invalid
+	 */
+	private static int parseLevel(final String level) {
+		if (level == null || level.trim().isEmpty()) {
+			return DEFAULT_LEVEL;
+		}
+
+		try {
+			int value = Integer.parseInt(level.trim());
+			if (value >= MIN_LEVEL && value <= MAX_LEVEL) {
+				return value;
+			}
+		} catch (NumberFormatException ex) {
+			// Logged below
+		}
+
+		InternalLogger.log(Level.ERROR, "Invalid Zstandard compression level: '" + level + "'");
+		return DEFAULT_LEVEL;
+	}
+
+}
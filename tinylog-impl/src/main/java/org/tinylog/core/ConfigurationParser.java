@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import org.tinylog.Level;
 import org.tinylog.configuration.Configuration;
@@ -93,6 +94,131 @@ public final class ConfigurationParser {
 		return enabled != null && Boolean.parseBoolean(enabled.trim());
 	}
 
+	/**
+	 * Detects whether the writing thread should use a lock-free ring buffer as queue for log entries instead of the
+	 * default synchronized queue.
+	 *
+	 * <p>
+	 * If no queue is configured explicitly, the ring buffer will be used in garbage-free mode.
+	 * </p>
+	 *
+	 * @return {@code true} if the ring buffer is configured or garbage-free mode is enabled, otherwise {@code false}
+	 */
+	public static boolean isRingBufferEnabled() {
+		String queue = Configuration.get("writingthread.queue");
+		if (queue == null) {
+			return isGarbageFreeEnabled();
+		} else if ("synchronized".equalsIgnoreCase(queue.trim())) {
+			return false;
+		} else if ("ringbuffer".equalsIgnoreCase(queue.trim())) {
+			return true;
+		} else {
+			InternalLogger.log(Level.ERROR, "Invalid queue for writing thread: " + queue);
+			return false;
+		}
+	}
+
+	/**
+	 * Detects whether formatting of text messages should be deferred to the writing thread.
+	 *
+	 * @return {@code true} if deferred formatting is explicitly enabled, otherwise {@code false}
+	 */
+	public static boolean isDeferredFormattingEnabled() {
+		String enabled = Configuration.get("writingthread.deferformatting");
+		return enabled != null && Boolean.parseBoolean(enabled.trim());
+	}
+
+	/**
+	 * Detects whether garbage-free mode is enabled in configuration. In garbage-free mode, log entries are recycled
+	 * instead of creating new ones for each log statement.
+	 *
+	 * @return {@code true} if garbage-free mode is explicitly enabled, otherwise {@code false}
+	 */
+	public static boolean isGarbageFreeEnabled() {
+		String enabled = Configuration.get("garbagefree");
+		return enabled != null && Boolean.parseBoolean(enabled.trim());
+	}
+
+	/**
+	 * Loads the maximum number of log entries that can wait in the queue of the writing thread.
+	 *
+	 * @return Configured capacity or {@code 0} if no valid capacity is configured
+	 */
+	public static int getWritingThreadCapacity() {
+		String capacity = Configuration.get("writingthread.capacity");
+		if (capacity == null) {
+			return 0;
+		} else {
+			try {
+				int value = Integer.parseInt(capacity.trim());
+				if (value > 0) {
+					return value;
+				}
+			} catch (NumberFormatException ex) {
+				// Handled below
+			}
+
+			InternalLogger.log(Level.ERROR, "Invalid capacity for writing thread: " + capacity);
+			return 0;
+		}
+	}
+
+	/**
+	 * Loads the policy for handling log entries if the queue of the writing thread is full.
+	 *
+	 * @return Configured overflow policy or {@link OverflowPolicy#BLOCK} if no valid overflow policy is configured
+	 */
+	public static OverflowPolicy getOverflowPolicy() {
+		String policy = Configuration.get("writingthread.overflow");
+		if (policy == null) {
+			return OverflowPolicy.BLOCK;
+		} else {
+			try {
+				return OverflowPolicy.valueOf(policy.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+			} catch (IllegalArgumentException ex) {
+				InternalLogger.log(Level.ERROR, "Invalid overflow policy for writing thread: " + policy);
+				return OverflowPolicy.BLOCK;
+			}
+		}
+	}
+
+	/**
+	 * Loads the severity level threshold for {@link OverflowPolicy#DROP_BELOW_LEVEL}.
+	 *
+	 * @return Configured severity level or {@link Level#WARN} if no severity level is configured
+	 */
+	public static Level getOverflowLevel() {
+		return parse(Configuration.get("writingthread.overflow.level"), Level.WARN);
+	}
+
+	/**
+	 * Loads the policy for flushing writers of the writing thread.
+	 *
+	 * @return Configured flush policy or {@link FlushPolicy#IMMEDIATE} if no flush policy is configured
+	 */
+	public static FlushPolicy getFlushPolicy() {
+		String interval = Configuration.get("writingthread.flush.interval");
+		String entries = Configuration.get("writingthread.flush.entries");
+		String level = Configuration.get("writingthread.flush.level");
+
+		if (interval == null && entries == null && level == null) {
+			return FlushPolicy.IMMEDIATE;
+		} else {
+			return new FlushPolicy(parseInterval(interval), parseEntries(entries), parse(level, Level.OFF));
+		}
+	}
+
+	/**
+	 * Detects whether stack trace elements of code locations should be cached. If enabled, method names, file names
+	 * and line numbers are resolved only once for each code location that issues log entries.
+	 *
+	 * @return {@code true} if caching is explicitly enabled, otherwise {@code false}
+	 */
+	public static boolean isLocationCacheEnabled() {
+		String enabled = Configuration.get("location.cache");
+		return enabled != null && Boolean.parseBoolean(enabled.trim());
+	}
+
 	/**
 	 * Detects whether auto shutdown is enabled in configuration.
 	 *
@@ -103,6 +229,66 @@ public final class ConfigurationParser {
 		return enabled == null || Boolean.parseBoolean(enabled.trim());
 	}
 
+	/**
+	 * Parses the flush interval of the writing thread. Milliseconds ("ms") and seconds ("s") are supported as units.
+	 * Milliseconds are used if no unit is defined.
+	 *
+	 * @param interval
+	 *            Flush interval or {@code null}
+	 * @return Interval in milliseconds or {@code 0} if no valid interval is defined
+	 */
+	private static long parseInterval(final String interval) {
+		if (interval == null) {
+			return 0;
+		} else {
+			String value = interval.trim().toLowerCase(Locale.ROOT);
+			try {
+				long milliseconds;
+				if (value.endsWith("ms")) {
+					milliseconds = Long.parseLong(value.substring(0, value.length() - "ms".length()).trim());
+				} else if (value.endsWith("s")) {
+					milliseconds = TimeUnit.SECONDS.toMillis(Long.parseLong(value.substring(0, value.length() - "s".length()).trim()));
+				} else {
+					milliseconds = Long.parseLong(value);
+				}
+
+				if (milliseconds > 0) {
+					return milliseconds;
+				}
+			} catch (NumberFormatException ex) {
+				// Handled below
+			}
+
+			InternalLogger.log(Level.ERROR, "Invalid flush interval for writing thread: " + interval);
+			return 0;
+		}
+	}
+
+	/**
+	 * Parses the maximum number of unflushed log entries of the writing thread.
+	 *
+	 * @param entries
+	 *            Number of log entries or {@code null}
+	 * @return Number of log entries or {@code 0} if no valid number is defined
+	 */
+	private static int parseEntries(final String entries) {
+		if (entries == null) {
+			return 0;
+		} else {
+			try {
+				int value = Integer.parseInt(entries.trim());
+				if (value > 0) {
+					return value;
+				}
+			} catch (NumberFormatException ex) {
+				// Handled below
+			}
+
+			InternalLogger.log(Level.ERROR, "Invalid number of flush entries for writing thread: " + entries);
+			return 0;
+		}
+	}
+
 	/**
 	 * Reads a severity level from configuration.
 	 *
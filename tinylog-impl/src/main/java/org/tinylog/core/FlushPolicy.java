@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.tinylog.Level;
+
+/**
+ * Policy that defines when the writing thread flushes its writers.
+ *
+ * <p>
+ *     By default, writers are flushed after each received batch of log entries. If an interval or a number of log
+ *     entries is defined, flushing is deferred until the interval has elapsed since the first unflushed log entry or
+ *     the number of unflushed log entries has been reached. Log entries with a severity level equal to or more severe
+ *     than the flush level are always flushed immediately.
+ * </p>
+ *
+ * <p>
+ *     If only a number of log entries is defined, writers are flushed at the latest after a default interval of one
+ *     second. Otherwise, log entries below the defined number would remain unflushed as long as no further log entries
+ *     are issued.
+ * </p>
+ */
+public final class FlushPolicy {
+
+	/**
+	 * Flushes writers after each received batch of log entries.
+	 */
+	public static final FlushPolicy IMMEDIATE = new FlushPolicy(0, 0, Level.OFF);
+
+	private static final long DEFAULT_INTERVAL = 1000;
+
+	private final long interval;
+	private final int entries;
+	private final Level level;
+
+	/**
+	 * @param interval
+	 *            Maximum time in milliseconds between writing and flushing a log entry (zero for no time limit, or for the
+	 *            default interval if a number of log entries is defined)
+	 * @param entries
+	 *            Maximum number of unflushed log entries (zero for no limit)
+	 * @param level
+	 *            Log entries with this or a more severe severity level are flushed immediately
+	 */
+	public FlushPolicy(final long interval, final int entries, final Level level) {
+		this.interval = TimeUnit.MILLISECONDS.toNanos(interval <= 0 && entries > 0 ? DEFAULT_INTERVAL : interval);
+		this.entries = entries;
+		this.level = level;
+	}
+
+	/**
+	 * Gets the maximum time between writing and flushing a log entry.
+	 *
+	 * @return Time in nanoseconds or zero for no time limit
+	 */
+	public long getInterval() {
+		return interval;
+	}
+
+	/**
+	 * Checks whether a log entry with the passed severity level requires an immediate flush.
+	 *
+	 * @param level
+	 *            Severity level of a log entry (can be {@code null})
+	 * @return {@code true} if writers have to be flushed immediately, {@code false} if not
+	 */
+	public boolean isUrgent(final Level level) {
+		return level != null && level.ordinal() >= this.level.ordinal();
+	}
+
+	/**
+	 * Checks whether writers have to be flushed.
+	 *
+	 * @param elapsed
+	 *            Nanoseconds since the oldest unflushed log entry has been received
+	 * @param count
+	 *            Number of unflushed log entries
+	 * @return {@code true} if writers have to be flushed now, {@code false} if flushing can be deferred
+	 */
+	public boolean isDue(final long elapsed, final int count) {
+		if (interval <= 0 && entries <= 0) {
+			return true;
+		} else {
+			return interval > 0 && elapsed >= interval || entries > 0 && count >= entries;
+		}
+	}
+
+}
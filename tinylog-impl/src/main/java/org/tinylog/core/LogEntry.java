@@ -16,6 +16,7 @@ package org.tinylog.core;
 import java.util.Map;
 
 import org.tinylog.Level;
+import org.tinylog.format.MessageFormatter;
 import org.tinylog.runtime.Timestamp;
 
 /**
@@ -24,6 +25,11 @@ import org.tinylog.runtime.Timestamp;
  * <p>
  * A writer can only depend on values that have been requested. All other values are may {@code null}.
  * </p>
+ *
+ * <p>
+ * Only log entries of a {@link LogEntryPool} are recycled in garbage-free mode after all writers have written them.
+ * Therefore, writers must not keep references to log entries after writing.
+ * </p>
  */
 public final class LogEntry {
 
@@ -39,6 +45,14 @@ public final class LogEntry {
 	private final String message;
 	private final Throwable exception;
 
+	private final MessageFormatter formatter;
+	private final Object[] arguments;
+	private String formattedMessage;
+
+	private final LogEntryPool pool;
+	private final int slot;
+	private final PooledData data;
+
 	/**
 	 * @param timestamp
 	 *            Date and time of issuing this log entry
@@ -66,6 +80,43 @@ public final class LogEntry {
 	public LogEntry(final Timestamp timestamp, final Thread thread, final Map<String, String> context, final String className,
 		final String methodName, final String fileName, final int lineNumber, final String tag, final Level level,
 		final String message, final Throwable exception) {
+		this(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception, null,
+			null);
+	}
+
+	/**
+	 * Creates a log entry, whose text message will be formatted not before the first access.
+	 *
+	 * @param timestamp
+	 *            Date and time of issuing this log entry
+	 * @param thread
+	 *            Thread that has issued this log entry
+	 * @param context
+	 *            Actual thread context mapping
+	 * @param className
+	 *            Name of class in which this log entry has been issued
+	 * @param methodName
+	 *            Name of method in which this log entry has been issued
+	 * @param fileName
+	 *            Name of source file in which this log entry has been issued
+	 * @param lineNumber
+	 *            Line number in source file where this log entry has been issued
+	 * @param tag
+	 *            Tag from logger if this log entry has been issued by a tagged logger
+	 * @param level
+	 *            Severity level of this log entry
+	 * @param message
+	 *            Text message or format pattern of this log entry
+	 * @param exception
+	 *            Caught exception or throwable associated with this log entry
+	 * @param formatter
+	 *            Formatter for text message ({@code null} if the text message is already formatted)
+	 * @param arguments
+	 *            Immutable arguments for format pattern
+	 */
+	LogEntry(final Timestamp timestamp, final Thread thread, final Map<String, String> context, final String className,
+		final String methodName, final String fileName, final int lineNumber, final String tag, final Level level,
+		final String message, final Throwable exception, final MessageFormatter formatter, final Object[] arguments) {
 		this.timestamp = timestamp;
 		this.thread = thread;
 		this.context = context;
@@ -77,6 +128,40 @@ public final class LogEntry {
 		this.level = level;
 		this.message = message;
 		this.exception = exception;
+		this.formatter = formatter;
+		this.arguments = arguments;
+		this.pool = null;
+		this.slot = -1;
+		this.data = null;
+	}
+
+	/**
+	 * Creates an empty log entry that belongs to a pool.
+	 *
+	 * @param pool
+	 *            Owning pool
+	 * @param slot
+	 *            Index of this log entry in the pool
+	 * @param timestamp
+	 *            Reused timestamp that will be updated by the pool
+	 */
+	LogEntry(final LogEntryPool pool, final int slot, final Timestamp timestamp) {
+		this.timestamp = timestamp;
+		this.thread = null;
+		this.context = null;
+		this.className = null;
+		this.methodName = null;
+		this.fileName = null;
+		this.lineNumber = -1;
+		this.tag = null;
+		this.level = null;
+		this.message = null;
+		this.exception = null;
+		this.formatter = null;
+		this.arguments = null;
+		this.pool = pool;
+		this.slot = slot;
+		this.data = new PooledData();
 	}
 
 	/**
@@ -94,7 +179,7 @@ public final class LogEntry {
 	 * @return Issuing thread
 	 */
 	public Thread getThread() {
-		return thread;
+		return data == null ? thread : data.thread;
 	}
 
 	/**
@@ -103,7 +188,7 @@ public final class LogEntry {
 	 * @return Thread context mapping
 	 */
 	public Map<String, String> getContext() {
-		return context;
+		return data == null ? context : data.context;
 	}
 
 	/**
@@ -112,7 +197,7 @@ public final class LogEntry {
 	 * @return Name of class
 	 */
 	public String getClassName() {
-		return className;
+		return data == null ? className : data.className;
 	}
 
 	/**
@@ -121,7 +206,7 @@ public final class LogEntry {
 	 * @return Name of method
 	 */
 	public String getMethodName() {
-		return methodName;
+		return data == null ? methodName : data.methodName;
 	}
 
 	/**
@@ -130,7 +215,7 @@ public final class LogEntry {
 	 * @return Name of source file
 	 */
 	public String getFileName() {
-		return fileName;
+		return data == null ? fileName : data.fileName;
 	}
 
 	/**
@@ -139,7 +224,7 @@ public final class LogEntry {
 	 * @return Line number in source file
 	 */
 	public int getLineNumber() {
-		return lineNumber;
+		return data == null ? lineNumber : data.lineNumber;
 	}
 
 	/**
@@ -148,7 +233,7 @@ public final class LogEntry {
 	 * @return Tag from logger
 	 */
 	public String getTag() {
-		return tag;
+		return data == null ? tag : data.tag;
 	}
 
 	/**
@@ -157,16 +242,32 @@ public final class LogEntry {
 	 * @return Severity level
 	 */
 	public Level getLevel() {
-		return level;
+		return data == null ? level : data.level;
 	}
 
 	/**
 	 * Gets the text message of this log entry.
 	 *
+	 * <p>
+	 * If formatting has been deferred, the text message will be formatted on first access.
+	 * </p>
+	 *
 	 * @return Text message
 	 */
 	public String getMessage() {
-		return message;
+		if (data != null) {
+			return data.getMessage();
+		} else if (formatter == null) {
+			return message;
+		}
+
+		String result = formattedMessage;
+		if (result == null) {
+			result = formatter.format(message, arguments);
+			formattedMessage = result;
+		}
+
+		return result;
 	}
 
 	/**
@@ -175,7 +276,130 @@ public final class LogEntry {
 	 * @return Associated caught exception or throwable
 	 */
 	public Throwable getException() {
-		return exception;
+		return data == null ? exception : data.exception;
+	}
+
+	/**
+	 * Fills a pooled log entry with new data. The timestamp is updated by the owning pool.
+	 *
+	 * @param thread
+	 *            Thread that has issued this log entry
+	 * @param context
+	 *            Actual thread context mapping
+	 * @param className
+	 *            Name of class in which this log entry has been issued
+	 * @param methodName
+	 *            Name of method in which this log entry has been issued
+	 * @param fileName
+	 *            Name of source file in which this log entry has been issued
+	 * @param lineNumber
+	 *            Line number in source file where this log entry has been issued
+	 * @param tag
+	 *            Tag from logger if this log entry has been issued by a tagged logger
+	 * @param level
+	 *            Severity level of this log entry
+	 * @param message
+	 *            Text message of this log entry
+	 * @param exception
+	 *            Caught exception or throwable associated with this log entry
+	 */
+	void update(final Thread thread, final Map<String, String> context, final String className, final String methodName,
+		final String fileName, final int lineNumber, final String tag, final Level level, final String message,
+		final Throwable exception) {
+		data.thread = thread;
+		data.context = context;
+		data.className = className;
+		data.methodName = methodName;
+		data.fileName = fileName;
+		data.lineNumber = lineNumber;
+		data.tag = tag;
+		data.level = level;
+		data.message = message;
+		data.exception = exception;
+		data.formatter = null;
+		data.arguments = null;
+		data.formattedMessage = null;
+	}
+
+	/**
+	 * Defers formatting of the text message of a pooled log entry until it is accessed the first time. The text message
+	 * that has been passed to {@link #update update()} is used as format pattern.
+	 *
+	 * <p>
+	 * This method has to be called before handing over the log entry to writers. All arguments must be immutable.
+	 * </p>
+	 *
+	 * @param formatter
+	 *            Formatter for text message
+	 * @param arguments
+	 *            Immutable arguments for format pattern
+	 */
+	void defer(final MessageFormatter formatter, final Object[] arguments) {
+		data.formatter = formatter;
+		data.arguments = arguments;
+	}
+
+	/**
+	 * Releases the log entry after writing. Pooled log entries will be recycled as soon as they have been released by
+	 * all writers. For all other log entries, this method has no effect.
+	 */
+	void release() {
+		if (pool != null) {
+			pool.release(slot);
+		}
+	}
+
+	/**
+	 * Clears all references to avoid retaining objects in pooled log entries that are currently unused.
+	 */
+	void clear() {
+		update(null, null, null, null, null, -1, null, null, null, null);
+	}
+
+	/**
+	 * Mutable data of a pooled log entry, which is overwritten every time the log entry is recycled.
+	 */
+	private static final class PooledData {
+
+		private Thread thread;
+		private Map<String, String> context;
+		private String className;
+		private String methodName;
+		private String fileName;
+		private int lineNumber;
+		private String tag;
+		private Level level;
+		private String message;
+		private Throwable exception;
+
+		private MessageFormatter formatter;
+		private Object[] arguments;
+		private String formattedMessage;
+
+		/** */
+		private PooledData() {
+			lineNumber = -1;
+		}
+
+		/**
+		 * Gets the text message. If formatting has been deferred, the text message will be formatted on first access.
+		 *
+		 * @return Text message
+		 */
+		private String getMessage() {
+			if (formatter == null) {
+				return message;
+			}
+
+			String result = formattedMessage;
+			if (result == null) {
+				result = formatter.format(message, arguments);
+				formattedMessage = result;
+			}
+
+			return result;
+		}
+
 	}
 
 }
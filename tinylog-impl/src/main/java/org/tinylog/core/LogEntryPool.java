@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Pool of reusable log entries for garbage-free logging.
+ *
+ * <p>
+ *     Each log entry has a reference counter that is set to the number of writers when acquiring the log entry. Every
+ *     writer releases the log entry after writing it. The log entry becomes available for reuse as soon as the
+ *     reference counter drops to zero. If all log entries are in use, {@link #acquire(int)} returns {@code null} and
+ *     the caller has to create a new log entry.
+ * </p>
+ *
+ * <p>
+ *     Log entries are acquired round-robin via a shared cursor. Since the writing thread releases log entries in the
+ *     order of their acquisition, the slots after the cursor are most likely unused. Therefore, only a few slots are
+ *     probed. This keeps the costs of acquiring constant, even if the pool is exhausted under backpressure.
+ * </p>
+ */
+final class LogEntryPool {
+
+	private static final int MAX_PROBES = 8;
+
+	private final int mask;
+	private final LogEntry[] logEntries;
+	private final MutableTimestamp[] timestamps;
+	private final AtomicIntegerArray references;
+	private final AtomicInteger cursor;
+
+	/**
+	 * @param size
+	 *            Minimum number of pooled log entries (will be rounded up to the next power of two)
+	 */
+	LogEntryPool(final int size) {
+		int capacity = Integer.highestOneBit(Math.max(1, size));
+		if (capacity < size) {
+			capacity <<= 1;
+		}
+
+		this.mask = capacity - 1;
+		this.logEntries = new LogEntry[capacity];
+		this.timestamps = new MutableTimestamp[capacity];
+		this.references = new AtomicIntegerArray(capacity);
+		this.cursor = new AtomicInteger();
+
+		for (int i = 0; i < capacity; ++i) {
+			timestamps[i] = new MutableTimestamp();
+			logEntries[i] = new LogEntry(this, i, timestamps[i]);
+		}
+	}
+
+	/**
+	 * Gets the number of pooled log entries.
+	 *
+	 * @return Number of pooled log entries
+	 */
+	int getSize() {
+		return mask + 1;
+	}
+
+	/**
+	 * Acquires an unused log entry. The timestamp of the returned log entry is set to the current date and time.
+	 *
+	 * @param writers
+	 *            Number of writers that will release the log entry (must be at least one)
+	 * @return Unused log entry or {@code null} if no unused log entry has been found
+	 */
+	LogEntry acquire(final int writers) {
+		int start = cursor.getAndIncrement();
+		int probes = Math.min(MAX_PROBES, mask + 1);
+
+		for (int i = 0; i < probes; ++i) {
+			int slot = (start + i) & mask;
+			if (references.get(slot) == 0 && references.compareAndSet(slot, 0, writers)) {
+				timestamps[slot].setMilliseconds(System.currentTimeMillis());
+				return logEntries[slot];
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Releases a log entry once. The log entry will be cleared and becomes available for reuse if it has been released
+	 * as often as writers have been passed to {@link #acquire(int)}.
+	 *
+	 * @param slot
+	 *            Index of log entry
+	 */
+	void release(final int slot) {
+		while (true) {
+			int count = references.get(slot);
+			if (count == 1) {
+				logEntries[slot].clear();
+				references.set(slot, 0);
+				return;
+			} else if (count <= 0 || references.compareAndSet(slot, count, count - 1)) {
+				return;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.tinylog.runtime.Timestamp;
+
+/**
+ * Reusable timestamp with millisecond precision for pooled log entries.
+ */
+final class MutableTimestamp implements Timestamp {
+
+	private static final long MILLISECOND_IN_NANOS = 1000000;
+
+	private long milliseconds;
+
+	/** */
+	MutableTimestamp() {
+	}
+
+	/**
+	 * Sets the date and time.
+	 *
+	 * @param milliseconds
+	 *            Milliseconds since January 1, 1970, 00:00:00 GMT
+	 */
+	void setMilliseconds(final long milliseconds) {
+		this.milliseconds = milliseconds;
+	}
+
+	@Override
+	public Date toDate() {
+		return new Date(milliseconds);
+	}
+
+	@IgnoreJRERequirement
+	@Override
+	public Instant toInstant() {
+		return Instant.ofEpochMilli(milliseconds);
+	}
+
+	@Override
+	public java.sql.Timestamp toSqlTimestamp() {
+		return new java.sql.Timestamp(milliseconds);
+	}
+
+	@Override
+	public long calcDifferenceInNanoseconds(final Timestamp other) {
+		return (milliseconds - other.toDate().getTime()) * MILLISECOND_IN_NANOS;
+	}
+
+}
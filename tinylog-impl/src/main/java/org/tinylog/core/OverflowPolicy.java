@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * Enumerated policies for handling log entries if the queue of the {@link WritingThread} is full.
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * Logging threads wait until the writing thread has free capacity again.
+	 */
+	BLOCK,
+
+	/**
+	 * New log entries are dropped.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * The oldest waiting log entries are dropped to make room for new log entries.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * New log entries with a severity level below the configured threshold are dropped. Logging threads wait for log
+	 * entries with a severity level equal or above the threshold until the writing thread has free capacity again.
+	 */
+	DROP_BELOW_LEVEL,
+
+	/**
+	 * Logging threads write new log entries synchronously by themselves.
+	 */
+	SYNC
+
+}
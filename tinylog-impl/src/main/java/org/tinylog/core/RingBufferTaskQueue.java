@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.tinylog.writers.Writer;
+
+/**
+ * Bounded lock-free task queue for multiple producers.
+ *
+ * <p>
+ *     All slots are preallocated. Adding a log entry neither allocates any objects nor acquires any monitors. Each slot
+ *     has a sequence number that tells producers and the consumer whether the slot is free or filled. If the queue is
+ *     full, producers spin and park until the writing thread has released a slot. The writing thread spins for a short
+ *     time if the queue is empty and parks afterwards until a producer wakes it up.
+ * </p>
+ */
+final class RingBufferTaskQueue implements TaskQueue {
+
+	/**
+	 * Default number of slots.
+	 */
+	static final int DEFAULT_CAPACITY = 16 * 1024;
+
+	private static final int SPIN_TRIES = 100;
+	private static final int YIELD_TRIES = 10;
+	private static final long PARK_NANOS = 1000L * 1000L; // 1 millisecond
+
+	private final int mask;
+	private final AtomicLongArray sequences;
+	private final Writer[] writers;
+	private final LogEntry[] logEntries;
+
+	private final AtomicLong head;
+	private final AtomicLong tail;
+
+	private volatile Thread consumer;
+	private volatile boolean sleeping;
+
+	/** */
+	RingBufferTaskQueue() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity
+	 *            Minimum number of slots (will be rounded up to the next power of two)
+	 */
+	RingBufferTaskQueue(final int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity));
+		if (size < capacity) {
+			size <<= 1;
+		}
+
+		this.mask = size - 1;
+		this.sequences = new AtomicLongArray(size);
+		this.writers = new Writer[size];
+		this.logEntries = new LogEntry[size];
+		this.head = new AtomicLong();
+		this.tail = new AtomicLong();
+
+		for (int i = 0; i < size; ++i) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Gets the number of slots.
+	 *
+	 * @return Number of available slots
+	 */
+	int getCapacity() {
+		return mask + 1;
+	}
+
+	@Override
+	public void add(final Writer writer, final LogEntry logEntry) {
+		put(writer, logEntry);
+	}
+
+	@Override
+	public boolean offer(final Writer writer, final LogEntry logEntry) {
+		if (claim(writer, logEntry)) {
+			wakeUpConsumer();
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public LogEntry discard() {
+		while (true) {
+			long position = head.get();
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - (position + 1);
+
+			if (difference == 0) {
+				if (writers[index] == null) {
+					return null;
+				} else if (head.compareAndSet(position, position + 1)) {
+					LogEntry logEntry = logEntries[index];
+					writers[index] = null;
+					logEntries[index] = null;
+					sequences.set(index, position + mask + 1);
+					return logEntry;
+				}
+			} else {
+				return null;
+			}
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		put(null, null);
+	}
+
+	@Override
+	public int drain(final Writer[] writers, final LogEntry[] logEntries) {
+		return drain(writers, logEntries, Long.MAX_VALUE);
+	}
+
+	@Override
+	public int drain(final Writer[] writers, final LogEntry[] logEntries, final long timeout) {
+		if (consumer == null) {
+			consumer = Thread.currentThread();
+		}
+
+		int count = poll(writers, logEntries);
+		long deadline = timeout == Long.MAX_VALUE ? 0L : System.nanoTime() + timeout;
+
+		for (int tries = 0; count == 0; ++tries) {
+			long remaining = timeout == Long.MAX_VALUE ? PARK_NANOS : deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return 0;
+			} else if (tries < SPIN_TRIES) {
+				count = poll(writers, logEntries);
+			} else if (tries < SPIN_TRIES + YIELD_TRIES) {
+				Thread.yield();
+				count = poll(writers, logEntries);
+			} else {
+				sleeping = true;
+				count = poll(writers, logEntries);
+				if (count == 0) {
+					LockSupport.parkNanos(this, Math.min(PARK_NANOS, remaining));
+					count = poll(writers, logEntries);
+				}
+				sleeping = false;
+
+				if (count == 0 && Thread.interrupted()) {
+					return 0;
+				}
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Claims a slot and fills it. This method spins and parks as long as the queue is full.
+	 *
+	 * @param writer
+	 *            Writer to write given log entry ({@code null} for the poison task)
+	 * @param logEntry
+	 *            Log entry to write
+	 */
+	private void put(final Writer writer, final LogEntry logEntry) {
+		for (int tries = 0; !claim(writer, logEntry); ++tries) {
+			if (tries >= SPIN_TRIES + YIELD_TRIES) {
+				LockSupport.parkNanos(this, PARK_NANOS);
+			} else if (tries >= SPIN_TRIES) {
+				Thread.yield();
+			}
+		}
+
+		wakeUpConsumer();
+	}
+
+	/**
+	 * Wakes up the writing thread if it is parked.
+	 */
+	private void wakeUpConsumer() {
+		if (sleeping) {
+			Thread thread = consumer;
+			if (thread != null) {
+				LockSupport.unpark(thread);
+			}
+		}
+	}
+
+	/**
+	 * Tries to claim a slot and fills it.
+	 *
+	 * @param writer
+	 *            Writer to write given log entry
+	 * @param logEntry
+	 *            Log entry to write
+	 * @return {@code true} if the task has been added, {@code false} if the queue is full
+	 */
+	private boolean claim(final Writer writer, final LogEntry logEntry) {
+		long position = tail.get();
+
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - position;
+
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					writers[index] = writer;
+					logEntries[index] = logEntry;
+					sequences.set(index, position + 1);
+					return true;
+				} else {
+					position = tail.get();
+				}
+			} else if (difference < 0) {
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Moves all currently available tasks into the passed arrays without waiting.
+	 *
+	 * @param writers
+	 *            Target array for writers
+	 * @param logEntries
+	 *            Target array for log entries
+	 * @return Number of received tasks
+	 */
+	private int poll(final Writer[] writers, final LogEntry[] logEntries) {
+		int count = 0;
+
+		while (count < writers.length) {
+			long position = head.get();
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - (position + 1);
+
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					writers[count] = this.writers[index];
+					logEntries[count] = this.logEntries[index];
+					++count;
+
+					this.writers[index] = null;
+					this.logEntries[index] = null;
+					sequences.set(index, position + mask + 1);
+				}
+			} else {
+				break;
+			}
+		}
+
+		return count;
+	}
+
+}
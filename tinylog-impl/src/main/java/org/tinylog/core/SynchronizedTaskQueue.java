@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.tinylog.writers.Writer;
+
+/**
+ * Task queue that collects log entries in a deque guarded by a mutex.
+ *
+ * <p>
+ *     The queue is unbounded by default. If a capacity is defined, it limits the number of log entries that are waiting
+ *     for being written. This includes log entries that have been already received by the writing thread, but not
+ *     drained yet.
+ * </p>
+ *
+ * <p>
+ *     Received but not yet drained log entries are the oldest waiting log entries. Therefore, {@link #discard()}
+ *     removes them first. Both deques are guarded by the same mutex.
+ * </p>
+ */
+final class SynchronizedTaskQueue implements TaskQueue {
+
+	private final int capacity;
+	private final Object mutex;
+	private Deque<Task> tasks;
+	private int size;
+
+	private Deque<Task> received;
+
+	/** */
+	SynchronizedTaskQueue() {
+		this(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param capacity
+	 *            Maximum number of waiting log entries
+	 */
+	SynchronizedTaskQueue(final int capacity) {
+		this.capacity = capacity;
+		this.mutex = new Object();
+		this.tasks = new ArrayDeque<Task>();
+		this.received = new ArrayDeque<Task>();
+	}
+
+	@Override
+	public void add(final Writer writer, final LogEntry logEntry) {
+		Task task = new Task(writer, logEntry);
+		synchronized (mutex) {
+			boolean interrupted = false;
+
+			while (size >= capacity && !interrupted) {
+				try {
+					mutex.wait();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					interrupted = true;
+				}
+			}
+
+			tasks.add(task);
+			size += 1;
+			mutex.notifyAll();
+		}
+	}
+
+	@Override
+	public boolean offer(final Writer writer, final LogEntry logEntry) {
+		Task task = new Task(writer, logEntry);
+		synchronized (mutex) {
+			if (size >= capacity) {
+				return false;
+			} else {
+				tasks.add(task);
+				size += 1;
+				mutex.notifyAll();
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public LogEntry discard() {
+		synchronized (mutex) {
+			Deque<Task> deque = received.isEmpty() ? tasks : received;
+			Task task = deque.peekFirst();
+			if (task == null || task.writer == null) {
+				return null;
+			} else {
+				deque.removeFirst();
+				size -= 1;
+				mutex.notifyAll();
+				return task.logEntry;
+			}
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		add(null, null);
+	}
+
+	@Override
+	public int drain(final Writer[] writers, final LogEntry[] logEntries) {
+		return drain(writers, logEntries, Long.MAX_VALUE);
+	}
+
+	@Override
+	public int drain(final Writer[] writers, final LogEntry[] logEntries, final long timeout) {
+		synchronized (mutex) {
+			if (received.isEmpty()) {
+				long deadline = timeout == Long.MAX_VALUE ? 0L : System.nanoTime() + timeout;
+
+				while (tasks.isEmpty()) {
+					try {
+						if (timeout == Long.MAX_VALUE) {
+							mutex.wait();
+						} else {
+							long remaining = deadline - System.nanoTime();
+							if (remaining <= 0) {
+								return 0;
+							}
+							TimeUnit.NANOSECONDS.timedWait(mutex, remaining);
+						}
+					} catch (InterruptedException ex) {
+						return 0;
+					}
+				}
+
+				Deque<Task> swap = received;
+				received = tasks;
+				tasks = swap;
+			}
+
+			int count = Math.min(received.size(), writers.length);
+			for (int i = 0; i < count; ++i) {
+				Task task = received.removeFirst();
+				writers[i] = task.writer;
+				logEntries[i] = task.logEntry;
+			}
+
+			size -= count;
+			mutex.notifyAll();
+
+			return count;
+		}
+	}
+
+	/**
+	 * Tuple that contains a log entry and a writer for outputting it.
+	 */
+	private static final class Task {
+
+		private final Writer writer;
+		private final LogEntry logEntry;
+
+		/**
+		 * @param writer
+		 *            Writer for outputting log entry
+		 * @param logEntry
+		 *            Log entry to write
+		 */
+		Task(final Writer writer, final LogEntry logEntry) {
+			this.writer = writer;
+			this.logEntry = logEntry;
+		}
+
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.tinylog.writers.Writer;
+
+/**
+ * Queue for handing over log entries from logging threads to the {@link WritingThread}.
+ *
+ * <p>
+ *     Log entries can be added by any number of threads simultaneously. However, only the writing thread is allowed to
+ *     drain the queue.
+ * </p>
+ */
+interface TaskQueue {
+
+	/**
+	 * Adds a log entry for writing. If the queue is full, this method blocks until there is free capacity again.
+	 *
+	 * @param writer
+	 *            Writer to write given log entry
+	 * @param logEntry
+	 *            Log entry to write
+	 */
+	void add(Writer writer, LogEntry logEntry);
+
+	/**
+	 * Adds a log entry for writing if there is free capacity. This method never blocks.
+	 *
+	 * @param writer
+	 *            Writer to write given log entry
+	 * @param logEntry
+	 *            Log entry to write
+	 * @return {@code true} if the log entry has been added, {@code false} if the queue is full
+	 */
+	boolean offer(Writer writer, LogEntry logEntry);
+
+	/**
+	 * Removes the oldest log entry that has not been received by the writing thread yet. The poison task will never be
+	 * removed.
+	 *
+	 * @return Removed log entry or {@code null} if there is no removable log entry
+	 */
+	LogEntry discard();
+
+	/**
+	 * Adds a poison task. The writing thread will receive the poison task as {@code null} writer after all already
+	 * added log entries. If the queue is full, this method blocks until there is free capacity again.
+	 */
+	void shutdown();
+
+	/**
+	 * Moves added log entries into the passed arrays. This method blocks until at least one log entry or the poison
+	 * task is available.
+	 *
+	 * @param writers
+	 *            Target array for writers ({@code null} represents the poison task)
+	 * @param logEntries
+	 *            Target array for log entries (must have the same length as the array for writers)
+	 * @return Number of received tasks or zero if interrupted while waiting
+	 */
+	int drain(Writer[] writers, LogEntry[] logEntries);
+
+	/**
+	 * Moves added log entries into the passed arrays. This method blocks until at least one log entry or the poison
+	 * task is available or the passed timeout has elapsed.
+	 *
+	 * @param writers
+	 *            Target array for writers ({@code null} represents the poison task)
+	 * @param logEntries
+	 *            Target array for log entries (must have the same length as the array for writers)
+	 * @param timeout
+	 *            Maximum time to wait in nanoseconds ({@link Long#MAX_VALUE} for waiting without timeout)
+	 * @return Number of received tasks or zero if interrupted or timed out while waiting
+	 */
+	int drain(Writer[] writers, LogEntry[] logEntries, long timeout);
+
+}
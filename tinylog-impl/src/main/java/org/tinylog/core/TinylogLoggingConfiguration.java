@@ -13,16 +13,25 @@
 
 package org.tinylog.core;
 
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.UUID;
 
 import org.tinylog.Level;
 import org.tinylog.Supplier;
@@ -39,8 +48,24 @@ import org.tinylog.writers.Writer;
  * writers, general provider configuration and a creation of a {@link LogEntry} for writers.
  */
 public class TinylogLoggingConfiguration {
+
+	private static final Collection<Class<?>> IMMUTABLE_CLASSES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+		String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+		Double.class, BigInteger.class, BigDecimal.class, Class.class, UUID.class, Locale.class, URI.class, File.class
+	));
+
+	// Value types of the Java Date-Time API, referenced by name as they are not available before Java 8
+	private static final Collection<String> IMMUTABLE_CLASS_NAMES = new HashSet<String>(Arrays.asList(
+		"java.time.Instant", "java.time.LocalDate", "java.time.LocalTime", "java.time.LocalDateTime",
+		"java.time.ZonedDateTime", "java.time.OffsetDateTime", "java.time.OffsetTime", "java.time.Duration",
+		"java.time.Period", "java.time.Year", "java.time.YearMonth", "java.time.MonthDay", "java.time.ZoneOffset",
+		"java.time.ZoneRegion"
+	));
+
+	private final Map<Writer, String> threadNames;
 	
 	public TinylogLoggingConfiguration() {
+		threadNames = new IdentityHashMap<Writer, String>();
 	}
 	
 	/**
@@ -90,6 +115,11 @@ public class TinylogLoggingConfiguration {
 
 			Writer writer = loader.create(entry.getValue(), configuration);
 			if (writer != null) {
+				String threadName = configuration.get("thread");
+				if (threadName != null && !threadName.trim().isEmpty()) {
+					threadNames.put(writer, threadName.trim());
+				}
+
 				if (tag == null || tag.isEmpty()) {
 					for (int tagIndex = 0; tagIndex < matrix.length; ++tagIndex) {
 						addWriter(writer, matrix, tagIndex, level);
@@ -215,19 +245,101 @@ public class TinylogLoggingConfiguration {
 	}
 
 	/**
-	 * Creates a writing thread for a matrix of writers.
+	 * Calculates for which tag and severity level a full stack trace element with method name, file name and line
+	 * number is required.
+	 *
+	 * @param logEntryValues
+	 *            Matrix with required log entry values
+	 * @return Array with a bit set for each tag. Each set bit represents the ordinal of a severity level that requires
+	 *         a full stack trace element.
+	 */
+	public BitSet[] calculateFullStackTraceRequirementsPerLevel(final Collection<LogEntryValue>[][] logEntryValues) {
+		BitSet[] result = new BitSet[logEntryValues.length];
+		for (int tagIndex = 0; tagIndex < logEntryValues.length; ++tagIndex) {
+			result[tagIndex] = new BitSet(logEntryValues[tagIndex].length);
+			for (int levelIndex = 0; levelIndex < logEntryValues[tagIndex].length; ++levelIndex) {
+				Collection<LogEntryValue> values = logEntryValues[tagIndex][levelIndex];
+				if (values.contains(LogEntryValue.METHOD) || values.contains(LogEntryValue.FILE) || values.contains(LogEntryValue.LINE)) {
+					result[tagIndex].set(levelIndex);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a single writing thread for all writers of a matrix. Thread names of writers are ignored.
 	 *
 	 * @param matrix
 	 *            All writers
 	 * @return Initialized and running writhing thread
 	 */
 	public WritingThread createWritingThread(final Collection<Writer>[][] matrix) {
-		Collection<Writer> writers = getAllWriters(matrix);
-		WritingThread thread = new WritingThread(writers);
+		return startWritingThread(getAllWriters(matrix), null);
+	}
+
+	/**
+	 * Creates writing threads for a matrix of writers. Writers without a defined thread name share the default writing
+	 * thread. Writers with the same thread name share a separate writing thread.
+	 *
+	 * @param matrix
+	 *            All writers
+	 * @return Initialized and running writing threads mapped by their writers
+	 */
+	public Map<Writer, WritingThread> createWritingThreads(final Collection<Writer>[][] matrix) {
+		Map<String, Collection<Writer>> groups = new LinkedHashMap<String, Collection<Writer>>();
+		for (Writer writer : getAllWriters(matrix)) {
+			String name = threadNames.get(writer);
+			Collection<Writer> group = groups.get(name);
+			if (group == null) {
+				group = new ArrayList<Writer>();
+				groups.put(name, group);
+			}
+			group.add(writer);
+		}
+
+		Map<Writer, WritingThread> threads = new IdentityHashMap<Writer, WritingThread>();
+		for (Entry<String, Collection<Writer>> group : groups.entrySet()) {
+			WritingThread thread = startWritingThread(group.getValue(), group.getKey());
+			for (Writer writer : group.getValue()) {
+				threads.put(writer, thread);
+			}
+		}
+
+		return threads;
+	}
+
+	/**
+	 * Creates and starts a writing thread for the passed writers.
+	 *
+	 * @param writers
+	 *            Writers to serve
+	 * @param name
+	 *            Name of writing thread ({@code null} for the default writing thread)
+	 * @return Initialized and running writing thread
+	 */
+	private static WritingThread startWritingThread(final Collection<Writer> writers, final String name) {
+		int capacity = ConfigurationParser.getWritingThreadCapacity();
+
+		TaskQueue queue;
+		if (ConfigurationParser.isRingBufferEnabled()) {
+			queue = capacity > 0 ? new RingBufferTaskQueue(capacity) : new RingBufferTaskQueue();
+		} else {
+			queue = capacity > 0 ? new SynchronizedTaskQueue(capacity) : new SynchronizedTaskQueue();
+		}
+
+		OverflowPolicy overflowPolicy = ConfigurationParser.getOverflowPolicy();
+		Level overflowLevel = ConfigurationParser.getOverflowLevel();
+		FlushPolicy flushPolicy = ConfigurationParser.getFlushPolicy();
+		WritingThread thread = new WritingThread(writers, queue, overflowPolicy, overflowLevel, flushPolicy);
+		if (name != null) {
+			thread.setName(WritingThread.THREAD_NAME + "-" + name);
+		}
+
 		thread.start();
 		return thread;
 	}
-	
+
 	/**
 	 * Collects all writer instances from a matrix of writers.
 	 *
@@ -294,15 +406,173 @@ public class TinylogLoggingConfiguration {
 			lineNumber = stackTraceElement.getLineNumber();
 		}
 
-		String message;
+		String message = createMessage(formatter, obj, arguments);
+
+		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
+	}
+
+	/**
+	 * Creates a log entry by recycling an unused log entry from a pool. If there is no pool or all pooled log entries
+	 * are in use, a new log entry will be created.
+	 *
+	 * <p>
+	 * If formatting should be deferred and all arguments are immutable, the text message will be formatted not before
+	 * a writer accesses the text message. Otherwise, the text message is formatted immediately.
+	 * </p>
+	 *
+	 * @param pool
+	 *            Pool of reusable log entries (can be {@code null})
+	 * @param writers
+	 *            Number of writers that will release the log entry after writing
+	 * @param deferFormatting
+	 *            Defines whether formatting of text messages with arguments should be deferred if possible
+	 * @param stackTraceElement
+	 *            Optional stack trace element of caller
+	 * @param tag
+	 *            Tag name if issued from a tagged logger
+	 * @param level
+	 *            Severity level
+	 * @param exception
+	 *            Caught exception or throwable to log
+	 * @param formatter
+	 *            Formatter for text message
+	 * @param obj
+	 *            Message to log
+	 * @param arguments
+	 *            Arguments for message
+	 * @param requiredLogEntryValues
+	 *            The log entry value types which are required
+	 * @param contextProvider
+	 *            The context provider
+	 * @return Filled log entry
+	 */
+	static LogEntry createLogEntry(final LogEntryPool pool, final int writers, final boolean deferFormatting,
+		final StackTraceElement stackTraceElement, final String tag, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object[] arguments,
+		final Collection<LogEntryValue>[] requiredLogEntryValues, final ContextProvider contextProvider) {
+		Collection<LogEntryValue> required = requiredLogEntryValues[level.ordinal()];
+		Thread thread = required.contains(LogEntryValue.THREAD) ? Thread.currentThread() : null;
+		Map<String, String> context = required.contains(LogEntryValue.CONTEXT) ? contextProvider.getMapping() : null;
+
+		boolean deferred = deferFormatting && isDeferrable(formatter, obj, arguments);
+		String message = deferred ? (String) obj : createMessage(formatter, obj, arguments);
+
+		String className;
+		String methodName;
+		String fileName;
+		int lineNumber;
+		if (stackTraceElement == null) {
+			className = null;
+			methodName = null;
+			fileName = null;
+			lineNumber = -1;
+		} else {
+			className = stackTraceElement.getClassName();
+			methodName = stackTraceElement.getMethodName();
+			fileName = stackTraceElement.getFileName();
+			lineNumber = stackTraceElement.getLineNumber();
+		}
+
+		MessageFormatter deferredFormatter = deferred ? formatter : null;
+		Object[] deferredArguments = deferred ? arguments.clone() : null;
+
+		LogEntry logEntry = pool == null || writers == 0 ? null : pool.acquire(writers);
+		if (logEntry == null) {
+			Timestamp timestamp = RuntimeProvider.createTimestamp();
+			return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message,
+				exception, deferredFormatter, deferredArguments);
+		} else {
+			logEntry.update(thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
+			if (deferred) {
+				logEntry.defer(deferredFormatter, deferredArguments);
+			}
+			return logEntry;
+		}
+	}
+
+	/**
+	 * Creates a pool of reusable log entries for garbage-free mode.
+	 *
+	 * @return Pool of reusable log entries or {@code null} if garbage-free mode is disabled
+	 */
+	LogEntryPool createLogEntryPool() {
+		if (ConfigurationParser.isGarbageFreeEnabled()) {
+			int capacity = ConfigurationParser.getWritingThreadCapacity();
+			return new LogEntryPool(capacity > 0 ? capacity : RingBufferTaskQueue.DEFAULT_CAPACITY);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Checks whether formatting of a text message can be safely deferred. This is the case if the message is a format
+	 * pattern with arguments and all arguments are immutable.
+	 *
+	 * @param formatter
+	 *            Formatter for text message
+	 * @param obj
+	 *            Message to log
+	 * @param arguments
+	 *            Arguments for message
+	 * @return {@code true} if formatting can be deferred, {@code false} if the text message has to be formatted
+	 *         immediately
+	 */
+	private static boolean isDeferrable(final MessageFormatter formatter, final Object obj, final Object[] arguments) {
+		if (formatter == null || !(obj instanceof String) || arguments == null || arguments.length == 0) {
+			return false;
+		}
+
+		for (Object argument : arguments) {
+			if (argument != null && !isImmutable(argument)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks whether an argument is known to be immutable. Besides some well-known classes, the value types of the Java
+	 * Date-Time API are detected as immutable.
+	 *
+	 * <p>
+	 *     Enum constants can carry mutable state. Therefore, an enum constant is only detected as immutable if its
+	 *     string representation is its constant name, as it is for {@link Enum#toString()} if not overridden.
+	 * </p>
+	 *
+	 * @param argument
+	 *            Argument to check
+	 * @return {@code true} if the passed argument is immutable, {@code false} if not or unknown
+	 */
+	private static boolean isImmutable(final Object argument) {
+		Class<?> clazz = argument.getClass();
+		if (IMMUTABLE_CLASSES.contains(clazz) || IMMUTABLE_CLASS_NAMES.contains(clazz.getName())) {
+			return true;
+		} else if (argument instanceof Enum<?>) {
+			return argument.toString() == ((Enum<?>) argument).name();
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Creates the text message for a log entry.
+	 *
+	 * @param formatter
+	 *            Formatter for text message
+	 * @param obj
+	 *            Message to log
+	 * @param arguments
+	 *            Arguments for message
+	 * @return Text message or {@code null}
+	 */
+	private static String createMessage(final MessageFormatter formatter, final Object obj, final Object[] arguments) {
 		if (arguments == null || arguments.length == 0) {
 			Object evaluatedObject = obj instanceof Supplier<?> ? ((Supplier<?>) obj).get() : obj;
-			message = evaluatedObject == null ? null : evaluatedObject.toString();
+			return evaluatedObject == null ? null : evaluatedObject.toString();
 		} else {
-			message = formatter.format((String) obj, arguments);
+			return formatter.format((String) obj, arguments);
 		}
-
-		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
 	}
 
 }
@@ -15,32 +15,44 @@ package org.tinylog.core;
 
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.tinylog.Level;
 import org.tinylog.format.MessageFormatter;
+import org.tinylog.provider.ClassAwareLoggingProvider;
 import org.tinylog.provider.ContextProvider;
 import org.tinylog.provider.InternalLogger;
-import org.tinylog.provider.LoggingProvider;
 import org.tinylog.runtime.RuntimeProvider;
 import org.tinylog.writers.Writer;
 
 /**
  * tinylog's native logging provider implementation.
  */
-public class TinylogLoggingProvider implements LoggingProvider {
+public class TinylogLoggingProvider implements ClassAwareLoggingProvider {
+
+	private static final int LEVEL_CACHE_SIZE = 4096;
 
 	private final ContextProvider context;
 	private final Level globalLevel;
 	private final Map<String, Level> customLevels;
+	private final ConcurrentMap<String, Level> levelCache;
 	private final List<String> knownTags;
+	private final Map<String, Integer> tagIndices;
 	private final Collection<Writer>[][] writers;
 	private final Collection<LogEntryValue>[][] requiredLogEntryValues;
-	private final BitSet fullStackTraceRequired;
-	private final WritingThread writingThread;
+	private final BitSet[] fullStackTraceRequired;
+	private final boolean locationCache;
+	private final Map<Writer, WritingThread> writingThreads;
+	private final LogEntryPool logEntryPool;
+	private final boolean deferFormatting;
 
 	/** */
 	public TinylogLoggingProvider() {
@@ -55,15 +67,20 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		context = contextProvider;
 		globalLevel = ConfigurationParser.getGlobalLevel();
 		customLevels = ConfigurationParser.getCustomLevels();
+		levelCache = new ConcurrentHashMap<String, Level>();
 		knownTags = ConfigurationParser.getTags();
+		tagIndices = createTagIndices(knownTags);
 
 		Level minimumLevel = config.calculateMinimumLevel(globalLevel, customLevels);
 		boolean hasWritingThread = ConfigurationParser.isWritingThreadEnabled();
 
 		writers = config.createWriters(knownTags, minimumLevel, hasWritingThread);
 		requiredLogEntryValues = config.calculateRequiredLogEntryValues(writers);
-		fullStackTraceRequired = config.calculateFullStackTraceRequirements(requiredLogEntryValues);
-		writingThread = hasWritingThread ? config.createWritingThread(writers) : null;
+		fullStackTraceRequired = config.calculateFullStackTraceRequirementsPerLevel(requiredLogEntryValues);
+		locationCache = ConfigurationParser.isLocationCacheEnabled();
+		writingThreads = hasWritingThread ? config.createWritingThreads(writers) : null;
+		logEntryPool = config.createLogEntryPool();
+		deferFormatting = hasWritingThread && ConfigurationParser.isDeferredFormattingEnabled();
 
 		if (ConfigurationParser.isAutoShutdownEnabled()) {
 			Runtime.getRuntime().addShutdownHook(new Thread() {
@@ -108,6 +125,18 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		return Level.OFF;
 	}
 
+	@Override
+	public Level getMinimumLevel(final String className, final String tag) {
+		Level activeLevel = customLevels.isEmpty() ? globalLevel : getLevel(className);
+		int tagIndex = getTagIndex(tag);
+		for (int levelIndex = activeLevel.ordinal(); levelIndex < Level.OFF.ordinal(); ++levelIndex) {
+			if (!writers[tagIndex][levelIndex].isEmpty()) {
+				return Level.values()[levelIndex];
+			}
+		}
+		return Level.OFF;
+	}
+
 	@Override
 	public boolean isEnabled(final int depth, final String tag, final Level level) {
 		return isLoggable(RuntimeProvider.getCallerClassName(depth + 1), level, tag);
@@ -129,10 +158,12 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		int tagIndex = getTagIndex(tag);
 
 		StackTraceElement stackTraceElement;
-		if (fullStackTraceRequired.get(tagIndex)) {
-			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(depth + 1);
-		} else {
+		if (!fullStackTraceRequired[tagIndex].get(level.ordinal())) {
 			stackTraceElement = null;
+		} else if (locationCache) {
+			stackTraceElement = RuntimeProvider.getCachedCallerStackTraceElement(depth + 1);
+		} else {
+			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(depth + 1);
 		}
 
 		Level activeLevel;
@@ -149,9 +180,10 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		}
 
 		if (activeLevel.ordinal() <= level.ordinal()) {
-			LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(stackTraceElement, tag, level, exception, formatter, 
-					obj, arguments, requiredLogEntryValues[tagIndex], context);
-			output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+			Collection<Writer> targets = writers[tagIndex][level.ordinal()];
+			LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(logEntryPool, targets.size(), deferFormatting,
+					stackTraceElement, tag, level, exception, formatter, obj, arguments, requiredLogEntryValues[tagIndex], context);
+			output(logEntry, targets);
 		}
 	}
 
@@ -161,10 +193,12 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		int tagIndex = getTagIndex(tag);
 
 		StackTraceElement stackTraceElement;
-		if (fullStackTraceRequired.get(tagIndex)) {
-			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(loggerClassName);
-		} else {
+		if (!fullStackTraceRequired[tagIndex].get(level.ordinal())) {
 			stackTraceElement = null;
+		} else if (locationCache) {
+			stackTraceElement = RuntimeProvider.getCachedCallerStackTraceElement(loggerClassName);
+		} else {
+			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(loggerClassName);
 		}
 
 		Level activeLevel;
@@ -181,15 +215,16 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		}
 
 		if (activeLevel.ordinal() <= level.ordinal()) {
-			LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(stackTraceElement, tag, level, exception, formatter,  
-					obj, arguments, requiredLogEntryValues[tagIndex], context);
-			output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+			Collection<Writer> targets = writers[tagIndex][level.ordinal()];
+			LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(logEntryPool, targets.size(), deferFormatting,
+					stackTraceElement, tag, level, exception, formatter, obj, arguments, requiredLogEntryValues[tagIndex], context);
+			output(logEntry, targets);
 		}
 	}
 
 	@Override
 	public void shutdown() throws InterruptedException {
-		if (writingThread == null) {
+		if (writingThreads == null) {
 			for (Writer writer : TinylogLoggingConfiguration.getAllWriters(writers)) {
 				try {
 					writer.close();
@@ -198,11 +233,75 @@ public class TinylogLoggingProvider implements LoggingProvider {
 				}
 			}
 		} else {
-			writingThread.shutdown();
-			writingThread.join();
+			Collection<WritingThread> threads = getWritingThreads();
+			for (WritingThread thread : threads) {
+				thread.shutdown();
+			}
+			for (WritingThread thread : threads) {
+				thread.join();
+			}
+		}
+	}
+
+	/**
+	 * Gets the total number of log entries that have been dropped by writing threads, because their queues were full.
+	 *
+	 * @return Number of dropped log entries or {@code 0} if the writing thread is disabled
+	 */
+	public long getDroppedLogEntries() {
+		long count = 0;
+		for (WritingThread thread : getWritingThreads()) {
+			count += thread.getDroppedLogEntries();
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the number of log entries with a specific severity level that have been dropped by writing threads,
+	 * because their queues were full.
+	 *
+	 * @param level
+	 *            Severity level of dropped log entries
+	 * @return Number of dropped log entries or {@code 0} if the writing thread is disabled
+	 */
+	public long getDroppedLogEntries(final Level level) {
+		long count = 0;
+		for (WritingThread thread : getWritingThreads()) {
+			count += thread.getDroppedLogEntries(level);
+		}
+		return count;
+	}
+
+	/**
+	 * Gets all distinct writing threads.
+	 *
+	 * @return Running writing threads or an empty collection if the writing thread is disabled
+	 */
+	private Collection<WritingThread> getWritingThreads() {
+		if (writingThreads == null) {
+			return Collections.emptySet();
+		} else {
+			Collection<WritingThread> threads = Collections.newSetFromMap(new IdentityHashMap<WritingThread, Boolean>());
+			threads.addAll(writingThreads.values());
+			return threads;
 		}
 	}
 
+	/**
+	 * Creates a lookup table for resolving tag indexes in constant time.
+	 *
+	 * @param tags
+	 *            All known tags
+	 * @return Mapping from tag names to their indexes in the writer matrix
+	 */
+	private static Map<String, Integer> createTagIndices(final List<String> tags) {
+		Map<String, Integer> indices = new HashMap<String, Integer>(tags.size() * 2);
+		for (int i = 0; i < tags.size(); ++i) {
+			indices.put(tags.get(i), i + 1);
+		}
+		return indices;
+	}
+
 	/**
 	 * Gets the index of a tag.
 	 *
@@ -214,8 +313,8 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		if (tag == null) {
 			return 0;
 		} else {
-			int index = knownTags.indexOf(tag);
-			return index == -1 ? knownTags.size() + 1 : index + 1;
+			Integer index = tagIndices.get(tag);
+			return index == null ? knownTags.size() + 1 : index;
 		}
 	}
 
@@ -223,11 +322,34 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	 * Gets the severity level for a class. If there is no custom severity level for the class or one of it's
 	 * (sub-)packages, the global severity level will be returned.
 	 *
+	 * <p>
+	 * Resolved severity levels are cached for already seen classes. The cache is limited in size. Severity levels of
+	 * classes that don't fit into the cache anymore are resolved on each call.
+	 * </p>
+	 *
 	 * @param className
 	 *            Fully-qualified class name
 	 * @return Severity level for given class
 	 */
 	private Level getLevel(final String className) {
+		Level level = levelCache.get(className);
+		if (level == null) {
+			level = resolveLevel(className);
+			if (levelCache.size() < LEVEL_CACHE_SIZE) {
+				levelCache.put(className, level);
+			}
+		}
+		return level;
+	}
+
+	/**
+	 * Resolves the severity level for a class by walking up all its (sub-)packages.
+	 *
+	 * @param className
+	 *            Fully-qualified class name
+	 * @return Severity level for given class
+	 */
+	private Level resolveLevel(final String className) {
 		String key = className;
 		while (true) {
 			Level customLevel = customLevels.get(key);
@@ -253,17 +375,18 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	 *            All writers for outputting the passed log entry
 	 */
 	private void output(final LogEntry logEntry, final Iterable<Writer> writers) {
-		if (writingThread == null) {
+		if (writingThreads == null) {
 			for (Writer writer : writers) {
 				try {
 					writer.write(logEntry);
 				} catch (Exception ex) {
 					InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
 				}
+				logEntry.release();
 			}
 		} else {
 			for (Writer writer : writers) {
-				writingThread.add(writer, logEntry);
+				writingThreads.get(writer).add(writer, logEntry);
 			}
 		}
 	}
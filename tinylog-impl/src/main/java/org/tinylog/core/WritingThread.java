@@ -15,8 +15,8 @@ package org.tinylog.core;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.tinylog.Level;
 import org.tinylog.provider.InternalLogger;
@@ -24,22 +24,92 @@ import org.tinylog.writers.Writer;
 
 /**
  * Thread for writing log entries asynchronously.
+ *
+ * <p>
+ * If the queue has a limited capacity, the configured {@link OverflowPolicy} defines what happens with new log entries
+ * while the queue is full. The numbers of dropped log entries can be fetched via {@link #getDroppedLogEntries()} and
+ * {@link #getDroppedLogEntries(Level)}.
+ * </p>
+ *
+ * <p>
+ * Writers are flushed according to the configured {@link FlushPolicy}. By default, writers are flushed after each
+ * received batch of log entries.
+ * </p>
  */
 public final class WritingThread extends Thread {
 
-	private static final String THREAD_NAME = "tinylog-WritingThread";
-	private final Object mutex;
+	/**
+	 * Name of the default writing thread.
+	 */
+	static final String THREAD_NAME = "tinylog-WritingThread";
+	private static final int BATCH_SIZE = 1024;
+
 	private final Collection<Writer> writers;
-	private List<Task> tasks;
+	private final TaskQueue queue;
+	private final OverflowPolicy overflowPolicy;
+	private final Level overflowLevel;
+	private final boolean locking;
+	private final FlushPolicy flushPolicy;
+
+	private final AtomicLong totalDroppedLogEntries;
+	private final AtomicLongArray droppedLogEntries;
 
 	/**
 	 * @param writers
 	 *            Open writers
 	 */
 	WritingThread(final Collection<Writer> writers) {
-		this.mutex = new Object();
+		this(writers, new SynchronizedTaskQueue());
+	}
+
+	/**
+	 * @param writers
+	 *            Open writers
+	 * @param queue
+	 *            Queue for receiving log entries from logging threads
+	 */
+	WritingThread(final Collection<Writer> writers, final TaskQueue queue) {
+		this(writers, queue, OverflowPolicy.BLOCK, Level.OFF);
+	}
+
+	/**
+	 * @param writers
+	 *            Open writers
+	 * @param queue
+	 *            Queue for receiving log entries from logging threads
+	 * @param overflowPolicy
+	 *            Policy for handling new log entries if the queue is full
+	 * @param overflowLevel
+	 *            Severity level threshold for {@link OverflowPolicy#DROP_BELOW_LEVEL}
+	 */
+	WritingThread(final Collection<Writer> writers, final TaskQueue queue, final OverflowPolicy overflowPolicy,
+		final Level overflowLevel) {
+		this(writers, queue, overflowPolicy, overflowLevel, FlushPolicy.IMMEDIATE);
+	}
+
+	/**
+	 * @param writers
+	 *            Open writers
+	 * @param queue
+	 *            Queue for receiving log entries from logging threads
+	 * @param overflowPolicy
+	 *            Policy for handling new log entries if the queue is full
+	 * @param overflowLevel
+	 *            Severity level threshold for {@link OverflowPolicy#DROP_BELOW_LEVEL}
+	 * @param flushPolicy
+	 *            Policy for flushing writers
+	 */
+	WritingThread(final Collection<Writer> writers, final TaskQueue queue, final OverflowPolicy overflowPolicy,
+		final Level overflowLevel, final FlushPolicy flushPolicy) {
 		this.writers = writers;
-		this.tasks = new ArrayList<Task>();
+		this.queue = queue;
+		this.overflowPolicy = overflowPolicy;
+		this.overflowLevel = overflowLevel;
+		this.locking = overflowPolicy == OverflowPolicy.SYNC;
+		this.flushPolicy = flushPolicy;
+
+		this.totalDroppedLogEntries = new AtomicLong();
+		this.droppedLogEntries = new AtomicLongArray(Level.values().length);
 
 		setName(THREAD_NAME);
 		setPriority(Thread.MIN_PRIORITY);
@@ -52,19 +122,50 @@ public final class WritingThread extends Thread {
 	@Override
 	public void run() {
 		Collection<Writer> writers = new ArrayList<Writer>(1);
+		Writer[] receivedWriters = new Writer[BATCH_SIZE];
+		LogEntry[] receivedLogEntries = new LogEntry[BATCH_SIZE];
+
+		long interval = flushPolicy.getInterval();
+		long pendingSince = 0L;
+		int pendingCount = 0;
+		boolean urgent = false;
 
 		while (true) {
-			for (Task task : receiveTasks()) {
-				if (task == Task.POISON) {
+			int count;
+			if (pendingCount == 0 || interval <= 0) {
+				count = queue.drain(receivedWriters, receivedLogEntries);
+			} else {
+				long timeout = Math.max(0L, pendingSince + interval - System.nanoTime());
+				count = queue.drain(receivedWriters, receivedLogEntries, timeout);
+			}
+
+			if (pendingCount == 0 && count > 0) {
+				pendingSince = System.nanoTime();
+			}
+
+			for (int i = 0; i < count; ++i) {
+				Writer writer = receivedWriters[i];
+				LogEntry logEntry = receivedLogEntries[i];
+				receivedWriters[i] = null;
+				receivedLogEntries[i] = null;
+
+				if (writer == null) {
 					close();
 					return;
 				} else {
-					write(writers, task);
+					urgent |= flushPolicy.isUrgent(logEntry.getLevel());
+					write(writers, writer, logEntry);
+					logEntry.release();
+					pendingCount += 1;
 				}
 			}
 
-			flush(writers);
-			writers.clear();
+			if (urgent || flushPolicy.isDue(System.nanoTime() - pendingSince, pendingCount)) {
+				flush(writers);
+				writers.clear();
+				pendingCount = 0;
+				urgent = false;
+			}
 		}
 	}
 
@@ -77,10 +178,8 @@ public final class WritingThread extends Thread {
 	 *            Log entry to write
 	 */
 	public void add(final Writer writer, final LogEntry logEntry) {
-		Task task = new Task(writer, logEntry);
-		synchronized (mutex) {
-			tasks.add(task);
-			mutex.notify();
+		if (!queue.offer(writer, logEntry)) {
+			overflow(writer, logEntry);
 		}
 	}
 
@@ -93,30 +192,94 @@ public final class WritingThread extends Thread {
 	 * </p>
 	 */
 	public void shutdown() {
-		synchronized (mutex) {
-			tasks.add(Task.POISON);
-			mutex.notify();
-		}
+		queue.shutdown();
+	}
+
+	/**
+	 * Gets the total number of log entries that have been dropped, because the queue was full.
+	 *
+	 * @return Number of dropped log entries
+	 */
+	public long getDroppedLogEntries() {
+		return totalDroppedLogEntries.get();
 	}
 
 	/**
-	 * Receives all added log entries.
+	 * Gets the number of log entries with a specific severity level that have been dropped, because the queue was full.
 	 *
-	 * @return Log entries to write
+	 * @param level
+	 *            Severity level of dropped log entries
+	 * @return Number of dropped log entries
 	 */
-	private List<Task> receiveTasks() {
-		synchronized (mutex) {
-			while (tasks.isEmpty()) {
-				try {
-					mutex.wait();
-				} catch (InterruptedException ex) {
-					return Collections.emptyList();
+	public long getDroppedLogEntries(final Level level) {
+		return droppedLogEntries.get(level.ordinal());
+	}
+
+	/**
+	 * Handles a new log entry according to the overflow policy, if the queue is full.
+	 *
+	 * @param writer
+	 *            Writer to write given log entry
+	 * @param logEntry
+	 *            Log entry to write
+	 */
+	private void overflow(final Writer writer, final LogEntry logEntry) {
+		switch (overflowPolicy) {
+			case DROP_NEWEST:
+				drop(logEntry);
+				logEntry.release();
+				break;
+
+			case DROP_OLDEST:
+				do {
+					LogEntry discardedLogEntry = queue.discard();
+					if (discardedLogEntry == null) {
+						queue.add(writer, logEntry);
+						return;
+					} else {
+						drop(discardedLogEntry);
+						discardedLogEntry.release();
+					}
+				} while (!queue.offer(writer, logEntry));
+				break;
+
+			case DROP_BELOW_LEVEL:
+				if (logEntry.getLevel().ordinal() < overflowLevel.ordinal()) {
+					drop(logEntry);
+					logEntry.release();
+				} else {
+					queue.add(writer, logEntry);
 				}
-			}
+				break;
+
+			case SYNC:
+				synchronized (writer) {
+					try {
+						writer.write(logEntry);
+						writer.flush();
+					} catch (Exception ex) {
+						InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
+					}
+				}
+				logEntry.release();
+				break;
 
-			List<Task> currentTasks = tasks;
-			tasks = new ArrayList<Task>();
-			return currentTasks;
+			default:
+				queue.add(writer, logEntry);
+				break;
+		}
+	}
+
+	/**
+	 * Counts a dropped log entry. The first dropped log entry will be reported as warning.
+	 *
+	 * @param logEntry
+	 *            Dropped log entry
+	 */
+	private void drop(final LogEntry logEntry) {
+		droppedLogEntries.incrementAndGet(logEntry.getLevel().ordinal());
+		if (totalDroppedLogEntries.getAndIncrement() == 0) {
+			InternalLogger.log(Level.WARN, "Queue of writing thread is full, log entries will be dropped");
 		}
 	}
 
@@ -125,18 +288,26 @@ public final class WritingThread extends Thread {
 	 *
 	 * @param writers
 	 *            Mutable collection of used writers
-	 * @param task
+	 * @param writer
+	 *            Writer for outputting the log entry
+	 * @param logEntry
 	 *            Log entry to write
 	 */
-	private void write(final Collection<Writer> writers, final Task task) {
+	private void write(final Collection<Writer> writers, final Writer writer, final LogEntry logEntry) {
 		try {
-			Writer writer = task.writer;
-			writer.write(task.logEntry);
+			if (locking) {
+				synchronized (writer) {
+					writer.write(logEntry);
+				}
+			} else {
+				writer.write(logEntry);
+			}
+
 			if (!writers.contains(writer)) {
 				writers.add(writer);
 			}
 		} catch (Exception ex) {
-			InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + task.logEntry.getMessage() + "'");
+			InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
 		}
 	}
 
@@ -149,7 +320,13 @@ public final class WritingThread extends Thread {
 	private void flush(final Collection<Writer> writers) {
 		for (Writer writer : writers) {
 			try {
-				writer.flush();
+				if (locking) {
+					synchronized (writer) {
+						writer.flush();
+					}
+				} else {
+					writer.flush();
+				}
 			} catch (Exception ex) {
 				InternalLogger.log(Level.ERROR, ex, "Failed to flush writer");
 			}
@@ -162,34 +339,17 @@ public final class WritingThread extends Thread {
 	private void close() {
 		for (Writer writer : writers) {
 			try {
-				writer.close();
+				if (locking) {
+					synchronized (writer) {
+						writer.close();
+					}
+				} else {
+					writer.close();
+				}
 			} catch (Exception ex) {
 				InternalLogger.log(Level.ERROR, ex, "Failed to close writer");
 			}
 		}
 	}
 
-	/**
-	 * Tuple that contains a log entry and a writer for outputting it.
-	 */
-	private static final class Task {
-
-		private static final Task POISON = null;
-
-		private final Writer writer;
-		private final LogEntry logEntry;
-
-		/**
-		 * @param writer
-		 *            Writer for outputting log entry
-		 * @param logEntry
-		 *            Log entry to write
-		 */
-		Task(final Writer writer, final LogEntry logEntry) {
-			this.writer = writer;
-			this.logEntry = logEntry;
-		}
-
-	}
-
 }
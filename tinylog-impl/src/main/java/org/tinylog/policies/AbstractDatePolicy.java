@@ -22,10 +22,11 @@ import java.util.regex.Pattern;
 /**
  * Abstract base class for date based policies.
  *
+ * @see HourlyPolicy
  * @see DailyPolicy
  * @see MonthlyPolicy
  */
-public abstract class AbstractDatePolicy implements Policy {
+public abstract class AbstractDatePolicy implements LengthAwarePolicy, TimeBasedPolicy {
 
 	/* Regular expression for a time with hours, optional minutes, and optional time zone */
 	private static final Pattern TIME_PATTERN = Pattern.compile(
@@ -87,6 +88,16 @@ public abstract class AbstractDatePolicy implements Policy {
 		return calendar.getTimeInMillis() > System.currentTimeMillis();
 	}
 
+	@Override
+	public final boolean continueCurrentFile(final int length) {
+		return calendar.getTimeInMillis() > System.currentTimeMillis();
+	}
+
+	@Override
+	public final long getNextRollover() {
+		return calendar.getTimeInMillis();
+	}
+
 	@Override
 	public final void reset() {
 		while (calendar.getTimeInMillis() <= System.currentTimeMillis()) {
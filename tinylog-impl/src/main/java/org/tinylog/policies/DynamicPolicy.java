@@ -21,7 +21,7 @@ import org.tinylog.provider.InternalLogger;
  * Policy for triggering a manual rollover by calling {@link #setReset()}.
  * Might be used together with {@link DynamicSegment}.
  */
-public final class DynamicPolicy implements Policy {
+public final class DynamicPolicy implements LengthAwarePolicy {
 
 	private static volatile boolean reset;
 
@@ -49,6 +49,11 @@ public final class DynamicPolicy implements Policy {
 		return !reset;
 	}
 
+	@Override
+	public boolean continueCurrentFile(final int length) {
+		return !reset;
+	}
+
 	@Override
 	public void reset() {
 		reset = false;
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+import java.util.Calendar;
+
+/**
+ * Policy for triggering a rollover every hour at a defined minute. The default minute is 0 (full hour).
+ */
+public final class HourlyPolicy extends AbstractDatePolicy {
+
+	/** */
+	public HourlyPolicy() {
+		this(null);
+	}
+
+	/**
+	 * @param argument
+	 *            Minute of hour for starting new log file (e.g. "30") with optional time zone (e.g. "30@UTC")
+	 */
+	public HourlyPolicy(final String argument) {
+		super("hourly policy", argument == null || argument.isEmpty() ? null : "0:" + argument);
+	}
+
+	@Override
+	protected void truncate(final Calendar calendar, final int hourOfDay, final int minuteOfHour) {
+		calendar.set(Calendar.MINUTE, minuteOfHour);
+		calendar.set(Calendar.SECOND, 0);
+		calendar.set(Calendar.MILLISECOND, 0);
+	}
+
+	@Override
+	protected void scrollBack(final Calendar calendar) {
+		calendar.add(Calendar.HOUR_OF_DAY, -1);
+	}
+
+	@Override
+	protected void scrollAhead(final Calendar calendar) {
+		calendar.add(Calendar.HOUR_OF_DAY, 1);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Policy for triggering a rollover in fixed time intervals (e.g. "15m" for every quarter of an hour). The intervals
+ * are aligned to the local time. Supported units are "d" for days, "h" for hours, "m" for minutes, and "s" for
+ * seconds.
+ */
+public final class IntervalPolicy implements LengthAwarePolicy, TimeBasedPolicy {
+
+	private static final long SECOND = 1000L;
+	private static final long MINUTE = SECOND * 60L;
+	private static final long HOUR = MINUTE * 60L;
+	private static final long DAY = HOUR * 24L;
+
+	private final long interval;
+	private long nextRollover;
+
+	/** */
+	public IntervalPolicy() {
+		this(null);
+	}
+
+	/**
+	 * @param argument
+	 *            Interval with unit (e.g. "15m")
+	 *
+	 * @throws IllegalArgumentException
+	 *             Interval is missing or invalid
+	 */
+	public IntervalPolicy(final String argument) {
+		if (argument == null || argument.isEmpty()) {
+			throw new IllegalArgumentException("No interval defined for interval policy");
+		} else {
+			try {
+				interval = parse(argument.trim().toLowerCase(Locale.ROOT));
+			} catch (NumberFormatException ex) {
+				throw new IllegalArgumentException("Invalid interval \"" + argument + "\" for interval policy");
+			}
+			if (interval <= 0) {
+				throw new IllegalArgumentException("Invalid interval \"" + argument + "\" for interval policy");
+			}
+		}
+
+		reset();
+	}
+
+	@Override
+	public boolean continueExistingFile(final String path) {
+		return nextRollover - interval <= new File(path).lastModified();
+	}
+
+	@Override
+	public boolean continueCurrentFile(final byte[] entry) {
+		return nextRollover > System.currentTimeMillis();
+	}
+
+	@Override
+	public boolean continueCurrentFile(final int length) {
+		return nextRollover > System.currentTimeMillis();
+	}
+
+	@Override
+	public long getNextRollover() {
+		return nextRollover;
+	}
+
+	@Override
+	public void reset() {
+		long now = System.currentTimeMillis();
+		long offset = TimeZone.getDefault().getOffset(now);
+		long local = now + offset;
+		nextRollover = local - floorMod(local, interval) + interval - offset;
+	}
+
+	/**
+	 * Parses an interval with unit.
+	 *
+	 * @param argument
+	 *            Interval in lower case letters
+	 * @return Interval in milliseconds
+	 * @throws NumberFormatException
+	 *             Invalid number or unit
+	 */
+	private static long parse(final String argument) throws NumberFormatException {
+		String number = argument.substring(0, argument.length() - 1).trim();
+		if (argument.endsWith("d")) {
+			return Long.parseLong(number) * DAY;
+		} else if (argument.endsWith("h")) {
+			return Long.parseLong(number) * HOUR;
+		} else if (argument.endsWith("m")) {
+			return Long.parseLong(number) * MINUTE;
+		} else if (argument.endsWith("s")) {
+			return Long.parseLong(number) * SECOND;
+		} else {
+			throw new NumberFormatException("Missing unit");
+		}
+	}
+
+	/**
+	 * Calculates the non-negative remainder of a division.
+	 *
+	 * @param dividend
+	 *            Number to divide
+	 * @param divisor
+	 *            Positive number to divide by
+	 * @return Remainder between zero (inclusive) and the divisor (exclusive)
+	 */
+	private static long floorMod(final long dividend, final long divisor) {
+		long remainder = dividend % divisor;
+		return remainder < 0 ? remainder + divisor : remainder;
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+/**
+ * Extension for policies that only need the length of a log entry for deciding whether a log entry can be appended to
+ * the current log file.
+ *
+ * <p>
+ * {@link org.tinylog.writers.RollingFileWriter RollingFileWriter} can write log entries directly from its reusable
+ * encoding buffer without copying them into a separate byte array, if all configured policies implement this
+ * interface.
+ * </p>
+ */
+public interface LengthAwarePolicy extends Policy {
+
+	/**
+	 * Checks if a log entry with the passed length can be appended to the current log file.
+	 *
+	 * @param length
+	 *            Length of log entry in bytes
+	 * @return {@code true} if log entry can be appended to the current log file, {@code false} if a new log file should
+	 *         be created
+	 */
+	boolean continueCurrentFile(int length);
+
+}
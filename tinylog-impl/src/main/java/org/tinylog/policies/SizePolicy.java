@@ -19,7 +19,7 @@ import java.util.Locale;
 /**
  * Policy for triggering a rollover when a log file reaches a defined maximum file size.
  */
-public final class SizePolicy implements Policy {
+public final class SizePolicy implements LengthAwarePolicy {
 
 	private static final long KB = 1024L;
 	private static final long MB = KB * 1024L;
@@ -64,7 +64,12 @@ public final class SizePolicy implements Policy {
 
 	@Override
 	public boolean continueCurrentFile(final byte[] entry) {
-		count += entry.length;
+		return continueCurrentFile(entry.length);
+	}
+
+	@Override
+	public boolean continueCurrentFile(final int length) {
+		count += length;
 		return count <= maximum;
 	}
 
@@ -19,7 +19,7 @@ import org.tinylog.provider.InternalLogger;
 /**
  * Policy for triggering a rollover at startup.
  */
-public final class StartupPolicy implements Policy {
+public final class StartupPolicy implements LengthAwarePolicy {
 
 	/** */
 	public StartupPolicy() {
@@ -46,6 +46,11 @@ public final class StartupPolicy implements Policy {
 		return true;
 	}
 
+	@Override
+	public boolean continueCurrentFile(final int length) {
+		return true;
+	}
+
 	@Override
 	public void reset() {
 	}
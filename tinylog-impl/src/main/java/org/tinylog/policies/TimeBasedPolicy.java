@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+/**
+ * Extension for policies that trigger rollovers at precomputed points in time.
+ *
+ * <p>
+ * {@link org.tinylog.writers.RollingFileWriter RollingFileWriter} caches the earliest next rollover of all time
+ * based policies and compares it with the current time instead of calling {@link #continueCurrentFile(byte[])} for
+ * each log entry. Therefore, the next rollover must only change when the policy is {@link #reset()}.
+ * </p>
+ */
+public interface TimeBasedPolicy extends Policy {
+
+	/**
+	 * Gets the point in time, at which the next rollover should be triggered.
+	 *
+	 * @return Milliseconds since 1970-01-01T00:00:00Z
+	 */
+	long getNextRollover();
+
+}
@@ -19,15 +19,23 @@ import java.io.RandomAccessFile;
 import java.nio.channels.FileLock;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.tinylog.Level;
 import org.tinylog.provider.InternalLogger;
 import org.tinylog.writers.raw.BufferedWriterDecorator;
 import org.tinylog.writers.raw.ByteArrayWriter;
 import org.tinylog.writers.raw.CharsetAdjustmentWriterDecorator;
+import org.tinylog.writers.raw.DoubleBufferedWriterDecorator;
+import org.tinylog.writers.raw.DurableWriterDecorator;
+import org.tinylog.writers.raw.FileChannelWriter;
+import org.tinylog.writers.raw.FileIo;
 import org.tinylog.writers.raw.LockedRandomAccessFileWriter;
+import org.tinylog.writers.raw.MappedFileWriter;
 import org.tinylog.writers.raw.RandomAccessFileWriter;
+import org.tinylog.writers.raw.SyncMode;
 import org.tinylog.writers.raw.SynchronizedWriterDecorator;
 
 /**
@@ -35,12 +43,30 @@ import org.tinylog.writers.raw.SynchronizedWriterDecorator;
  */
 public abstract class AbstractFileBasedWriter extends AbstractWriter {
 
+	private static final long KB = 1024L;
+	private static final long MB = KB * 1024L;
+	private static final long GB = MB * 1024L;
+
+	private static final long DEFAULT_SYNC_INTERVAL = 1000L; // 1 second
+
+	private final FileIo io;
+	private final int bufferSize;
+	private final boolean doubleBuffered;
+	private final SyncMode sync;
+	private final long syncInterval;
+
 	/**
 	 * @param properties
 	 *            Configuration for writer
 	 */
 	protected AbstractFileBasedWriter(final Map<String, String> properties) {
 		super(properties);
+
+		io = getFileIo();
+		bufferSize = getBufferSize();
+		doubleBuffered = getBooleanValue("buffer.double");
+		sync = getSyncMode();
+		syncInterval = getSyncInterval();
 	}
 
 	/**
@@ -76,7 +102,126 @@ public abstract class AbstractFileBasedWriter extends AbstractWriter {
 	}
 
 	/**
-	 * Creates a {@link ByteArrayWriter} for a file.
+	 * Extracts the I/O method from configuration. {@link FileIo#STREAM} will be returned, if no I/O method is defined
+	 * or the defined I/O method doesn't exist.
+	 *
+	 * @return Configured I/O method
+	 */
+	private FileIo getFileIo() {
+		String io = getStringValue("io");
+		try {
+			return io == null ? FileIo.STREAM : FileIo.fromName(io);
+		} catch (IllegalArgumentException ex) {
+			InternalLogger.log(Level.ERROR, "Invalid I/O method: " + io);
+			return FileIo.STREAM;
+		}
+	}
+
+	/**
+	 * Extracts the buffer size from configuration. Zero will be returned, if buffering is disabled. The default buffer
+	 * size will be returned, if buffering is enabled but no or an invalid buffer size is defined.
+	 *
+	 * @return Buffer size in bytes or zero for unbuffered output
+	 */
+	private int getBufferSize() {
+		if (!getBooleanValue("buffered")) {
+			return 0;
+		}
+
+		String size = getStringValue("buffer.size");
+		if (size == null) {
+			return BufferedWriterDecorator.DEFAULT_CAPACITY;
+		}
+
+		try {
+			long bytes = parseSize(size);
+			if (bytes > 0 && bytes <= Integer.MAX_VALUE) {
+				return (int) bytes;
+			}
+		} catch (NumberFormatException ex) {
+			// Handled below
+		}
+
+		InternalLogger.log(Level.ERROR, "Invalid buffer size: " + size);
+		return BufferedWriterDecorator.DEFAULT_CAPACITY;
+	}
+
+	/**
+	 * Extracts the sync mode from configuration. {@link SyncMode#NONE} will be returned, if no sync mode is defined or
+	 * the defined sync mode doesn't exist.
+	 *
+	 * @return Configured sync mode
+	 */
+	private SyncMode getSyncMode() {
+		String mode = getStringValue("sync");
+		try {
+			return mode == null ? SyncMode.NONE : SyncMode.fromName(mode);
+		} catch (IllegalArgumentException ex) {
+			InternalLogger.log(Level.ERROR, "Invalid sync mode: " + mode);
+			return SyncMode.NONE;
+		}
+	}
+
+	/**
+	 * Extracts the interval for {@link SyncMode#INTERVAL} from configuration. Milliseconds ("ms") and seconds ("s")
+	 * are supported as units. Milliseconds are used if no unit is defined.
+	 *
+	 * @return Interval in milliseconds
+	 */
+	private long getSyncInterval() {
+		String interval = getStringValue("sync.interval");
+		if (interval == null) {
+			return DEFAULT_SYNC_INTERVAL;
+		}
+
+		String value = interval.trim().toLowerCase(Locale.ROOT);
+		try {
+			long milliseconds;
+			if (value.endsWith("ms")) {
+				milliseconds = Long.parseLong(value.substring(0, value.length() - "ms".length()).trim());
+			} else if (value.endsWith("s")) {
+				milliseconds = TimeUnit.SECONDS.toMillis(Long.parseLong(value.substring(0, value.length() - "s".length()).trim()));
+			} else {
+				milliseconds = Long.parseLong(value);
+			}
+
+			if (milliseconds >= 0) {
+				return milliseconds;
+			}
+		} catch (NumberFormatException ex) {
+			// Handled below
+		}
+
+		InternalLogger.log(Level.ERROR, "Invalid sync interval: " + interval);
+		return DEFAULT_SYNC_INTERVAL;
+	}
+
+	/**
+	 * Parses a size in bytes from a string. The units GB, MB, KB and bytes are supported.
+	 *
+	 * @param argument
+	 *            Size with or without unit
+	 * @return Parsed size in bytes
+	 * @throws NumberFormatException
+	 *             Failed to parse size
+	 */
+	protected static long parseSize(final String argument) throws NumberFormatException {
+		String size = argument.trim().toLowerCase(Locale.ROOT);
+		if (size.endsWith("gb")) {
+			return Long.parseLong(size.substring(0, size.length() - "gb".length()).trim()) * GB;
+		} else if (size.endsWith("mb")) {
+			return Long.parseLong(size.substring(0, size.length() - "mb".length()).trim()) * MB;
+		} else if (size.endsWith("kb")) {
+			return Long.parseLong(size.substring(0, size.length() - "kb".length()).trim()) * KB;
+		} else if (size.endsWith("bytes")) {
+			return Long.parseLong(size.substring(0, size.length() - "bytes".length()).trim());
+		} else {
+			return Long.parseLong(size);
+		}
+	}
+
+	/**
+	 * Creates a {@link ByteArrayWriter} for a file that uses {@link RandomAccessFile} for writing.
 	 *
 	 * @param fileName
 	 *            Name of file to open for writing
@@ -97,6 +242,66 @@ public abstract class AbstractFileBasedWriter extends AbstractWriter {
 	protected static ByteArrayWriter createByteArrayWriter(final String fileName, final boolean append,
 			final boolean buffered, final boolean threadSafe, final boolean shared, final Charset charset)
 			throws IOException {
+		int bufferSize = buffered ? BufferedWriterDecorator.DEFAULT_CAPACITY : 0;
+		return createByteArrayWriter(fileName, append, bufferSize, false, threadSafe, shared, charset, FileIo.STREAM,
+			SyncMode.NONE, 0);
+	}
+
+	/**
+	 * Creates a {@link ByteArrayWriter} for a file. I/O method, buffering and sync mode are taken from the
+	 * configuration of this writer.
+	 *
+	 * @param fileName
+	 *            Name of file to open for writing
+	 * @param append
+	 *            An already existing file should be continued
+	 * @param threadSafe
+	 *            Created writer must be thread-safe
+	 * @param shared
+	 *            Output file is shared with other processes
+	 * @param charset
+	 *            Charset used by the writer
+	 * @return Writer for writing to passed file
+	 * @throws IOException
+	 *             Log file cannot be opened for write access
+	 */
+	protected ByteArrayWriter createByteArrayWriter(final String fileName, final boolean append, final boolean threadSafe,
+			final boolean shared, final Charset charset) throws IOException {
+		return createByteArrayWriter(fileName, append, bufferSize, doubleBuffered, threadSafe, shared, charset, io, sync,
+			syncInterval);
+	}
+
+	/**
+	 * Creates a {@link ByteArrayWriter} for a file. Shared files are always written via {@link RandomAccessFile}
+	 * regardless of the passed I/O method, since appending by multiple processes requires file locking.
+	 *
+	 * @param fileName
+	 *            Name of file to open for writing
+	 * @param append
+	 *            An already existing file should be continued
+	 * @param bufferSize
+	 *            Buffer size in bytes or zero for unbuffered output
+	 * @param doubleBuffered
+	 *            Buffered output should be written by a separate I/O thread while a second buffer is filled
+	 * @param threadSafe
+	 *            Created writer must be thread-safe
+	 * @param shared
+	 *            Output file is shared with other processes
+	 * @param charset
+	 *            Charset used by the writer
+	 * @param io
+	 *            I/O method for writing to the file
+	 * @param sync
+	 *            Defines when written data is forced to the storage device
+	 * @param syncInterval
+	 *            Minimum time in milliseconds between two force operations for {@link SyncMode#INTERVAL}
+	 * @return Writer for writing to passed file
+	 * @throws IOException
+	 *             Log file cannot be opened for write access
+	 */
+	private static ByteArrayWriter createByteArrayWriter(final String fileName, final boolean append,
+			final int bufferSize, final boolean doubleBuffered, final boolean threadSafe, final boolean shared,
+			final Charset charset, final FileIo io, final SyncMode sync, final long syncInterval) throws IOException {
 		File file = new File(fileName).getAbsoluteFile();
 		file.getParentFile().mkdirs();
 
@@ -104,6 +309,7 @@ public abstract class AbstractFileBasedWriter extends AbstractWriter {
 		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
 
 		ByteArrayWriter writer;
+		MappedFileWriter mappedWriter = null;
 		if (shared) {
 			FileLock lock = randomAccessFile.getChannel().lock();
 			try {
@@ -115,11 +321,35 @@ public abstract class AbstractFileBasedWriter extends AbstractWriter {
 			writer = new LockedRandomAccessFileWriter(randomAccessFile);
 		} else {
 			prepareLogFile(randomAccessFile, append, charsetHeader);
-			writer = new RandomAccessFileWriter(randomAccessFile);
+			if (io == FileIo.MMAP) {
+				mappedWriter = new MappedFileWriter(randomAccessFile, sync != SyncMode.NONE);
+				writer = mappedWriter;
+			} else if (io == FileIo.CHANNEL) {
+				writer = new FileChannelWriter(randomAccessFile);
+			} else {
+				writer = new RandomAccessFileWriter(randomAccessFile);
+			}
 		}
 
-		if (buffered) {
-			writer = new BufferedWriterDecorator(writer);
+		if (bufferSize > 0) {
+			if (doubleBuffered) {
+				// Data has to be written completely before it can be forced to the storage device
+				writer = new DoubleBufferedWriterDecorator(writer, bufferSize, sync != SyncMode.NONE);
+			} else {
+				writer = new BufferedWriterDecorator(writer, bufferSize);
+			}
+		}
+
+		if (sync != SyncMode.NONE) {
+			// Without writing thread, writers are not flushed after batches. Therefore, each write is a batch.
+			SyncMode mode = sync == SyncMode.BATCH && threadSafe ? SyncMode.INTERVAL : sync;
+			long interval = sync == SyncMode.BATCH && threadSafe ? 0 : syncInterval;
+
+			if (mappedWriter == null) {
+				writer = new DurableWriterDecorator(writer, randomAccessFile.getChannel(), mode, interval);
+			} else {
+				writer = new DurableWriterDecorator(writer, mappedWriter, mode, interval);
+			}
 		}
 
 		if (threadSafe) {
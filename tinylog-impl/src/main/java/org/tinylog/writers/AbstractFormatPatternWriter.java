@@ -13,6 +13,7 @@
 
 package org.tinylog.writers;
 
+import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Map;
 
@@ -20,6 +21,7 @@ import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
 import org.tinylog.pattern.FormatPatternParser;
 import org.tinylog.pattern.Token;
+import org.tinylog.writers.raw.TextEncoder;
 
 /**
  * Base writer for outputting rendered log entries. The format pattern will be read from property {@code format}.
@@ -29,10 +31,15 @@ public abstract class AbstractFormatPatternWriter extends AbstractFileBasedWrite
 	private static final String DEFAULT_FORMAT_PATTERN = "{date} [{thread}] {class}.{method}()\n{level}: {message}";
 	private static final String NEW_LINE = System.getProperty("line.separator");
 	private static final int BUILDER_CAPACITY = 1024;
+	private static final int MAX_BUILDER_CAPACITY = 64 * 1024;
 
 	private final StringBuilder builder;
+	private final ThreadLocalBuilder threadLocalBuilder;
+	private final ThreadLocal<TextEncoder> threadLocalEncoder;
 	private final Token token;
 
+	private TextEncoder encoder;
+
 	/**
 	 * @param properties
 	 *            Configuration for writer
@@ -46,7 +53,16 @@ public abstract class AbstractFormatPatternWriter extends AbstractFileBasedWrite
 		}
 
 		token = new FormatPatternParser(getStringValue("exception")).parse(pattern + NEW_LINE);
-		builder = getBooleanValue("writingthread") ? new StringBuilder(BUILDER_CAPACITY) : null;
+
+		if (getBooleanValue("writingthread")) {
+			builder = new StringBuilder(BUILDER_CAPACITY);
+			threadLocalBuilder = null;
+			threadLocalEncoder = null;
+		} else {
+			builder = null;
+			threadLocalBuilder = new ThreadLocalBuilder(BUILDER_CAPACITY, MAX_BUILDER_CAPACITY);
+			threadLocalEncoder = new ThreadLocal<TextEncoder>();
+		}
 	}
 
 	/**
@@ -69,9 +85,11 @@ public abstract class AbstractFormatPatternWriter extends AbstractFileBasedWrite
 	 */
 	protected final String render(final LogEntry logEntry) {
 		if (builder == null) {
-			StringBuilder builder = new StringBuilder(BUILDER_CAPACITY);
+			StringBuilder builder = threadLocalBuilder.acquire();
 			token.render(logEntry, builder);
-			return builder.toString();
+			String result = builder.toString();
+			threadLocalBuilder.release(builder);
+			return result;
 		} else {
 			builder.setLength(0);
 			token.render(logEntry, builder);
@@ -79,4 +97,55 @@ public abstract class AbstractFormatPatternWriter extends AbstractFileBasedWrite
 		}
 	}
 
+	/**
+	 * Removes the render buffers of the current thread, if the writer is not used by the writing thread. Child
+	 * writers should call this method when being closed.
+	 */
+	protected final void releaseRenderBuffers() {
+		if (builder == null) {
+			threadLocalBuilder.close();
+			threadLocalEncoder.remove();
+		}
+	}
+
+	/**
+	 * Renders a log entry and encodes it as bytes. In contrast to {@link #render(LogEntry)}, no intermediate string
+	 * will be created.
+	 *
+	 * <p>
+	 * The returned encoder is reused for all log entries of the writing thread, or of the current thread if the
+	 * writing thread is disabled. Therefore, the encoded bytes have to be consumed before encoding the next log entry.
+	 * </p>
+	 *
+	 * @param logEntry
+	 *            Log entry to render
+	 * @param charset
+	 *            Charset for encoding the rendered log entry
+	 * @return Encoder that contains the encoded log entry
+	 */
+	protected final TextEncoder encode(final LogEntry logEntry, final Charset charset) {
+		if (builder == null) {
+			StringBuilder builder = threadLocalBuilder.acquire();
+			token.render(logEntry, builder);
+
+			TextEncoder encoder = threadLocalEncoder.get();
+			if (encoder == null || encoder.getBuffer().length > MAX_BUILDER_CAPACITY) {
+				encoder = new TextEncoder(charset);
+				threadLocalEncoder.set(encoder);
+			}
+
+			encoder.encode(builder);
+			threadLocalBuilder.release(builder);
+			return encoder;
+		} else {
+			builder.setLength(0);
+			token.render(logEntry, builder);
+			if (encoder == null) {
+				encoder = new TextEncoder(charset);
+			}
+			encoder.encode(builder);
+			return encoder;
+		}
+	}
+
 }
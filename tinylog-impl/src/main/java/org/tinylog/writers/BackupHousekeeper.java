@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.tinylog.converters.NamedDaemonThreadFactory;
+import org.tinylog.path.FileTuple;
+
+/**
+ * Housekeeper for deleting obsolete log files in a background thread.
+ *
+ * <p>
+ *     Log files can be retained by count, by total size and by age. The housekeeper keeps an index of all known log
+ *     files, which is only accessed by its background thread. Therefore, the logging thread never blocks on file system
+ *     operations for deleting log files. The current log file, which has been registered last, is never deleted.
+ * </p>
+ *
+ * <p>
+ *     Sizes and ages of log files are only determined if a maximum total size or age is defined. If log files are
+ *     retained only by count, the oldest log files are removed from the head of the index without any file system
+ *     access for retained log files.
+ * </p>
+ */
+final class BackupHousekeeper {
+
+	private static final String THREAD_NAME = "tinylog-HousekeepingThread";
+
+	private static final long KB = 1024;
+	private static final long MB = 1024 * KB;
+	private static final long GB = 1024 * MB;
+
+	private static final long SECOND = 1000;
+	private static final long MINUTE = 60 * SECOND;
+	private static final long HOUR = 60 * MINUTE;
+	private static final long DAY = 24 * HOUR;
+
+	private final int count;
+	private final long size;
+	private final long age;
+
+	private final Map<File, FileTuple> knownFiles;
+	private final ExecutorService executor;
+
+	/**
+	 * @param count
+	 *            Maximum number of log files to keep including the current one
+	 * @param size
+	 *            Maximum total size in bytes of all log files to keep including the current one
+	 * @param age
+	 *            Maximum age in milliseconds of log files to keep
+	 */
+	BackupHousekeeper(final int count, final long size, final long age) {
+		this.count = count;
+		this.size = size;
+		this.age = age;
+		this.knownFiles = new LinkedHashMap<File, FileTuple>();
+		this.executor = Executors.newSingleThreadExecutor(new NamedDaemonThreadFactory(THREAD_NAME));
+	}
+
+	/**
+	 * Registers log files as most recent log files and deletes obsolete log files asynchronously afterwards.
+	 *
+	 * @param files
+	 *            Log files to register, sorted from oldest to newest
+	 */
+	void register(final List<FileTuple> files) {
+		executor.execute(new Registration(files));
+	}
+
+	/**
+	 * Waits until all registered log files have been processed and stops the background thread.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the background thread
+	 */
+	void shutdown() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Parses a total size for log files to keep.
+	 *
+	 * @param property
+	 *            Size with unit (for example "20gb")
+	 * @return Size in bytes or {@link Long#MAX_VALUE} if the passed property is {@code null}
+	 * @throws IllegalArgumentException
+	 *             Invalid size
+	 */
+	static long parseSize(final String property) {
+		if (property == null) {
+			return Long.MAX_VALUE;
+		}
+
+		String text = property.trim().toLowerCase(Locale.ROOT);
+		long result;
+
+		try {
+			if (text.endsWith("gb")) {
+				result = Long.parseLong(text.substring(0, text.length() - "gb".length()).trim()) * GB;
+			} else if (text.endsWith("mb")) {
+				result = Long.parseLong(text.substring(0, text.length() - "mb".length()).trim()) * MB;
+			} else if (text.endsWith("kb")) {
+				result = Long.parseLong(text.substring(0, text.length() - "kb".length()).trim()) * KB;
+			} else if (text.endsWith("bytes")) {
+				result = Long.parseLong(text.substring(0, text.length() - "bytes".length()).trim());
+			} else {
+				result = Long.parseLong(text);
+			}
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid size \"" + property + "\" for backups");
+		}
+
+		if (result <= 0) {
+			throw new IllegalArgumentException("Invalid size \"" + property + "\" for backups");
+		}
+
+		return result;
+	}
+
+	/**
+	 * Parses a maximum age for log files to keep.
+	 *
+	 * @param property
+	 *            Age with unit "d" for days, "h" for hours, "m" for minutes, or "s" for seconds (for example "14d")
+	 * @return Age in milliseconds or {@link Long#MAX_VALUE} if the passed property is {@code null}
+	 * @throws IllegalArgumentException
+	 *             Invalid age
+	 */
+	static long parseAge(final String property) {
+		if (property == null) {
+			return Long.MAX_VALUE;
+		}
+
+		String text = property.trim().toLowerCase(Locale.ROOT);
+		long unit;
+
+		if (text.endsWith("d")) {
+			unit = DAY;
+		} else if (text.endsWith("h")) {
+			unit = HOUR;
+		} else if (text.endsWith("m")) {
+			unit = MINUTE;
+		} else if (text.endsWith("s")) {
+			unit = SECOND;
+		} else {
+			throw new IllegalArgumentException("Missing time unit in age \"" + property + "\" for backups");
+		}
+
+		long result;
+
+		try {
+			result = Long.parseLong(text.substring(0, text.length() - 1).trim()) * unit;
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid age \"" + property + "\" for backups");
+		}
+
+		if (result <= 0) {
+			throw new IllegalArgumentException("Invalid age \"" + property + "\" for backups");
+		}
+
+		return result;
+	}
+
+	/**
+	 * Deletes all known log files that exceed the maximum count, total size, or age. Log files are retained from the
+	 * newest to the oldest. As soon as the maximum count or total size is reached, all older log files are deleted.
+	 */
+	private void deleteObsoleteFiles() {
+		if (size == Long.MAX_VALUE && age == Long.MAX_VALUE) {
+			deleteExceedingFiles();
+			return;
+		}
+
+		List<FileTuple> files = new ArrayList<FileTuple>(knownFiles.values());
+		boolean bySize = size != Long.MAX_VALUE;
+		boolean byAge = age != Long.MAX_VALUE;
+		long deadline = byAge ? System.currentTimeMillis() - age : Long.MIN_VALUE;
+
+		int keptFiles = 1;
+		long keptSize = bySize ? getSize(files.get(files.size() - 1)) : 0;
+		boolean exceeded = false;
+
+		for (int i = files.size() - 2; i >= 0; --i) {
+			FileTuple tuple = files.get(i);
+
+			if (!exceeded) {
+				keptFiles += 1;
+				if (bySize) {
+					keptSize += getSize(tuple);
+				}
+				exceeded = keptFiles > count || keptSize > size;
+			}
+
+			if (exceeded || byAge && tuple.getLastModified() < deadline) {
+				tuple.delete();
+				knownFiles.remove(tuple.getOriginal());
+			}
+		}
+	}
+
+	/**
+	 * Deletes the oldest known log files that exceed the maximum count. The costs depend only on the number of deleted
+	 * log files, since they are removed from the head of the index.
+	 */
+	private void deleteExceedingFiles() {
+		Iterator<FileTuple> iterator = knownFiles.values().iterator();
+		for (int i = knownFiles.size() - Math.max(count, 1); i > 0; --i) {
+			iterator.next().delete();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Gets the total size of an original log file and its backup file.
+	 *
+	 * @param tuple
+	 *            Original log file and backup file
+	 * @return Size in bytes
+	 */
+	private static long getSize(final FileTuple tuple) {
+		File original = tuple.getOriginal();
+		File backup = tuple.getBackup();
+		return original.equals(backup) ? original.length() : original.length() + backup.length();
+	}
+
+	/**
+	 * Task for registering log files in the index of known log files.
+	 */
+	private final class Registration implements Runnable {
+
+		private final List<FileTuple> files;
+
+		/**
+		 * @param files
+		 *            Log files to register, sorted from oldest to newest
+		 */
+		private Registration(final List<FileTuple> files) {
+			this.files = files;
+		}
+
+		@Override
+		public void run() {
+			for (FileTuple tuple : files) {
+				knownFiles.remove(tuple.getOriginal());
+				knownFiles.put(tuple.getOriginal(), tuple);
+			}
+
+			if (!knownFiles.isEmpty()) {
+				deleteObsoleteFiles();
+			}
+		}
+
+	}
+
+}
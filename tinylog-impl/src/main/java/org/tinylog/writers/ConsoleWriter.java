@@ -98,6 +98,7 @@ public final class ConsoleWriter extends AbstractFormatPatternWriter {
 
 	@Override
 	public void close() {
+		releaseRenderBuffers();
 	}
 
 }
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.tinylog.core.LogEntry;
 import org.tinylog.writers.raw.ByteArrayWriter;
+import org.tinylog.writers.raw.TextEncoder;
 
 /**
  * Writer for outputting log entries to a log file. Already existing files can be continued and the output can be
@@ -54,17 +55,16 @@ public final class FileWriter extends AbstractFormatPatternWriter {
 
 		String fileName = getFileName();
 		boolean append = getBooleanValue("append");
-		boolean buffered = getBooleanValue("buffered");
 		boolean writingThread = getBooleanValue("writingthread");
 
 		charset = getCharset();
-		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, false, charset);
+		writer = createByteArrayWriter(fileName, append, !writingThread, false, charset);
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		byte[] data = render(logEntry).getBytes(charset);
-		writer.write(data, 0, data.length);
+		TextEncoder encoder = encode(logEntry, charset);
+		writer.write(encoder.getBuffer(), 0, encoder.getLength());
 	}
 
 	@Override
@@ -74,6 +74,7 @@ public final class FileWriter extends AbstractFormatPatternWriter {
 
 	@Override
 	public void close() throws IOException {
+		releaseRenderBuffers();
 		writer.close();
 	}
 
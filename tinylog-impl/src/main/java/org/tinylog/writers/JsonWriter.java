@@ -38,12 +38,19 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 
 	private static final String NEW_LINE = System.getProperty("line.separator");
 	private static final int BUFFER_SIZE = 1024;
+	private static final int BUILDER_CAPACITY = 1024;
+	private static final int MAX_BUILDER_CAPACITY = 64 * 1024;
 	private static final String FIELD_PREFIX = "field.";
+	private static final boolean WINDOWS_NEW_LINE = "\r\n".equals(NEW_LINE);
+	private static final String[] ESCAPES = createEscapes();
 
 	private final Charset charset;
 	private final ByteArrayWriter writer;
-	private final Map<String, Token> fields;
+	private final Token[] tokens;
+	private final String[] prefixes;
+	private final String separator;
 	private final boolean lineDelimitedJson;
+	private final ThreadLocalBuilder threadLocalBuilder;
 
 	private StringBuilder builder;
 	private boolean firstEntry;
@@ -80,13 +87,10 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 		String fileName = getFileName();
 		String format = getStringValue("format");
 		boolean append = getBooleanValue("append");
-		boolean buffered = getBooleanValue("buffered");
 		boolean writingThread = getBooleanValue("writingthread");
 
 		charset = getCharset();
-		writer = createByteArrayWriter(fileName, append, buffered, false, false, charset);
-		fields = createTokens(properties);
-
+		writer = createByteArrayWriter(fileName, append, false, false, charset);
 		if (format == null || "JSON".equalsIgnoreCase(format)) {
 			lineDelimitedJson = false;
 		} else if ("LDJSON".equalsIgnoreCase(format)) {
@@ -96,6 +100,28 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 			InternalLogger.log(Level.WARN, "Illegal format for JSON writer: " + format);
 		}
 
+		Map<String, Token> fields = createTokens(properties);
+		tokens = new Token[fields.size()];
+		prefixes = new String[fields.size()];
+		separator = lineDelimitedJson ? ", " : "," + NEW_LINE;
+
+		int index = 0;
+		for (Entry<String, Token> entry : fields.entrySet()) {
+			StringBuilder prefix = new StringBuilder();
+			if (!lineDelimitedJson) {
+				prefix.append("\t\t");
+			}
+			prefix.append('"');
+			int start = prefix.length();
+			prefix.append(entry.getKey());
+			escape(prefix, start);
+			prefix.append("\": \"");
+
+			tokens[index] = entry.getValue();
+			prefixes[index] = prefix.toString();
+			index += 1;
+		}
+
 		charsetHeaderBytes = getCharsetHeader(charset);
 		lineFeedBytes = removeHeader("\n".getBytes(charset), charsetHeaderBytes.length);
 		carriageReturnBytes = removeHeader("\r".getBytes(charset), charsetHeaderBytes.length);
@@ -115,7 +141,10 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 		}
 
 		if (writingThread) {
-			builder = new StringBuilder();
+			builder = new StringBuilder(BUILDER_CAPACITY);
+			threadLocalBuilder = null;
+		} else {
+			threadLocalBuilder = new ThreadLocalBuilder(BUILDER_CAPACITY, MAX_BUILDER_CAPACITY);
 		}
 
 		firstEntry = lineDelimitedJson || prepareStandardJsonFile();
@@ -125,10 +154,12 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
 		if (builder == null) {
-			StringBuilder builder = new StringBuilder();
+			StringBuilder builder = threadLocalBuilder.acquire();
 			addJsonObject(logEntry, builder);
+			byte[] data = builder.toString().getBytes(charset);
+			threadLocalBuilder.release(builder);
 			synchronized (writer) {
-				internalWrite(builder.toString().getBytes(charset));
+				internalWrite(data);
 			}
 		} else {
 			builder.setLength(0);
@@ -151,6 +182,7 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 	@Override
 	public void close() throws IOException {
 		if (builder == null) {
+			threadLocalBuilder.close();
 			synchronized (writer) {
 				internalClose();
 			}
@@ -162,7 +194,7 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 	@Override
 	public Collection<LogEntryValue> getRequiredLogEntryValues() {
 		Collection<LogEntryValue> values = EnumSet.noneOf(LogEntryValue.class);
-		for (Token token : fields.values()) {
+		for (Token token : tokens) {
 			values.addAll(token.getRequiredLogEntryValues());
 		}
 		return values;
@@ -186,41 +218,15 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 			builder.append(NEW_LINE);
 		}
 
-		Token[] tokenEntries = fields.values().toArray(new Token[0]);
-		String[] fields = this.fields.keySet().toArray(new String[0]);
-
-		for (int i = 0; i < tokenEntries.length; i++) {
-			if (!lineDelimitedJson) {
-				builder.append("\t\t");
-			}
-
-			builder.append('\"');
-			builder.append(fields[i]);
-			builder.append("\": \"");
+		for (int i = 0; i < tokens.length; i++) {
+			builder.append(prefixes[i]);
 			int start = builder.length();
-
-			Token token = tokenEntries[i];
-			token.render(logEntry, builder);
-
-			escapeCharacter("\\", "\\\\", builder, start);
-			escapeCharacter("\"", "\\\"", builder, start);
-			escapeCharacter(NEW_LINE, "\\n", builder, start);
-			escapeCharacter("\t", "\\t", builder, start);
-			escapeCharacter("\b", "\\b", builder, start);
-			escapeCharacter("\f", "\\f", builder, start);
-			escapeCharacter("\n", "\\n", builder, start);
-			escapeCharacter("\r", "\\r", builder, start);
-
+			tokens[i].render(logEntry, builder);
+			escape(builder, start);
 			builder.append('"');
 
-			if (i + 1 < this.fields.size()) {
-				builder.append(",");
-
-				if (lineDelimitedJson) {
-					builder.append(' ');
-				} else {
-					builder.append(NEW_LINE);
-				}
+			if (i + 1 < tokens.length) {
+				builder.append(separator);
 			}
 		}
 
@@ -289,21 +295,51 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 	}
 
 	/**
-	 * Replaces a character by its replacement everywhere in a string builder, starting at the given index.
+	 * Escapes all special characters in a string builder, starting at the given index. Quotation marks, backslashes,
+	 * and all control characters are escaped in a single pass. As the escaped text is longer than the original text,
+	 * the string builder is enlarged once and the characters are moved backwards from the end. If there are no
+	 * special characters, the string builder remains untouched.
 	 *
-	 * @param character The character to replace
-	 * @param replacement The replacement for the given character
 	 * @param builder The string builder to change
 	 * @param startIndex The index in the string builder to start at
 	 */
-	private void escapeCharacter(final String character, final String replacement, final StringBuilder builder,
-			final int startIndex) {
-		for (
-			int index = builder.indexOf(character, startIndex);
-			index != -1;
-			index = builder.indexOf(character, index + replacement.length())
-		) {
-			builder.replace(index, index + character.length(), replacement);
+	private static void escape(final StringBuilder builder, final int startIndex) {
+		int end = builder.length();
+		int length = end;
+
+		for (int i = startIndex; i < end; ++i) {
+			char character = builder.charAt(i);
+			if (character < ESCAPES.length && ESCAPES[character] != null) {
+				if (WINDOWS_NEW_LINE && character == '\r' && i + 1 < end && builder.charAt(i + 1) == '\n') {
+					i += 1;
+				} else {
+					length += ESCAPES[character].length() - 1;
+				}
+			}
+		}
+
+		if (length == end) {
+			return;
+		}
+
+		builder.setLength(length);
+
+		int target = length;
+		for (int i = end - 1; target > i + 1; --i) {
+			char character = builder.charAt(i);
+			String escape = character < ESCAPES.length ? ESCAPES[character] : null;
+
+			if (escape == null) {
+				builder.setCharAt(--target, character);
+			} else {
+				if (WINDOWS_NEW_LINE && character == '\n' && i > startIndex && builder.charAt(i - 1) == '\r') {
+					i -= 1;
+				}
+
+				for (int j = escape.length() - 1; j >= 0; --j) {
+					builder.setCharAt(--target, escape.charAt(j));
+				}
+			}
 		}
 	}
 
@@ -388,6 +424,30 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 		return result;
 	}
 
+	/**
+	 * Creates the escape sequences for all characters that must be escaped in JSON strings. The returned array is
+	 * indexed by character and contains {@code null} for all characters that can be output as they are.
+	 *
+	 * @return Escape sequences for all characters up to the backslash
+	 */
+	private static String[] createEscapes() {
+		String[] escapes = new String['\\' + 1];
+
+		for (char character = 0; character < ' '; ++character) {
+			escapes[character] = String.format(Locale.ROOT, "\\u%04x", (int) character);
+		}
+
+		escapes['"'] = "\\\"";
+		escapes['\\'] = "\\\\";
+		escapes['\b'] = "\\b";
+		escapes['\f'] = "\\f";
+		escapes['\n'] = "\\n";
+		escapes['\r'] = "\\r";
+		escapes['\t'] = "\\t";
+
+		return escapes;
+	}
+
 	/**
 	 * Creates the token for all fields.
 	 *
@@ -18,42 +18,71 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
 import org.tinylog.Level;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.converters.FileConverter;
+import org.tinylog.converters.NamedDaemonThreadFactory;
 import org.tinylog.converters.NopFileConverter;
 import org.tinylog.core.LogEntry;
 import org.tinylog.path.DynamicPath;
 import org.tinylog.path.FileTuple;
+import org.tinylog.policies.LengthAwarePolicy;
 import org.tinylog.policies.Policy;
 import org.tinylog.policies.StartupPolicy;
+import org.tinylog.policies.TimeBasedPolicy;
 import org.tinylog.provider.InternalLogger;
 import org.tinylog.runtime.RuntimeProvider;
 import org.tinylog.writers.raw.ByteArrayWriter;
+import org.tinylog.writers.raw.TextEncoder;
 
 /**
  * Writer for outputting log entries to rolling log files. Rollover strategies can be defined via {@link Policy
  * policies} and the output can be buffered for improving performance. The path to the log file can contain one or more
  * patterns that will be resolved at runtime.
+ *
+ * <p>
+ * Obsolete log files can be deleted by count ("backups"), by total size ("backups.size") and by age ("backups.age").
+ * The deletion is done asynchronously by a background thread and does not delay writing log entries.
+ * </p>
+ *
+ * <p>
+ * Optionally, the next log file can be opened in advance by a background thread ("preopen"). Then, a rollover only
+ * renames the already opened file to the resolved file name instead of creating and opening a new file.
+ * </p>
  */
 public final class RollingFileWriter extends AbstractFormatPatternWriter {
 
+	private static final String PREPARING_THREAD_NAME = "tinylog-PreparingThread";
+
 	private final DynamicPath path;
 	private final List<Policy> policies;
+	private final List<Policy> entryPolicies;
+	private final LengthAwarePolicy[] lengthAwarePolicies;
+	private final TimeBasedPolicy[] timeBasedPolicies;
 	private final FileConverter converter;
 	private final int backups;
-	private final boolean buffered;
 	private final boolean writingThread;
 	private final DynamicPath linkToLatest;
 	private final Charset charset;
+	private final BackupHousekeeper housekeeper;
+	private final ExecutorService preparer;
+	private final File preparedFile;
 
 	private ByteArrayWriter writer;
+	private Future<ByteArrayWriter> preparedWriter;
+	private long nextRollover;
 
 	/**
 	 * @throws IOException
@@ -80,16 +109,20 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		path = new DynamicPath(getFileName());
 		policies = createPolicies(getStringValue("policies"));
 		converter = createConverter(getStringValue("convert"));
+		entryPolicies = getEntryPolicies(policies);
+		lengthAwarePolicies = converter instanceof NopFileConverter && isLengthAware(entryPolicies)
+			? entryPolicies.toArray(new LengthAwarePolicy[entryPolicies.size()])
+			: null;
+		timeBasedPolicies = getTimeBasedPolicies(policies);
 		backups = properties.containsKey("backups") ? Integer.parseInt(getStringValue("backups")) : -1;
 		linkToLatest = properties.containsKey("latest") ? new DynamicPath(getStringValue("latest")) : null;
 
+		long backupsSize = BackupHousekeeper.parseSize(getStringValue("backups.size"));
+		long backupsAge = BackupHousekeeper.parseAge(getStringValue("backups.age"));
+
 		List<FileTuple> files = getAllFileTuplesWithoutLinks(converter.getBackupSuffix());
 		File latestFile = findLatestValidLogFile(path, files);
 
-		if (backups >= 0) {
-			deleteBackups(files, backups);
-		}
-
 		String fileName;
 		boolean append;
 
@@ -107,19 +140,54 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		}
 
 		charset = getCharset();
-		buffered = getBooleanValue("buffered");
 		writingThread = getBooleanValue("writingthread");
-		writer = createByteArrayWriterAndLinkLatest(fileName, append, buffered, charset);
+		writer = createByteArrayWriterAndLinkLatest(fileName, append, charset);
+		nextRollover = getNextRollover(timeBasedPolicies);
+
+		if (backups >= 0 || backupsSize != Long.MAX_VALUE || backupsAge != Long.MAX_VALUE) {
+			housekeeper = new BackupHousekeeper(backups >= 0 ? backups : Integer.MAX_VALUE, backupsSize, backupsAge);
+
+			List<FileTuple> knownFiles = new ArrayList<FileTuple>(files.size() + 1);
+			for (int i = files.size() - 1; i >= 0; --i) {
+				knownFiles.add(files.get(i));
+			}
+			knownFiles.add(createFileTuple(fileName));
+			housekeeper.register(knownFiles);
+		} else {
+			housekeeper = null;
+		}
+
+		if (getBooleanValue("preopen")) {
+			File folder = new File(fileName).getAbsoluteFile().getParentFile();
+			preparer = Executors.newSingleThreadExecutor(new NamedDaemonThreadFactory(PREPARING_THREAD_NAME));
+			preparedFile = new File(folder, ".tinylog-" + Integer.toHexString(getFileName().hashCode()) + ".next");
+			preparedWriter = preparer.submit(new Preparation());
+		} else {
+			preparer = null;
+			preparedFile = null;
+		}
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		byte[] data = render(logEntry).getBytes(charset);
+		TextEncoder encoder = encode(logEntry, charset);
+
+		byte[] data;
+		int length;
+
+		if (lengthAwarePolicies == null) {
+			data = encoder.toByteArray();
+			length = data.length;
+		} else {
+			data = encoder.getBuffer();
+			length = encoder.getLength();
+		}
+
 		if (writingThread) {
-			internalWrite(data);
+			internalWrite(data, length);
 		} else {
 			synchronized (writer) {
-				internalWrite(data);
+				internalWrite(data, length);
 			}
 		}
 	}
@@ -137,6 +205,8 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 
 	@Override
 	public void close() throws IOException, InterruptedException {
+		releaseRenderBuffers();
+
 		if (writingThread) {
 			internalClose();
 		} else {
@@ -151,28 +221,51 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *
 	 * @param data
 	 *            Byte array to output
+	 * @param length
+	 *            Number of bytes to output from the passed byte array
 	 * @throws IOException
 	 *             Writing failed
 	 */
-	private void internalWrite(final byte[] data) throws IOException {
-		if (!canBeContinued(data, policies)) {
+	private void internalWrite(final byte[] data, final int length) throws IOException {
+		boolean continued = lengthAwarePolicies == null
+			? canBeContinued(data, entryPolicies)
+			: canBeContinued(length, lengthAwarePolicies);
+
+		if (nextRollover != Long.MAX_VALUE && System.currentTimeMillis() >= nextRollover) {
+			continued = false;
+		}
+
+		if (!continued) {
 			writer.close();
 			converter.close();
 
 			String fileName = path.resolve();
-			writer = createByteArrayWriterAndLinkLatest(fileName, false, buffered, charset);
+			ByteArrayWriter prepared = takePreparedWriter(fileName);
+			if (prepared == null) {
+				writer = createByteArrayWriterAndLinkLatest(fileName, false, charset);
+			} else {
+				converter.open(fileName);
+				writer = prepared;
+				linkLatest(fileName);
+			}
 
 			for (Policy policy : policies) {
 				policy.reset();
 			}
 
-			if (backups >= 0) {
-				deleteBackups(getAllFileTuplesWithoutLinks(converter.getBackupSuffix()), backups);
+			nextRollover = getNextRollover(timeBasedPolicies);
+
+			if (housekeeper != null) {
+				housekeeper.register(Collections.singletonList(createFileTuple(fileName)));
 			}
 		}
 
-		byte[] convertedData = converter.write(data);
-		writer.write(convertedData, 0, convertedData.length);
+		if (lengthAwarePolicies == null) {
+			byte[] convertedData = converter.write(data);
+			writer.write(convertedData, 0, convertedData.length);
+		} else {
+			writer.write(data, 0, length);
+		}
 	}
 
 	/**
@@ -197,6 +290,15 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		writer.close();
 		converter.close();
 		converter.shutdown();
+
+		if (preparer != null) {
+			discardPreparedWriter();
+			preparer.shutdown();
+		}
+
+		if (housekeeper != null) {
+			housekeeper.shutdown();
+		}
 	}
 
 	/**
@@ -229,8 +331,6 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *            Name of file to open for writing
 	 * @param append
 	 *            An already existing file should be continued
-	 * @param buffered
-	 *            Output should be buffered
 	 * @param charset
 	 *            Charset used by the writer
 	 * @return Writer for writing to passed file
@@ -239,9 +339,21 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 */
 	@IgnoreJRERequirement
 	private ByteArrayWriter createByteArrayWriterAndLinkLatest(final String fileName, final boolean append,
-			final boolean buffered, final Charset charset) throws IOException {
+			final Charset charset) throws IOException {
 		converter.open(fileName);
-		ByteArrayWriter writer = createByteArrayWriter(fileName, append, buffered, false, false, charset);
+		ByteArrayWriter writer = createByteArrayWriter(fileName, append, false, false, charset);
+		linkLatest(fileName);
+		return writer;
+	}
+
+	/**
+	 * Creates a link to a log file if linking is enabled.
+	 *
+	 * @param fileName
+	 *            Name of log file to link
+	 */
+	@IgnoreJRERequirement
+	private void linkLatest(final String fileName) {
 		if (linkToLatest != null) {
 			File logFile = new File(fileName);
 			File linkFile = new File(linkToLatest.resolve());
@@ -258,7 +370,72 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 				InternalLogger.log(Level.WARN, "Cannot create link to latest log file on Android");
 			}
 		}
-		return writer;
+	}
+
+	/**
+	 * Takes the writer for the log file that has been opened in advance and renames the prepared log file. The
+	 * preparation of the next log file is started immediately afterwards.
+	 *
+	 * @param fileName
+	 *            Resolved name of the new log file
+	 * @return Writer for the new log file or {@code null} if there is no prepared log file or renaming has failed
+	 * @throws IOException
+	 *             Failed to close the prepared log file after an unsuccessful renaming
+	 */
+	private ByteArrayWriter takePreparedWriter(final String fileName) throws IOException {
+		if (preparedWriter == null) {
+			return null;
+		}
+
+		ByteArrayWriter prepared;
+
+		try {
+			prepared = preparedWriter.get();
+		} catch (ExecutionException ex) {
+			InternalLogger.log(Level.ERROR, ex.getCause(), "Failed to open log file '" + preparedFile + "' in advance");
+			preparedWriter = preparer.submit(new Preparation());
+			return null;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+
+		File file = new File(fileName).getAbsoluteFile();
+		File folder = file.getParentFile();
+
+		if ((folder.isDirectory() || folder.mkdirs()) && preparedFile.renameTo(file)) {
+			preparedWriter = preparer.submit(new Preparation());
+			return prepared;
+		} else {
+			InternalLogger.log(Level.WARN, "Failed to rename prepared log file '" + preparedFile + "' to '" + file + "'");
+			prepared.close();
+			preparedWriter = preparer.submit(new Preparation());
+			return null;
+		}
+	}
+
+	/**
+	 * Closes and deletes the log file that has been opened in advance.
+	 *
+	 * @throws IOException
+	 *             Failed to close the prepared log file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the preparation of the log file
+	 */
+	private void discardPreparedWriter() throws IOException, InterruptedException {
+		if (preparedWriter != null) {
+			try {
+				preparedWriter.get().close();
+			} catch (ExecutionException ex) {
+				InternalLogger.log(Level.ERROR, ex.getCause(), "Failed to open log file '" + preparedFile + "' in advance");
+			}
+
+			preparedWriter = null;
+		}
+
+		if (preparedFile.isFile() && !preparedFile.delete()) {
+			InternalLogger.log(Level.WARN, "Failed to delete prepared log file '" + preparedFile + "'");
+		}
 	}
 
 	/**
@@ -306,7 +483,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 * Creates the file converter from a nullable string.
 	 *
 	 * @param property
-	 *            Nullable string with converter to create
+	 *            Nullable string with converter to create and its optional argument (separated by a colon)
 	 * @return Created file converter
 	 */
 	private static FileConverter createConverter(final String property) {
@@ -317,7 +494,17 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 				java.util.ServiceLoader.load(FileConverter.class); // Workaround for ProGuard (see issue #126)
 			}
 
-			FileConverter converter = new ServiceLoader<FileConverter>(FileConverter.class).create(property);
+			FileConverter converter;
+
+			int separator = property.indexOf(':');
+			if (separator == -1) {
+				converter = new ServiceLoader<FileConverter>(FileConverter.class).create(property);
+			} else {
+				String name = property.substring(0, separator).trim();
+				String argument = property.substring(separator + 1).trim();
+				converter = new ServiceLoader<FileConverter>(FileConverter.class, String.class).create(name, argument);
+			}
+
 			return converter == null ? new NopFileConverter() : converter;
 		}
 	}
@@ -357,17 +544,117 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	}
 
 	/**
-	 * Deletes old log files.
+	 * Checks if a new log entry with the passed length can be still written to the current log file.
 	 *
-	 * @param files
-	 *            All original and backup files
-	 * @param count
-	 *            Number of log files to keep
+	 * @param length
+	 *            Length of log entry in bytes
+	 * @param policies
+	 *            Policies that should be applied
+	 * @return {@code true} if the current log file can be continued, {@code false} if a new log file should be started
 	 */
-	private static void deleteBackups(final List<FileTuple> files, final int count) {
-		for (int i = count; i < files.size(); ++i) {
-			files.get(i).delete();
+	private static boolean canBeContinued(final int length, final LengthAwarePolicy[] policies) {
+		boolean result = true;
+		for (LengthAwarePolicy policy : policies) {
+			result &= policy.continueCurrentFile(length);
 		}
+		return result;
+	}
+
+	/**
+	 * Checks if all policies are length aware. Log entries can be written directly from the encoding buffer without
+	 * any copying, if all policies are length aware.
+	 *
+	 * @param policies
+	 *            Policies that should be applied
+	 * @return {@code true} if all passed policies implement {@link LengthAwarePolicy}, otherwise {@code false}
+	 */
+	private static boolean isLengthAware(final List<Policy> policies) {
+		for (Policy policy : policies) {
+			if (!(policy instanceof LengthAwarePolicy)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets all policies that have to be checked for each log entry. Time based policies are excluded, since their next
+	 * rollover is precomputed.
+	 *
+	 * @param policies
+	 *            All policies
+	 * @return Policies that are not time based
+	 */
+	private static List<Policy> getEntryPolicies(final List<Policy> policies) {
+		List<Policy> result = new ArrayList<Policy>(policies.size());
+		for (Policy policy : policies) {
+			if (!(policy instanceof TimeBasedPolicy)) {
+				result.add(policy);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets all time based policies.
+	 *
+	 * @param policies
+	 *            All policies
+	 * @return Policies that are time based
+	 */
+	private static TimeBasedPolicy[] getTimeBasedPolicies(final List<Policy> policies) {
+		List<TimeBasedPolicy> result = new ArrayList<TimeBasedPolicy>(policies.size());
+		for (Policy policy : policies) {
+			if (policy instanceof TimeBasedPolicy) {
+				result.add((TimeBasedPolicy) policy);
+			}
+		}
+		return result.toArray(new TimeBasedPolicy[result.size()]);
+	}
+
+	/**
+	 * Gets the earliest next rollover of time based policies.
+	 *
+	 * @param policies
+	 *            Time based policies
+	 * @return Milliseconds since 1970-01-01T00:00:00Z or {@link Long#MAX_VALUE} if there are no time based policies
+	 */
+	private static long getNextRollover(final TimeBasedPolicy[] policies) {
+		long result = Long.MAX_VALUE;
+		for (TimeBasedPolicy policy : policies) {
+			result = Math.min(result, policy.getNextRollover());
+		}
+		return result;
+	}
+
+	/**
+	 * Creates the file tuple for a log file that has been opened by this writer.
+	 *
+	 * @param fileName
+	 *            Path to the log file
+	 * @return Created file tuple with the original log file and its backup file
+	 */
+	private FileTuple createFileTuple(final String fileName) {
+		File original = new File(fileName).getAbsoluteFile();
+		String backupSuffix = converter.getBackupSuffix();
+		File backup = backupSuffix == null ? original : new File(original.getPath() + backupSuffix);
+		return new FileTuple(original, backup);
+	}
+
+	/**
+	 * Task for opening the next log file in advance.
+	 */
+	private final class Preparation implements Callable<ByteArrayWriter> {
+
+		/** */
+		private Preparation() {
+		}
+
+		@Override
+		public ByteArrayWriter call() throws IOException {
+			return createByteArrayWriter(preparedFile.getPath(), false, false, false, charset);
+		}
+
 	}
 
 }
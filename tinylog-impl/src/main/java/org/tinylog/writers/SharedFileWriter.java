@@ -24,6 +24,7 @@ import org.tinylog.Level;
 import org.tinylog.core.LogEntry;
 import org.tinylog.provider.InternalLogger;
 import org.tinylog.writers.raw.ByteArrayWriter;
+import org.tinylog.writers.raw.TextEncoder;
 
 /**
  * Writer for outputting log entries to a shared log file. Multiple processes can write simultaneously to the same log
@@ -63,7 +64,6 @@ public final class SharedFileWriter extends AbstractFormatPatternWriter {
 
 		String fileName = getFileName();
 		boolean append = getBooleanValue("append");
-		boolean buffered = getBooleanValue("buffered");
 		boolean writingThread = getBooleanValue("writingthread");
 
 		if (append) {
@@ -88,13 +88,13 @@ public final class SharedFileWriter extends AbstractFormatPatternWriter {
 		}
 
 		charset = getCharset();
-		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, true, charset);
+		writer = createByteArrayWriter(fileName, append, !writingThread, true, charset);
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		byte[] data = render(logEntry).getBytes(charset);
-		writer.write(data, 0, data.length);
+		TextEncoder encoder = encode(logEntry, charset);
+		writer.write(encoder.getBuffer(), 0, encoder.getLength());
 	}
 
 	@Override
@@ -104,6 +104,8 @@ public final class SharedFileWriter extends AbstractFormatPatternWriter {
 
 	@Override
 	public void close() throws IOException {
+		releaseRenderBuffers();
+
 		try {
 			writer.close();
 		} finally {
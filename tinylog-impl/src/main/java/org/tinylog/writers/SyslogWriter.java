@@ -62,6 +62,7 @@ public final class SyslogWriter extends AbstractFormatPatternWriter {
 
 	@Override
 	public void close() throws Exception {
+		releaseRenderBuffers();
 		socketWriter.close();
 	}
 
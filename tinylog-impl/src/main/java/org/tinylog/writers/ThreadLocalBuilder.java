@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+/**
+ * Per-thread string builders for rendering log entries without creating a new string builder for each log entry.
+ *
+ * <p>
+ *     Writers that are not used by the writing thread are called by any thread that issues log entries. Each of these
+ *     threads gets its own string builder, which is reused for subsequent log entries of the same thread. String
+ *     builders that have grown beyond a maximum capacity are discarded after use to bound the retained memory per
+ *     thread.
+ * </p>
+ *
+ * <p>
+ *     A string builder is taken from its thread while in use. If the same thread acquires a string builder again
+ *     before releasing the first one, for example when a {@code toString()} method issues a log entry while the
+ *     outer log entry is being rendered, a new string builder is created. Thereby, the outer log entry is never
+ *     overwritten.
+ * </p>
+ */
+final class ThreadLocalBuilder {
+
+	private final int capacity;
+	private final int maximumCapacity;
+	private final ThreadLocal<StringBuilder> builders;
+
+	/**
+	 * @param capacity
+	 *            Initial capacity of new string builders
+	 * @param maximumCapacity
+	 *            Maximum capacity of string builders that will be kept for reuse
+	 */
+	ThreadLocalBuilder(final int capacity, final int maximumCapacity) {
+		this.capacity = capacity;
+		this.maximumCapacity = maximumCapacity;
+		this.builders = new ThreadLocal<StringBuilder>();
+	}
+
+	/**
+	 * Takes the empty string builder of the current thread. A new string builder will be created if the current thread
+	 * doesn't have one or is already using it. The returned string builder must be {@link #release(StringBuilder)
+	 * released} after use.
+	 *
+	 * @return Empty string builder
+	 */
+	StringBuilder acquire() {
+		StringBuilder builder = builders.get();
+		if (builder == null) {
+			return new StringBuilder(capacity);
+		} else {
+			builders.set(null);
+			builder.setLength(0);
+			return builder;
+		}
+	}
+
+	/**
+	 * Releases a string builder after use. The string builder will be discarded, if it has grown beyond the maximum
+	 * capacity.
+	 *
+	 * @param builder
+	 *            String builder that has been acquired by the current thread
+	 */
+	void release(final StringBuilder builder) {
+		if (builder.capacity() <= maximumCapacity) {
+			builders.set(builder);
+		}
+	}
+
+	/**
+	 * Removes the string builder of the current thread. This method should be called when the owning writer is
+	 * closed.
+	 */
+	void close() {
+		builders.remove();
+	}
+
+}
@@ -21,9 +21,13 @@ import java.io.IOException;
  */
 public final class BufferedWriterDecorator implements ByteArrayWriter {
 
-	private static final int BUFFER_CAPACITY = 64 * 1024; // 64 KB
+	/**
+	 * Default buffer size in bytes.
+	 */
+	public static final int DEFAULT_CAPACITY = 64 * 1024; // 64 KB
 
 	private final ByteArrayWriter writer;
+	private final int capacity;
 	private final byte[] buffer;
 	private int position;
 
@@ -32,8 +36,19 @@ public final class BufferedWriterDecorator implements ByteArrayWriter {
 	 *            Underlying writer
 	 */
 	public BufferedWriterDecorator(final ByteArrayWriter writer) {
+		this(writer, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param capacity
+	 *            Buffer size in bytes
+	 */
+	public BufferedWriterDecorator(final ByteArrayWriter writer, final int capacity) {
 		this.writer = writer;
-		this.buffer = new byte[BUFFER_CAPACITY];
+		this.capacity = capacity;
+		this.buffer = new byte[capacity];
 		this.position = 0;
 	}
 
@@ -56,12 +71,12 @@ public final class BufferedWriterDecorator implements ByteArrayWriter {
 
 	@Override
 	public void write(final byte[] data, final int offset, final int length) throws IOException {
-		if (position > 0 && BUFFER_CAPACITY - position < length) {
+		if (position > 0 && capacity - position < length) {
 			writer.write(buffer, 0, position);
 			position = 0;
 		}
 
-		if (BUFFER_CAPACITY < length) {
+		if (capacity < length) {
 			writer.write(data, offset, length);
 		} else {
 			System.arraycopy(data, offset, buffer, position, length);
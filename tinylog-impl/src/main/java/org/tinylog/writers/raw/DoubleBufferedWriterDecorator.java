@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+
+import org.tinylog.converters.NamedDaemonThreadFactory;
+
+/**
+ * Decorator to buffer output data for any {@link ByteArrayWriter} implementation by using two buffers. While one
+ * buffer is filled by the caller, the other full buffer is written to the underlying writer by a separate I/O thread.
+ * Therefore, rendering log entries and waiting for disk I/O can overlap.
+ *
+ * <p>
+ *     By default, {@link #flush()} hands the current buffer over to the I/O thread, which writes and flushes it to the
+ *     underlying writer, and returns without waiting. Therefore, rendering the next batch of log entries can overlap
+ *     with writing the previous batch, even if the writer is flushed after each batch. The caller only waits if both
+ *     buffers are in use, for reading or truncating, and for closing. Failures of the I/O thread are thrown by the next
+ *     method invocation that waits for the I/O thread. If written data is forced to the storage device after flushing,
+ *     {@link #flush()} can be configured to wait until the I/O thread has written and flushed all data.
+ * </p>
+ *
+ * <p>
+ *     The underlying writer is either used by the I/O thread or by the caller, but never by both at the same time.
+ *     However, this decorator itself is not thread-safe and has to be used by one thread at a time like
+ *     {@link BufferedWriterDecorator}.
+ * </p>
+ */
+public final class DoubleBufferedWriterDecorator implements ByteArrayWriter {
+
+	private static final String THREAD_NAME = "tinylog-BufferedIoThread";
+
+	private final ByteArrayWriter writer;
+	private final int capacity;
+	private final boolean awaitFlush;
+
+	private final Object mutex;
+	private final Thread thread;
+
+	private byte[] buffer;
+	private int position;
+	private boolean unflushed;
+
+	private byte[] spare;
+	private byte[] pending;
+	private int pendingLength;
+	private boolean pendingFlush;
+	private Throwable failure;
+	private boolean closed;
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param capacity
+	 *            Size of each of both buffers in bytes
+	 */
+	public DoubleBufferedWriterDecorator(final ByteArrayWriter writer, final int capacity) {
+		this(writer, capacity, false);
+	}
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param capacity
+	 *            Size of each of both buffers in bytes
+	 * @param awaitFlush
+	 *            {@code true} if {@link #flush()} has to wait until all data has been written and flushed by the I/O
+	 *            thread, {@code false} if {@link #flush()} can return immediately after handing the data over
+	 */
+	public DoubleBufferedWriterDecorator(final ByteArrayWriter writer, final int capacity, final boolean awaitFlush) {
+		this.writer = writer;
+		this.capacity = capacity;
+		this.awaitFlush = awaitFlush;
+		this.mutex = new Object();
+		this.buffer = new byte[capacity];
+		this.spare = new byte[capacity];
+
+		this.thread = new NamedDaemonThreadFactory(THREAD_NAME).newThread(new Worker());
+		this.thread.start();
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		awaitIdle();
+
+		if (length <= position) {
+			System.arraycopy(buffer, position - length, data, offset, length);
+			return length;
+		} else {
+			int readBytes = writer.readTail(data, offset, length - position);
+			System.arraycopy(buffer, 0, data, offset + readBytes, position);
+			return readBytes + position;
+		}
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		if (position > 0 && capacity - position < length) {
+			handOver(false);
+		}
+
+		if (capacity < length) {
+			awaitIdle();
+			writer.write(data, offset, length);
+			unflushed = true;
+		} else {
+			System.arraycopy(data, offset, buffer, position, length);
+			position += length;
+		}
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		if (count <= position) {
+			position -= count;
+		} else {
+			awaitIdle();
+			writer.truncate(count - position);
+			position = 0;
+			unflushed = true;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (position > 0 || unflushed) {
+			handOver(true);
+		}
+
+		if (awaitFlush) {
+			awaitIdle();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			if (position > 0) {
+				handOver(false);
+			}
+			awaitIdle();
+		} finally {
+			synchronized (mutex) {
+				closed = true;
+				mutex.notifyAll();
+			}
+
+			try {
+				thread.join();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+
+			writer.close();
+		}
+	}
+
+	/**
+	 * Passes the current buffer to the I/O thread and continues with the spare buffer. If the I/O thread is still
+	 * writing the previous buffer, this method waits until the I/O thread has finished.
+	 *
+	 * @param flush
+	 *            {@code true} if the I/O thread has to flush the underlying writer after writing the passed buffer
+	 * @throws IOException
+	 *             Writing of the previous buffer failed
+	 */
+	private void handOver(final boolean flush) throws IOException {
+		synchronized (mutex) {
+			waitForIdle();
+
+			pending = buffer;
+			pendingLength = position;
+			pendingFlush = flush;
+			mutex.notifyAll();
+
+			buffer = spare;
+			spare = null;
+			position = 0;
+			unflushed = !flush;
+		}
+	}
+
+	/**
+	 * Waits until the I/O thread has written all passed data.
+	 *
+	 * @throws IOException
+	 *             Writing of the passed data failed
+	 */
+	private void awaitIdle() throws IOException {
+		synchronized (mutex) {
+			waitForIdle();
+		}
+	}
+
+	/**
+	 * Waits until the I/O thread has written all passed data. The caller must hold the monitor of the mutex.
+	 *
+	 * <p>
+	 *     If writing of the passed data failed, the failure of the I/O thread is rethrown. Runtime exceptions and
+	 *     errors are rethrown as they are. Any other throwable is wrapped into an {@link IOException}.
+	 * </p>
+	 *
+	 * @throws IOException
+	 *             Writing of the passed data failed
+	 */
+	private void waitForIdle() throws IOException {
+		boolean interrupted = false;
+
+		while (pending != null) {
+			try {
+				mutex.wait();
+			} catch (InterruptedException ex) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (failure != null) {
+			Throwable exception = failure;
+			failure = null;
+
+			if (exception instanceof IOException) {
+				throw (IOException) exception;
+			} else if (exception instanceof RuntimeException) {
+				throw (RuntimeException) exception;
+			} else if (exception instanceof Error) {
+				throw (Error) exception;
+			} else {
+				throw new IOException(exception);
+			}
+		}
+	}
+
+	/**
+	 * Task of the I/O thread for writing passed buffers to the underlying writer.
+	 */
+	private final class Worker implements Runnable {
+
+		/** */
+		private Worker() {
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				byte[] data;
+				int length;
+				boolean flush;
+
+				synchronized (mutex) {
+					while (pending == null && !closed) {
+						try {
+							mutex.wait();
+						} catch (InterruptedException ex) {
+							return;
+						}
+					}
+
+					if (pending == null) {
+						return;
+					}
+
+					data = pending;
+					length = pendingLength;
+					flush = pendingFlush;
+				}
+
+				Throwable exception = null;
+				try {
+					writer.write(data, 0, length);
+					if (flush) {
+						writer.flush();
+					}
+				} catch (Throwable ex) {
+					exception = ex;
+				} finally {
+					synchronized (mutex) {
+						spare = data;
+						pending = null;
+						failure = exception;
+						mutex.notifyAll();
+					}
+				}
+			}
+		}
+
+	}
+
+}
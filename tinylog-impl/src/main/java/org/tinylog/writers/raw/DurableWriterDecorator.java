@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.tinylog.Level;
+import org.tinylog.converters.NamedDaemonThreadFactory;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Decorator to force written data of any {@link ByteArrayWriter} implementation to the storage device via
+ * {@link FileChannel#force(boolean)}. Many log entries are group-committed by a single force operation, depending on
+ * the {@link SyncMode}.
+ *
+ * <p>
+ * Data written via memory-mapped regions is not covered by {@link FileChannel#force(boolean)}. Therefore, a
+ * {@link MappedFileWriter} has to be passed instead of its file channel for forcing its data.
+ * </p>
+ *
+ * <p>
+ * In {@link SyncMode#INTERVAL interval mode}, a deferred force operation is scheduled on a shared timer thread as soon
+ * as unforced data has been written. Thereby, written data is forced at the latest after the interval, even if no
+ * further data is written. All methods are synchronized, since the timer thread accesses the underlying writer as well.
+ * </p>
+ */
+public final class DurableWriterDecorator implements ByteArrayWriter {
+
+	private static final String TIMER_THREAD_NAME = "tinylog-SyncThread";
+
+	private final ByteArrayWriter writer;
+	private final FileChannel channel;
+	private final MappedFileWriter mappedWriter;
+	private final SyncMode mode;
+	private final long interval;
+
+	private boolean dirty;
+	private long lastSync;
+	private ScheduledFuture<?> deferredSync;
+	private boolean closed;
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param channel
+	 *            File channel of the underlying writer
+	 * @param mode
+	 *            Defines when to force written data
+	 * @param interval
+	 *            Minimum time in milliseconds between two force operations for {@link SyncMode#INTERVAL}
+	 */
+	public DurableWriterDecorator(final ByteArrayWriter writer, final FileChannel channel, final SyncMode mode,
+		final long interval) {
+		this(writer, channel, null, mode, interval);
+	}
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param mappedWriter
+	 *            Memory-mapped file writer at the end of the writer chain of the underlying writer
+	 * @param mode
+	 *            Defines when to force written data
+	 * @param interval
+	 *            Minimum time in milliseconds between two force operations for {@link SyncMode#INTERVAL}
+	 */
+	public DurableWriterDecorator(final ByteArrayWriter writer, final MappedFileWriter mappedWriter, final SyncMode mode,
+		final long interval) {
+		this(writer, null, mappedWriter, mode, interval);
+	}
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param channel
+	 *            File channel of the underlying writer (can be {@code null} if a memory-mapped writer is passed)
+	 * @param mappedWriter
+	 *            Memory-mapped file writer of the underlying writer (can be {@code null} if a file channel is passed)
+	 * @param mode
+	 *            Defines when to force written data
+	 * @param interval
+	 *            Minimum time in milliseconds between two force operations for {@link SyncMode#INTERVAL}
+	 */
+	private DurableWriterDecorator(final ByteArrayWriter writer, final FileChannel channel,
+		final MappedFileWriter mappedWriter, final SyncMode mode, final long interval) {
+		this.writer = writer;
+		this.channel = channel;
+		this.mappedWriter = mappedWriter;
+		this.mode = mode;
+		this.interval = TimeUnit.MILLISECONDS.toNanos(interval);
+		this.lastSync = System.nanoTime();
+	}
+
+	@Override
+	public synchronized int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		return writer.readTail(data, offset, length);
+	}
+
+	@Override
+	public synchronized void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public synchronized void write(final byte[] data, final int offset, final int length) throws IOException {
+		writer.write(data, offset, length);
+		dirty = true;
+
+		if (mode == SyncMode.INTERVAL) {
+			if (System.nanoTime() - lastSync >= interval) {
+				writer.flush();
+				sync();
+			} else {
+				scheduleSync();
+			}
+		}
+	}
+
+	@Override
+	public synchronized void truncate(final int count) throws IOException {
+		writer.truncate(count);
+		dirty = true;
+
+		if (mode == SyncMode.INTERVAL) {
+			scheduleSync();
+		}
+	}
+
+	@Override
+	public synchronized void flush() throws IOException {
+		writer.flush();
+
+		if (dirty && (mode == SyncMode.BATCH || System.nanoTime() - lastSync >= interval)) {
+			sync();
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		closed = true;
+
+		if (deferredSync != null) {
+			deferredSync.cancel(false);
+			deferredSync = null;
+		}
+
+		try {
+			writer.flush();
+			if (dirty) {
+				sync();
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Forces all written data to the storage device.
+	 *
+	 * @throws IOException
+	 *             Failed to force written data
+	 */
+	private void sync() throws IOException {
+		if (mappedWriter == null) {
+			channel.force(false);
+		} else {
+			mappedWriter.force();
+		}
+
+		dirty = false;
+		lastSync = System.nanoTime();
+	}
+
+	/**
+	 * Schedules a deferred force operation on the timer thread, if there is none yet. The force operation is due at
+	 * the end of the current interval.
+	 */
+	private void scheduleSync() {
+		if (deferredSync == null) {
+			long delay = Math.max(0, lastSync + interval - System.nanoTime());
+			deferredSync = Timer.EXECUTOR.schedule(new Runnable() {
+				@Override
+				public void run() {
+					syncDeferred();
+				}
+			}, delay, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Forces all written data to the storage device, if there is still unforced data. This method is called by the
+	 * timer thread.
+	 */
+	private synchronized void syncDeferred() {
+		deferredSync = null;
+
+		if (dirty && !closed) {
+			try {
+				writer.flush();
+				sync();
+			} catch (IOException ex) {
+				InternalLogger.log(Level.ERROR, ex, "Failed to force log file to storage device");
+			}
+		}
+	}
+
+	/**
+	 * Lazy holder for the timer thread. The timer thread is shared by all decorators and will be only started if
+	 * interval mode is used.
+	 */
+	private static final class Timer {
+
+		private static final ScheduledExecutorService EXECUTOR =
+			Executors.newSingleThreadScheduledExecutor(new NamedDaemonThreadFactory(TIMER_THREAD_NAME));
+
+	}
+
+}
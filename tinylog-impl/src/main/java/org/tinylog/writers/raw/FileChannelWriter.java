@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Writer for writing to a {@link FileChannel}. Data is copied into a direct byte buffer before handing it to the
+ * channel, so that the channel doesn't need to allocate a temporary direct buffer for every write operation.
+ */
+public final class FileChannelWriter implements ByteArrayWriter {
+
+	private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+
+	/**
+	 * @param file Underlying random access file
+	 */
+	public FileChannelWriter(final RandomAccessFile file) {
+		this(file, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param file Underlying random access file
+	 * @param capacity Size of the direct byte buffer in bytes
+	 */
+	public FileChannelWriter(final RandomAccessFile file, final int capacity) {
+		this.file = file;
+		this.channel = file.getChannel();
+		this.buffer = ByteBuffer.allocateDirect(capacity);
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		long size = channel.size();
+		int count = (int) Math.min(size, length);
+		ByteBuffer target = ByteBuffer.wrap(data, offset, count);
+
+		long position = size - count;
+		while (target.hasRemaining()) {
+			int read = channel.read(target, position);
+			if (read < 0) {
+				break;
+			}
+			position += read;
+		}
+
+		return count - target.remaining();
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		int position = offset;
+		int end = offset + length;
+
+		while (position < end) {
+			int chunk = Math.min(end - position, buffer.capacity());
+			buffer.clear();
+			buffer.put(data, position, chunk);
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			position += chunk;
+		}
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		channel.truncate(Math.max(0, channel.size() - count));
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		file.close();
+	}
+
+}
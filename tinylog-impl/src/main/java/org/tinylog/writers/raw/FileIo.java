@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.util.Locale;
+
+/**
+ * I/O methods for writing to files.
+ */
+public enum FileIo {
+
+	/**
+	 * Plain writing via {@link java.io.RandomAccessFile}.
+	 */
+	STREAM,
+
+	/**
+	 * Writing via {@link java.nio.channels.FileChannel} and a direct byte buffer.
+	 */
+	CHANNEL,
+
+	/**
+	 * Writing into a memory-mapped region of the file.
+	 */
+	MMAP;
+
+	/**
+	 * Resolves the I/O method for the passed name.
+	 *
+	 * @param name
+	 *            Case-insensitive name of the I/O method
+	 * @return Found I/O method
+	 * @throws IllegalArgumentException
+	 *             There is no I/O method with the passed name
+	 */
+	public static FileIo fromName(final String name) {
+		return valueOf(name.trim().toUpperCase(Locale.ROOT));
+	}
+
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Writer for appending data via a memory-mapped window of a file.
+ *
+ * <p>
+ *     The writer maps a fixed-size region at the current end of the file and copies all data directly into this
+ *     region. When the region is full, the next region is mapped. Therefore, the file contains trailing zero bytes
+ *     while it is opened. These bytes are cut off when the writer is closed. If the writer has not been closed, for
+ *     example because the application has crashed, the trailing zero bytes are cut off when opening the file again.
+ * </p>
+ *
+ * <p>
+ *     {@link FileChannel#force(boolean)} does not cover changes that have been made via a mapped byte buffer.
+ *     Therefore, written data has to be forced to the storage device via {@link #force()}. In durable mode, each
+ *     mapped region is also forced before being unmapped.
+ * </p>
+ */
+public final class MappedFileWriter implements ByteArrayWriter {
+
+	private static final int DEFAULT_WINDOW_SIZE = 4 * 1024 * 1024;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final int windowSize;
+	private final boolean durable;
+
+	private MappedByteBuffer window;
+	private long size;
+
+	/**
+	 * @param file Underlying random access file
+	 * @throws IOException Size of file cannot be determined or adjusted
+	 */
+	public MappedFileWriter(final RandomAccessFile file) throws IOException {
+		this(file, DEFAULT_WINDOW_SIZE, false);
+	}
+
+	/**
+	 * @param file Underlying random access file
+	 * @param durable Defines whether mapped regions have to be forced to the storage device before being unmapped
+	 * @throws IOException Size of file cannot be determined or adjusted
+	 */
+	public MappedFileWriter(final RandomAccessFile file, final boolean durable) throws IOException {
+		this(file, DEFAULT_WINDOW_SIZE, durable);
+	}
+
+	/**
+	 * @param file Underlying random access file
+	 * @param windowSize Size of the mapped region in bytes
+	 * @throws IOException Size of file cannot be determined or adjusted
+	 */
+	public MappedFileWriter(final RandomAccessFile file, final int windowSize) throws IOException {
+		this(file, windowSize, false);
+	}
+
+	/**
+	 * @param file Underlying random access file
+	 * @param windowSize Size of the mapped region in bytes
+	 * @param durable Defines whether mapped regions have to be forced to the storage device before being unmapped
+	 * @throws IOException Size of file cannot be determined or adjusted
+	 */
+	public MappedFileWriter(final RandomAccessFile file, final int windowSize, final boolean durable) throws IOException {
+		this.file = file;
+		this.channel = file.getChannel();
+		this.windowSize = windowSize;
+		this.durable = durable;
+
+		long length = file.length();
+		this.size = findEnd(channel, length, windowSize);
+		if (size < length) {
+			channel.truncate(size);
+		}
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		int count = (int) Math.min(size, length);
+		ByteBuffer target = ByteBuffer.wrap(data, offset, count);
+
+		long position = size - count;
+		while (target.hasRemaining()) {
+			int read = channel.read(target, position);
+			if (read < 0) {
+				break;
+			}
+			position += read;
+		}
+
+		return count - target.remaining();
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		int position = offset;
+		int end = offset + length;
+
+		while (position < end) {
+			if (window == null || !window.hasRemaining()) {
+				release();
+				window = channel.map(MapMode.READ_WRITE, size, windowSize);
+			}
+
+			int chunk = Math.min(end - position, window.remaining());
+			window.put(data, position, chunk);
+			position += chunk;
+			size += chunk;
+		}
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		release();
+		size = Math.max(0, size - count);
+		channel.truncate(size);
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	/**
+	 * Forces all written data, including the data in the currently mapped region, to the storage device.
+	 *
+	 * @throws IOException Failed to force written data
+	 */
+	public void force() throws IOException {
+		if (window != null) {
+			window.force();
+		}
+		channel.force(false);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			release();
+			channel.truncate(size);
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * Unmaps the current window, if there is one. Mapped byte buffers can only be unmapped explicitly via internal
+	 * JDK API. If this is not possible, the mapping will be released by the garbage collector.
+	 */
+	private void release() {
+		if (window != null) {
+			if (durable) {
+				window.force();
+			}
+
+			try {
+				unmap(window);
+			} catch (Exception ex) {
+				InternalLogger.log(Level.WARN, ex, "Failed to unmap memory-mapped file region");
+			}
+			window = null;
+		}
+	}
+
+	/**
+	 * Finds the end of the actual data of a file. The trailing zero bytes of the last mapped region can only be left,
+	 * if a previous writer has not been closed. Therefore, at most one window size is scanned backwards.
+	 *
+	 * @param channel File channel for reading
+	 * @param length Physical length of the file
+	 * @param windowSize Size of a mapped region in bytes
+	 * @return Length of the file without trailing zero bytes
+	 * @throws IOException Failed to read the file
+	 */
+	private static long findEnd(final FileChannel channel, final long length, final int windowSize) throws IOException {
+		long limit = Math.max(0, length - windowSize);
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, length - limit));
+
+		long end = length;
+		while (end > limit) {
+			int count = (int) Math.min(buffer.capacity(), end - limit);
+			long position = end - count;
+
+			buffer.clear();
+			buffer.limit(count);
+			while (buffer.hasRemaining()) {
+				int read = channel.read(buffer, position + buffer.position());
+				if (read < 0) {
+					break;
+				}
+			}
+
+			for (int i = buffer.position() - 1; i >= 0; --i) {
+				if (buffer.get(i) != 0) {
+					return position + i + 1;
+				}
+			}
+
+			end = position;
+		}
+
+		return end;
+	}
+
+	/**
+	 * Unmaps a mapped byte buffer via {@code sun.misc.Unsafe.invokeCleaner()} on Java 9 and later or via the buffer's
+	 * cleaner on older Java versions.
+	 *
+	 * @param buffer Mapped byte buffer to unmap
+	 * @throws Exception Internal JDK API is not available
+	 */
+	private static void unmap(final MappedByteBuffer buffer) throws Exception {
+		Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+
+		Method invokeCleaner;
+		try {
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (NoSuchMethodException ex) {
+			invokeCleaner = null;
+		}
+
+		if (invokeCleaner == null) {
+			Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+			cleanerMethod.setAccessible(true);
+			Object cleaner = cleanerMethod.invoke(buffer);
+			if (cleaner != null) {
+				Method cleanMethod = cleaner.getClass().getMethod("clean");
+				cleanMethod.setAccessible(true);
+				cleanMethod.invoke(cleaner);
+			}
+		} else {
+			Field field = unsafeClass.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			invokeCleaner.invoke(field.get(null), buffer);
+		}
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.util.Locale;
+
+/**
+ * Modes for forcing written data to the storage device.
+ */
+public enum SyncMode {
+
+	/**
+	 * Data is never forced explicitly, the operating system decides when to write data to the storage device.
+	 */
+	NONE,
+
+	/**
+	 * Data is forced at most once per interval for all log entries written in the meantime. Written data is forced at
+	 * the latest after the interval, even if no further log entries are written.
+	 */
+	INTERVAL,
+
+	/**
+	 * Data is forced for each batch of log entries, which is output by the writing thread before flushing. Without
+	 * writing thread, each log entry is its own batch.
+	 */
+	BATCH;
+
+	/**
+	 * Resolves the sync mode for the passed name.
+	 *
+	 * @param name
+	 *            Case-insensitive name of the sync mode
+	 * @return Found sync mode
+	 * @throws IllegalArgumentException
+	 *             There is no sync mode with the passed name
+	 */
+	public static SyncMode fromName(final String name) {
+		return valueOf(name.trim().toUpperCase(Locale.ROOT));
+	}
+
+}
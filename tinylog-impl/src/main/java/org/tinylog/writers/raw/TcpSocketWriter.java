@@ -45,6 +45,7 @@ public class TcpSocketWriter extends AbstractSocketWriter {
 
 	@Override
 	public void close() throws Exception {
+		releaseRenderBuffers();
 		socket.close();
 	}
 
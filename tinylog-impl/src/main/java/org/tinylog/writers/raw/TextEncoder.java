@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Reusable encoder for converting texts into byte arrays.
+ *
+ * <p>
+ *     Encoded texts are stored in an internal byte array that is reused for subsequent texts and grows on demand. US-ASCII,
+ *     ISO-8859-1 and UTF-8 are encoded directly without creating any intermediate strings. All other charsets are
+ *     encoded via {@link String#getBytes(Charset)}. Unmappable characters and malformed surrogates are replaced by
+ *     {@code '?'} like {@link String#getBytes(Charset)} does.
+ * </p>
+ *
+ * <p>
+ *     Instances of this class are not thread-safe.
+ * </p>
+ */
+public final class TextEncoder {
+
+	private static final int DEFAULT_CAPACITY = 1024;
+	private static final int MAX_BYTES_PER_CHAR = 3;
+
+	private static final int MAX_ASCII_CODE_POINT = 0x7F;
+	private static final int MAX_LATIN_1_CODE_POINT = 0xFF;
+
+	private static final Charset ASCII_CHARSET = Charset.forName("US-ASCII");
+	private static final Charset LATIN_1_CHARSET = Charset.forName("ISO-8859-1");
+	private static final Charset UTF_8_CHARSET = Charset.forName("UTF-8");
+
+	private static final byte REPLACEMENT = '?';
+
+	private final Charset charset;
+	private final Encoding encoding;
+
+	private byte[] buffer;
+	private int length;
+
+	/**
+	 * @param charset
+	 *            Charset for encoding texts
+	 */
+	public TextEncoder(final Charset charset) {
+		this(charset, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param charset
+	 *            Charset for encoding texts
+	 * @param capacity
+	 *            Initial size of the internal byte array
+	 */
+	public TextEncoder(final Charset charset, final int capacity) {
+		this.charset = charset;
+		this.encoding = Encoding.of(charset);
+		this.buffer = new byte[capacity];
+		this.length = 0;
+	}
+
+	/**
+	 * Encodes a text. Any previously encoded text will be overwritten.
+	 *
+	 * @param text
+	 *            Text to encode
+	 */
+	public void encode(final CharSequence text) {
+		switch (encoding) {
+			case ASCII:
+				encodeSingleByte(text, MAX_ASCII_CODE_POINT);
+				break;
+
+			case LATIN_1:
+				encodeSingleByte(text, MAX_LATIN_1_CODE_POINT);
+				break;
+
+			case UTF_8:
+				encodeUtf8(text);
+				break;
+
+			default:
+				byte[] data = text.toString().getBytes(charset);
+				ensureCapacity(data.length);
+				System.arraycopy(data, 0, buffer, 0, data.length);
+				length = data.length;
+				break;
+		}
+	}
+
+	/**
+	 * Gets the internal byte array that contains the last encoded text. Only the first {@link #getLength()} bytes are
+	 * valid. The returned array will be reused and overwritten by subsequent calls of {@link #encode(CharSequence)}.
+	 *
+	 * @return Internal byte array
+	 */
+	public byte[] getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Gets the number of bytes of the last encoded text.
+	 *
+	 * @return Number of valid bytes in internal byte array
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Copies the last encoded text into a new byte array with the exact length.
+	 *
+	 * @return Copy of encoded text
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buffer, length);
+	}
+
+	/**
+	 * Encodes a text by a single byte charset, whose code points are identical with the first Unicode code points.
+	 *
+	 * @param text
+	 *            Text to encode
+	 * @param maxCodePoint
+	 *            Highest code point that can be represented by the charset
+	 */
+	private void encodeSingleByte(final CharSequence text, final int maxCodePoint) {
+		int size = text.length();
+		ensureCapacity(size);
+
+		byte[] buffer = this.buffer;
+		int position = 0;
+
+		for (int i = 0; i < size; ++i) {
+			char character = text.charAt(i);
+			if (character <= maxCodePoint) {
+				buffer[position++] = (byte) character;
+			} else {
+				buffer[position++] = REPLACEMENT;
+				if (Character.isHighSurrogate(character) && i + 1 < size && Character.isLowSurrogate(text.charAt(i + 1))) {
+					++i;
+				}
+			}
+		}
+
+		length = position;
+	}
+
+	// @checkstyle off: MagicNumber
+
+	/**
+	 * Encodes a text as UTF-8.
+	 *
+	 * @param text
+	 *            Text to encode
+	 */
+	private void encodeUtf8(final CharSequence text) {
+		int size = text.length();
+		if (buffer.length < size * MAX_BYTES_PER_CHAR) {
+			ensureCapacity(getUtf8Length(text));
+		}
+
+		byte[] buffer = this.buffer;
+		int position = 0;
+
+		for (int i = 0; i < size; ++i) {
+			char character = text.charAt(i);
+			if (character < 0x80) {
+				buffer[position++] = (byte) character;
+			} else if (character < 0x800) {
+				buffer[position++] = (byte) (0xC0 | character >> 6);
+				buffer[position++] = (byte) (0x80 | character & 0x3F);
+			} else if (Character.isHighSurrogate(character) && i + 1 < size && Character.isLowSurrogate(text.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(character, text.charAt(++i));
+				buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+				buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+				buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+				buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+			} else if (Character.isHighSurrogate(character) || Character.isLowSurrogate(character)) {
+				buffer[position++] = REPLACEMENT;
+			} else {
+				buffer[position++] = (byte) (0xE0 | character >> 12);
+				buffer[position++] = (byte) (0x80 | character >> 6 & 0x3F);
+				buffer[position++] = (byte) (0x80 | character & 0x3F);
+			}
+		}
+
+		length = position;
+	}
+
+	/**
+	 * Calculates the exact number of bytes that are required for encoding a text as UTF-8.
+	 *
+	 * @param text
+	 *            Text to encode
+	 * @return Number of bytes
+	 */
+	private static int getUtf8Length(final CharSequence text) {
+		int size = text.length();
+		int length = 0;
+
+		for (int i = 0; i < size; ++i) {
+			char character = text.charAt(i);
+			if (character < 0x80) {
+				length += 1;
+			} else if (character < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(character) && i + 1 < size && Character.isLowSurrogate(text.charAt(i + 1))) {
+				length += 4;
+				++i;
+			} else if (Character.isHighSurrogate(character) || Character.isLowSurrogate(character)) {
+				length += 1;
+			} else {
+				length += 3;
+			}
+		}
+
+		return length;
+	}
+
+	// @checkstyle on: MagicNumber
+
+	/**
+	 * Ensures that the internal byte array can store at least the passed number of bytes. Already stored bytes are not
+	 * preserved.
+	 *
+	 * @param capacity
+	 *            Required number of bytes
+	 */
+	private void ensureCapacity(final int capacity) {
+		if (buffer.length < capacity) {
+			buffer = new byte[Math.max(capacity, buffer.length * 2)];
+		}
+	}
+
+	/**
+	 * Supported encoding algorithms.
+	 */
+	private enum Encoding {
+
+		/**
+		 * US-ASCII with seven bits per character.
+		 */
+		ASCII,
+
+		/**
+		 * ISO-8859-1 with eight bits per character.
+		 */
+		LATIN_1,
+
+		/**
+		 * UTF-8 with one up to four bytes per character.
+		 */
+		UTF_8,
+
+		/**
+		 * Any other charset that is encoded by the JVM.
+		 */
+		OTHER;
+
+		/**
+		 * Gets the best encoding algorithm for a charset.
+		 *
+		 * @param charset
+		 *            Charset for encoding
+		 * @return Encoding algorithm
+		 */
+		private static Encoding of(final Charset charset) {
+			if (ASCII_CHARSET.equals(charset)) {
+				return ASCII;
+			} else if (LATIN_1_CHARSET.equals(charset)) {
+				return LATIN_1;
+			} else if (UTF_8_CHARSET.equals(charset)) {
+				return UTF_8;
+			} else {
+				return OTHER;
+			}
+		}
+
+	}
+
+}
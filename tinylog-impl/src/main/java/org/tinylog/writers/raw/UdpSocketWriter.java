@@ -46,6 +46,7 @@ public class UdpSocketWriter extends AbstractSocketWriter {
 
 	@Override
 	public void close() throws Exception {
+		releaseRenderBuffers();
 		datagramSocket.close();
 	}
 
@@ -1,4 +1,5 @@
 module org.tinylog.impl {
+	requires static com.github.luben.zstd_jni;
 	requires static java.naming;
 	requires static java.sql;
 	requires org.tinylog.api;
@@ -18,10 +19,15 @@ module org.tinylog.impl {
 	uses org.tinylog.writers.Writer;
 
 	provides org.tinylog.converters.FileConverter with
-			org.tinylog.converters.GzipFileConverter;
+			org.tinylog.converters.GzipFileConverter,
+			org.tinylog.converters.Lz4FileConverter,
+			org.tinylog.converters.StreamingGzipFileConverter,
+			org.tinylog.converters.ZstdFileConverter;
 
 	provides org.tinylog.policies.Policy with
+			org.tinylog.policies.HourlyPolicy,
 			org.tinylog.policies.DailyPolicy,
+			org.tinylog.policies.IntervalPolicy,
 			org.tinylog.policies.MonthlyPolicy,
 			org.tinylog.policies.StartupPolicy,
 			org.tinylog.policies.SizePolicy;
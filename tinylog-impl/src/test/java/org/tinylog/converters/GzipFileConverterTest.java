@@ -24,7 +24,9 @@ import java.util.zip.GZIPInputStream;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.powermock.reflect.Whitebox;
 import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.rules.SystemStreamCollector;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.tinylog.util.ResultObserver.waitFor;
@@ -34,6 +36,12 @@ import static org.tinylog.util.ResultObserver.waitFor;
  */
 public class GzipFileConverterTest {
 
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
 	/**
 	 * Temporary folder for creating files.
 	 */
@@ -82,6 +90,62 @@ public class GzipFileConverterTest {
 		assertThat(originalFile).doesNotExist();
 	}
 
+	/**
+	 * Verifies that files will be compressed by multiple threads, if a number of threads is passed.
+	 *
+	 * @throws IOException
+	 *             Failed to create new file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void parallelCompression() throws IOException, InterruptedException {
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".gz");
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; builder.length() < ParallelGzipEncoder.CHUNK_SIZE * 3; ++i) {
+			builder.append("Log entry #").append(i).append(System.lineSeparator());
+		}
+
+		byte[] data = builder.toString().getBytes(StandardCharsets.UTF_8);
+		GzipFileConverter converter = new GzipFileConverter("4");
+
+		converter.open(originalFile.getAbsolutePath());
+		Files.write(originalFile.toPath(), data);
+		converter.close();
+		converter.shutdown();
+
+		waitFor(originalFile::exists, value -> !value, 1000);
+
+		try (InputStream fileStream = new FileInputStream(compressedFile)) {
+			try (GZIPInputStream gzipStream = new GZIPInputStream(fileStream)) {
+				assertThat(gzipStream.readAllBytes()).isEqualTo(data);
+			}
+		}
+	}
+
+	/**
+	 * Verifies that an error will be output and a single thread will be used, if the passed number of threads is
+	 * invalid.
+	 */
+	@Test
+	public void invalidThreads() {
+		GzipFileConverter converter = new GzipFileConverter("many");
+		assertThat(Whitebox.<Integer>getInternalState(converter, "threads")).isEqualTo(1);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("many");
+	}
+
+	/**
+	 * Verifies that the GZIP converter can be created with a number of threads as argument.
+	 */
+	@Test
+	public void isRegisteredWithArgument() {
+		FileConverter converter = new ServiceLoader<>(FileConverter.class, String.class).create("gzip", "2");
+		assertThat(converter).isInstanceOf(GzipFileConverter.class);
+		assertThat(Whitebox.<Integer>getInternalState(converter, "threads")).isEqualTo(2);
+	}
+
 	/**
 	 * Verifies that the GZIP converter is registered as service under the name "gzip".
 	 */
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.rules.SystemStreamCollector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.tinylog.util.ResultObserver.waitFor;
+
+/**
+ * Tests for {@link Lz4FileConverter}.
+ */
+public final class Lz4FileConverterTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Temporary folder for creating files.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Verifies that ".lz4" is provided as file extension for backup files.
+	 */
+	@Test
+	public void suffix() {
+		assertThat(new Lz4FileConverter().getBackupSuffix()).isEqualTo(".lz4");
+	}
+
+	/**
+	 * Verifies that files will be compressed and the original file will be deleted after closing.
+	 *
+	 * @throws IOException
+	 *             Failed to create new file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void compression() throws IOException, InterruptedException {
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".lz4");
+
+		byte[] data = "My little LZ4 test".getBytes(StandardCharsets.UTF_8);
+		Lz4FileConverter converter = new Lz4FileConverter("9");
+
+		converter.open(originalFile.getAbsolutePath());
+		assertThat(converter.write(data)).isSameAs(data);
+		Files.write(originalFile.toPath(), data);
+		converter.close();
+		converter.shutdown();
+
+		waitFor(originalFile::exists, value -> !value, 1000);
+
+		assertThat(Lz4FrameOutputStreamTest.decompress(Files.readAllBytes(compressedFile.toPath()))).isEqualTo(data);
+		assertThat(originalFile).doesNotExist();
+	}
+
+	/**
+	 * Verifies that a passed compression level is used.
+	 */
+	@Test
+	public void customLevel() {
+		Lz4FileConverter converter = new Lz4FileConverter("5");
+		assertThat(Whitebox.<Integer>getInternalState(converter, "level")).isEqualTo(5);
+	}
+
+	/**
+	 * Verifies that an error will be output and the default level will be used, if the passed level is invalid.
+	 */
+	@Test
+	public void invalidLevel() {
+		Lz4FileConverter converter = new Lz4FileConverter("10");
+		assertThat(Whitebox.<Integer>getInternalState(converter, "level")).isEqualTo(1);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("10");
+	}
+
+	/**
+	 * Verifies that the LZ4 converter is registered as service under the name "lz4".
+	 */
+	@Test
+	public void isRegistered() {
+		FileConverter converter = new ServiceLoader<>(FileConverter.class).create("lz4");
+		assertThat(converter).isInstanceOf(Lz4FileConverter.class);
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Lz4FrameOutputStream}.
+ */
+public final class Lz4FrameOutputStreamTest {
+
+	private static final Random RANDOM = new Random(42);
+
+	/**
+	 * Verifies that an empty stream results in a valid frame without any blocks.
+	 *
+	 * @throws IOException
+	 *             Failed to compress data
+	 */
+	@Test
+	public void empty() throws IOException {
+		byte[] compressed = compress(new byte[0], 1);
+
+		assertThat(compressed).hasSize(15);
+		assertThat(decompress(compressed)).isEmpty();
+	}
+
+	/**
+	 * Verifies that repetitive log text is compressed and can be decompressed with all compression levels.
+	 *
+	 * @throws IOException
+	 *             Failed to compress data
+	 */
+	@Test
+	public void logText() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		while (builder.length() < 3 * 1024 * 1024) {
+			builder.append("2026-10-17 12:00:").append(RANDOM.nextInt(60)).append(" [main] INFO  Service - User ")
+				.append(RANDOM.nextInt(10000)).append(" logged in\n");
+		}
+
+		byte[] data = builder.toString().getBytes(StandardCharsets.US_ASCII);
+		int previousSize = Integer.MAX_VALUE;
+
+		for (int level = Lz4FrameOutputStream.MIN_LEVEL; level <= Lz4FrameOutputStream.MAX_LEVEL; level += 4) {
+			byte[] compressed = compress(data, level);
+			assertThat(decompress(compressed)).isEqualTo(data);
+			assertThat(compressed.length).isLessThan(data.length / 3).isLessThanOrEqualTo(previousSize);
+			previousSize = compressed.length;
+		}
+	}
+
+	/**
+	 * Verifies that incompressible data is stored in uncompressed blocks.
+	 *
+	 * @throws IOException
+	 *             Failed to compress data
+	 */
+	@Test
+	public void randomData() throws IOException {
+		byte[] data = new byte[100_000];
+		RANDOM.nextBytes(data);
+
+		byte[] compressed = compress(data, 1);
+
+		assertThat(compressed.length).isLessThan(data.length + 20);
+		assertThat(decompress(compressed)).isEqualTo(data);
+	}
+
+	/**
+	 * Verifies that single bytes can be written.
+	 *
+	 * @throws IOException
+	 *             Failed to compress data
+	 */
+	@Test
+	public void singleBytes() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (OutputStream stream = new Lz4FrameOutputStream(output, 1)) {
+			for (int i = 0; i < 1000; ++i) {
+				stream.write('a' + i % 3);
+			}
+		}
+
+		byte[] expected = new byte[1000];
+		for (int i = 0; i < expected.length; ++i) {
+			expected[i] = (byte) ('a' + i % 3);
+		}
+
+		assertThat(decompress(output.toByteArray())).isEqualTo(expected);
+	}
+
+	/**
+	 * Compresses data in the LZ4 frame format.
+	 *
+	 * @param data
+	 *            Uncompressed data
+	 * @param level
+	 *            Compression level
+	 * @return Compressed data
+	 * @throws IOException
+	 *             Failed to compress data
+	 */
+	private static byte[] compress(final byte[] data, final int level) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (OutputStream stream = new Lz4FrameOutputStream(output, level)) {
+			stream.write(data);
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * Decompresses and validates an LZ4 frame.
+	 *
+	 * @param frame
+	 *            Compressed data in the LZ4 frame format
+	 * @return Decompressed data
+	 */
+	static byte[] decompress(final byte[] frame) {
+		ByteBuffer input = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+		assertThat(input.getInt()).isEqualTo(0x184D2204);
+
+		byte flags = input.get();
+		byte descriptor = input.get();
+		assertThat(input.get()).isEqualTo((byte) (XxHash32.hash(new byte[] {flags, descriptor}, 0, 2) >> 8));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		for (int size = input.getInt(); size != 0; size = input.getInt()) {
+			byte[] block = new byte[size & 0x7FFFFFFF];
+			input.get(block);
+			if (size < 0) {
+				output.write(block, 0, block.length);
+			} else {
+				byte[] data = decompressBlock(block);
+				output.write(data, 0, data.length);
+			}
+		}
+
+		byte[] data = output.toByteArray();
+		assertThat(input.getInt()).isEqualTo(XxHash32.hash(data, 0, data.length));
+		assertThat(input.hasRemaining()).isFalse();
+		return data;
+	}
+
+	/**
+	 * Decompresses a single LZ4 block.
+	 *
+	 * @param block
+	 *            Compressed block
+	 * @return Decompressed data
+	 */
+	private static byte[] decompressBlock(final byte[] block) {
+		byte[] output = new byte[4 * 1024 * 1024];
+		int in = 0;
+		int out = 0;
+
+		while (true) {
+			int token = block[in++] & 0xFF;
+
+			int literals = token >>> 4;
+			if (literals == 15) {
+				int value;
+				do {
+					value = block[in++] & 0xFF;
+					literals += value;
+				} while (value == 255);
+			}
+
+			System.arraycopy(block, in, output, out, literals);
+			in += literals;
+			out += literals;
+
+			if (in == block.length) {
+				return Arrays.copyOf(output, out);
+			}
+
+			int offset = block[in++] & 0xFF | (block[in++] & 0xFF) << 8;
+			assertThat(offset).isBetween(1, out);
+
+			int length = token & 0x0F;
+			if (length == 15) {
+				int value;
+				do {
+					value = block[in++] & 0xFF;
+					length += value;
+				} while (value == 255);
+			}
+
+			for (int i = 0; i < length + 4; ++i) {
+				output[out] = output[out - offset];
+				out += 1;
+			}
+		}
+	}
+
+}
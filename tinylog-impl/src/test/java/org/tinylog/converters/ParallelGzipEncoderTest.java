@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.tinylog.rules.SystemStreamCollector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ParallelGzipEncoder}.
+ */
+public final class ParallelGzipEncoderTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Temporary folder for creating files.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private ExecutorService pool;
+
+	/**
+	 * Creates the thread pool for deflating chunks.
+	 */
+	@Before
+	public void init() {
+		pool = Executors.newFixedThreadPool(3);
+	}
+
+	/**
+	 * Shuts down the thread pool.
+	 */
+	@After
+	public void dispose() {
+		pool.shutdownNow();
+	}
+
+	/**
+	 * Verifies that a small text file can be compressed and the original file will be deleted.
+	 *
+	 * @throws IOException
+	 *             Failed to read or write file
+	 */
+	@Test
+	public void encodeSmallFile() throws IOException {
+		byte[] data = "Hello tinylog! This is some flavor text.".getBytes(StandardCharsets.UTF_8);
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".gz");
+
+		Files.write(originalFile.toPath(), data);
+		new ParallelGzipEncoder(originalFile, pool, 3).run();
+
+		assertThat(originalFile).doesNotExist();
+		assertThat(decompress(compressedFile)).isEqualTo(data);
+	}
+
+	/**
+	 * Verifies that an empty file can be compressed.
+	 *
+	 * @throws IOException
+	 *             Failed to read or write file
+	 */
+	@Test
+	public void encodeEmptyFile() throws IOException {
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".gz");
+
+		new ParallelGzipEncoder(originalFile, pool, 3).run();
+
+		assertThat(originalFile).doesNotExist();
+		assertThat(decompress(compressedFile)).isEmpty();
+	}
+
+	/**
+	 * Verifies that a file with many chunks is compressed into a valid GZIP file, whose back references can cross
+	 * chunk boundaries.
+	 *
+	 * @throws IOException
+	 *             Failed to read or write file
+	 */
+	@Test
+	public void encodeLargeFile() throws IOException {
+		Random random = new Random(42);
+		StringBuilder builder = new StringBuilder();
+		while (builder.length() < ParallelGzipEncoder.CHUNK_SIZE * 10 + 123) {
+			builder.append("User ").append(random.nextInt(1000)).append(" logged in").append(System.lineSeparator());
+		}
+
+		byte[] data = builder.toString().getBytes(StandardCharsets.UTF_8);
+		File originalFile = folder.newFile();
+		File compressedFile = new File(originalFile.getAbsolutePath() + ".gz");
+
+		Files.write(originalFile.toPath(), data);
+		new ParallelGzipEncoder(originalFile, pool, 3).run();
+
+		assertThat(originalFile).doesNotExist();
+		assertThat(decompress(compressedFile)).isEqualTo(data);
+
+		ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+		try (GZIPOutputStream stream = new GZIPOutputStream(sequential)) {
+			stream.write(data);
+		}
+
+		assertThat(compressedFile.length()).isLessThan(sequential.size() * 11L / 10L);
+	}
+
+	/**
+	 * Verifies that a meaningful error will be output, if the passed file does not exist.
+	 *
+	 * @throws IOException
+	 *             Failed to read or write file
+	 */
+	@Test
+	public void reportNonExistingFile() throws IOException {
+		File file = folder.newFile();
+		Files.delete(file.toPath());
+
+		new ParallelGzipEncoder(file, pool, 3).run();
+
+		assertThat(systemStream.consumeErrorOutput())
+			.containsOnlyOnce("ERROR")
+			.contains(file.getAbsolutePath());
+	}
+
+	/**
+	 * Decompresses a GZIP file.
+	 *
+	 * @param file
+	 *            GZIP file to decompress
+	 * @return Decompressed data
+	 * @throws IOException
+	 *             Failed to read file
+	 */
+	private static byte[] decompress(final File file) throws IOException {
+		try (InputStream fileStream = new FileInputStream(file)) {
+			try (GZIPInputStream gzipStream = new GZIPInputStream(fileStream)) {
+				return gzipStream.readAllBytes();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.rules.SystemStreamCollector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StreamingGzipFileConverter}.
+ */
+public final class StreamingGzipFileConverterTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Temporary folder for creating files.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Verifies that there is no file extension for backup files, as log files are compressed directly.
+	 */
+	@Test
+	public void suffix() {
+		assertThat(new StreamingGzipFileConverter().getBackupSuffix()).isNull();
+	}
+
+	/**
+	 * Verifies that written data is compressed and the log file is a valid GZIP file after closing.
+	 *
+	 * @throws IOException
+	 *             Failed to read or write file
+	 */
+	@Test
+	public void compression() throws IOException {
+		File file = folder.newFile();
+		StreamingGzipFileConverter converter = new StreamingGzipFileConverter();
+
+		try (OutputStream stream = new FileOutputStream(file)) {
+			converter.open(file.getAbsolutePath());
+			for (int i = 0; i < 1000; ++i) {
+				stream.write(converter.write(("Log entry #" + i + "\n").getBytes(StandardCharsets.UTF_8)));
+			}
+		}
+
+		converter.close();
+		converter.shutdown();
+
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 1000; ++i) {
+			expected.append("Log entry #").append(i).append("\n");
+		}
+
+		assertThat(decompress(file)).isEqualTo(expected.toString());
+		assertThat(file.length()).isLessThan(expected.length() / 2);
+	}
+
+	/**
+	 * Verifies that all data up to the latest sync flush can be decompressed before closing the log file.
+	 *
+	 * @throws IOException
+	 *             Failed to write data
+	 * @throws DataFormatException
+	 *             Invalid compressed data
+	 */
+	@Test
+	public void readableBeforeClosing() throws IOException, DataFormatException {
+		StreamingGzipFileConverter converter = new StreamingGzipFileConverter("10 bytes");
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+		converter.open(folder.newFile().getAbsolutePath());
+		stream.write(converter.write("First\n".getBytes(StandardCharsets.UTF_8)));
+		stream.write(converter.write("Second\n".getBytes(StandardCharsets.UTF_8)));
+		converter.shutdown();
+
+		byte[] data = stream.toByteArray();
+		Inflater inflater = new Inflater(true);
+		inflater.setInput(Arrays.copyOfRange(data, 10, data.length));
+		byte[] output = new byte[100];
+		int count = inflater.inflate(output);
+		inflater.end();
+
+		assertThat(new String(output, 0, count, StandardCharsets.UTF_8)).isEqualTo("First\nSecond\n");
+	}
+
+	/**
+	 * Verifies that a continued log file gets an additional GZIP member and remains decompressible.
+	 *
+	 * @throws IOException
+	 *             Failed to read or write file
+	 */
+	@Test
+	public void continueExistingFile() throws IOException {
+		File file = folder.newFile();
+		StreamingGzipFileConverter converter = new StreamingGzipFileConverter();
+
+		for (String text : new String[] {"Hello World!\n", "Goodbye!\n"}) {
+			try (OutputStream stream = new FileOutputStream(file, true)) {
+				converter.open(file.getAbsolutePath());
+				stream.write(converter.write(text.getBytes(StandardCharsets.UTF_8)));
+			}
+			converter.close();
+		}
+
+		converter.shutdown();
+
+		assertThat(decompress(file)).isEqualTo("Hello World!\nGoodbye!\n");
+	}
+
+	/**
+	 * Verifies that a log file without any written data becomes a valid empty GZIP file.
+	 *
+	 * @throws IOException
+	 *             Failed to read file
+	 */
+	@Test
+	public void closeEmptyFile() throws IOException {
+		File file = folder.newFile();
+		StreamingGzipFileConverter converter = new StreamingGzipFileConverter();
+
+		converter.open(file.getAbsolutePath());
+		converter.close();
+		converter.shutdown();
+
+		assertThat(decompress(file)).isEmpty();
+	}
+
+	/**
+	 * Verifies that a meaningful error will be output, if the GZIP trailer cannot be appended.
+	 *
+	 * @throws IOException
+	 *             Failed to create folder
+	 */
+	@Test
+	public void reportNonWritableFile() throws IOException {
+		File file = folder.newFolder();
+		StreamingGzipFileConverter converter = new StreamingGzipFileConverter();
+
+		converter.open(file.getAbsolutePath());
+		converter.close();
+		converter.shutdown();
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains(file.getAbsolutePath());
+	}
+
+	/**
+	 * Verifies that a sync size can be defined with units.
+	 */
+	@Test
+	public void customSyncSize() {
+		StreamingGzipFileConverter converter = new StreamingGzipFileConverter("16 KB");
+		assertThat(Whitebox.<Long>getInternalState(converter, "syncSize")).isEqualTo(16 * 1024L);
+		converter.shutdown();
+	}
+
+	/**
+	 * Verifies that an error will be output and the default sync size will be used, if the passed sync size is
+	 * invalid.
+	 */
+	@Test
+	public void invalidSyncSize() {
+		StreamingGzipFileConverter converter = new StreamingGzipFileConverter("huge");
+		assertThat(Whitebox.<Long>getInternalState(converter, "syncSize")).isEqualTo(64 * 1024L);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("huge");
+		converter.shutdown();
+	}
+
+	/**
+	 * Verifies that the streaming GZIP converter is registered as service under the name "streaming gzip".
+	 */
+	@Test
+	public void isRegistered() {
+		FileConverter converter = new ServiceLoader<>(FileConverter.class).create("streaming gzip");
+		assertThat(converter).isInstanceOf(StreamingGzipFileConverter.class);
+	}
+
+	/**
+	 * Decompresses a GZIP file.
+	 *
+	 * @param file
+	 *            GZIP file to decompress
+	 * @return Decompressed text
+	 * @throws IOException
+	 *             Failed to read file
+	 */
+	private static String decompress(final File file) throws IOException {
+		byte[] data = Files.readAllBytes(file.toPath());
+		try (InputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+			return new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
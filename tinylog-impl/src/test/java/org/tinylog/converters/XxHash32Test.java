@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.converters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link XxHash32}.
+ */
+public final class XxHash32Test {
+
+	private static final Random RANDOM = new Random(42);
+
+	/**
+	 * Verifies that the reference test vectors are calculated correctly.
+	 */
+	@Test
+	public void referenceValues() {
+		assertThat(hash("")).isEqualTo(0x02CC5D05);
+		assertThat(hash("a")).isEqualTo(0x550D7456);
+		assertThat(hash("abc")).isEqualTo(0x32D153FF);
+		assertThat(hash("Nobody inspects the spammish repetition")).isEqualTo(0xE2293B2F);
+	}
+
+	/**
+	 * Verifies that updating the hash in several parts results in the same hash as passing all data at once.
+	 */
+	@Test
+	public void streaming() {
+		byte[] data = new byte[1000];
+		RANDOM.nextBytes(data);
+
+		XxHash32 hash = new XxHash32();
+		hash.update(data, 0, 3);
+		hash.update(data, 3, 20);
+		hash.update(data, 23, 0);
+		hash.update(data, 23, 977);
+
+		assertThat(hash.getValue()).isEqualTo(XxHash32.hash(data, 0, data.length));
+	}
+
+	/**
+	 * Verifies that a hash can be reused after resetting.
+	 */
+	@Test
+	public void reset() {
+		byte[] data = "abc".getBytes(StandardCharsets.US_ASCII);
+
+		XxHash32 hash = new XxHash32();
+		hash.update(data, 0, data.length);
+		hash.reset();
+		hash.update(data, 0, 1);
+
+		assertThat(hash.getValue()).isEqualTo(0x550D7456);
+	}
+
+	/**
+	 * Calculates the hash of an ASCII text.
+	 *
+	 * @param text
+	 *            Text to hash
+	 * @return Calculated hash
+	 */
+	private static int hash(final String text) {
+		byte[] data = text.getBytes(StandardCharsets.US_ASCII);
+		return XxHash32.hash(data, 0, data.length);
+	}
+
+}
@@ -15,6 +15,7 @@ package org.tinylog.core;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -252,6 +253,301 @@ public final class ConfigurationParserTest {
 		assertThat(enabled).isTrue();
 	}
 
+	/**
+	 * Verifies that the writing thread uses the synchronized queue by default.
+	 */
+	@Test
+	public void noConfiguredQueue() {
+		boolean enabled = ConfigurationParser.isRingBufferEnabled();
+		assertThat(enabled).isFalse();
+	}
+
+	/**
+	 * Verifies that the synchronized queue can be configured explicitly.
+	 */
+	@Test
+	public void synchronizedQueue() {
+		Configuration.set("writingthread.queue", "synchronized");
+
+		boolean enabled = ConfigurationParser.isRingBufferEnabled();
+		assertThat(enabled).isFalse();
+	}
+
+	/**
+	 * Verifies that the ring buffer can be configured as queue.
+	 */
+	@Test
+	public void ringBufferQueue() {
+		Configuration.set("writingthread.queue", "ringbuffer");
+
+		boolean enabled = ConfigurationParser.isRingBufferEnabled();
+		assertThat(enabled).isTrue();
+	}
+
+	/**
+	 * Verifies that an invalid queue will be reported and the synchronized queue used instead.
+	 */
+	@Test
+	public void invalidQueue() {
+		Configuration.set("writingthread.queue", "foo");
+
+		boolean enabled = ConfigurationParser.isRingBufferEnabled();
+		assertThat(enabled).isFalse();
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("foo");
+	}
+
+	/**
+	 * Verifies that deferred formatting is disabled by default.
+	 */
+	@Test
+	public void noConfiguredDeferredFormatting() {
+		assertThat(ConfigurationParser.isDeferredFormattingEnabled()).isFalse();
+	}
+
+	/**
+	 * Verifies that deferred formatting can be enabled.
+	 */
+	@Test
+	public void enabledDeferredFormatting() {
+		Configuration.set("writingthread.deferformatting", "true");
+		assertThat(ConfigurationParser.isDeferredFormattingEnabled()).isTrue();
+	}
+
+	/**
+	 * Verifies that garbage-free mode is disabled by default.
+	 */
+	@Test
+	public void noConfiguredGarbageFree() {
+		assertThat(ConfigurationParser.isGarbageFreeEnabled()).isFalse();
+	}
+
+	/**
+	 * Verifies that garbage-free mode can be enabled and uses the ring buffer by default.
+	 */
+	@Test
+	public void enabledGarbageFree() {
+		Configuration.set("garbagefree", "true");
+
+		assertThat(ConfigurationParser.isGarbageFreeEnabled()).isTrue();
+		assertThat(ConfigurationParser.isRingBufferEnabled()).isTrue();
+	}
+
+	/**
+	 * Verifies that the synchronized queue can be still used explicitly in garbage-free mode.
+	 */
+	@Test
+	public void synchronizedQueueInGarbageFreeMode() {
+		Configuration.set("garbagefree", "true");
+		Configuration.set("writingthread.queue", "synchronized");
+
+		assertThat(ConfigurationParser.isRingBufferEnabled()).isFalse();
+	}
+
+	/**
+	 * Verifies that the capacity of the writing thread is undefined by default.
+	 */
+	@Test
+	public void noConfiguredCapacity() {
+		assertThat(ConfigurationParser.getWritingThreadCapacity()).isZero();
+	}
+
+	/**
+	 * Verifies that a configured capacity for the writing thread will be loaded.
+	 */
+	@Test
+	public void validCapacity() {
+		Configuration.set("writingthread.capacity", "1000");
+		assertThat(ConfigurationParser.getWritingThreadCapacity()).isEqualTo(1000);
+	}
+
+	/**
+	 * Verifies that a negative capacity for the writing thread will be reported.
+	 */
+	@Test
+	public void negativeCapacity() {
+		Configuration.set("writingthread.capacity", "-1");
+		assertThat(ConfigurationParser.getWritingThreadCapacity()).isZero();
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("-1");
+	}
+
+	/**
+	 * Verifies that a non-numeric capacity for the writing thread will be reported.
+	 */
+	@Test
+	public void invalidCapacity() {
+		Configuration.set("writingthread.capacity", "foo");
+		assertThat(ConfigurationParser.getWritingThreadCapacity()).isZero();
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("foo");
+	}
+
+	/**
+	 * Verifies that {@link OverflowPolicy#BLOCK} is the default overflow policy.
+	 */
+	@Test
+	public void noConfiguredOverflowPolicy() {
+		assertThat(ConfigurationParser.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Verifies that {@link OverflowPolicy#BLOCK} can be configured.
+	 */
+	@Test
+	public void overflowPolicyBlock() {
+		Configuration.set("writingthread.overflow", "block");
+		assertThat(ConfigurationParser.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Verifies that {@link OverflowPolicy#DROP_NEWEST} can be configured.
+	 */
+	@Test
+	public void overflowPolicyDropNewest() {
+		Configuration.set("writingthread.overflow", "drop-newest");
+		assertThat(ConfigurationParser.getOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_NEWEST);
+	}
+
+	/**
+	 * Verifies that {@link OverflowPolicy#DROP_OLDEST} can be configured.
+	 */
+	@Test
+	public void overflowPolicyDropOldest() {
+		Configuration.set("writingthread.overflow", "drop-oldest");
+		assertThat(ConfigurationParser.getOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_OLDEST);
+	}
+
+	/**
+	 * Verifies that {@link OverflowPolicy#DROP_BELOW_LEVEL} can be configured.
+	 */
+	@Test
+	public void overflowPolicyDropBelowLevel() {
+		Configuration.set("writingthread.overflow", "drop-below-level");
+		assertThat(ConfigurationParser.getOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_BELOW_LEVEL);
+	}
+
+	/**
+	 * Verifies that {@link OverflowPolicy#SYNC} can be configured.
+	 */
+	@Test
+	public void overflowPolicySync() {
+		Configuration.set("writingthread.overflow", "sync");
+		assertThat(ConfigurationParser.getOverflowPolicy()).isEqualTo(OverflowPolicy.SYNC);
+	}
+
+	/**
+	 * Verifies that an invalid overflow policy will be reported and {@link OverflowPolicy#BLOCK} used instead.
+	 */
+	@Test
+	public void invalidOverflowPolicy() {
+		Configuration.set("writingthread.overflow", "foo");
+		assertThat(ConfigurationParser.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("foo");
+	}
+
+	/**
+	 * Verifies that the severity level threshold for dropping log entries is {@link Level#WARN} by default.
+	 */
+	@Test
+	public void noConfiguredOverflowLevel() {
+		assertThat(ConfigurationParser.getOverflowLevel()).isEqualTo(Level.WARN);
+	}
+
+	/**
+	 * Verifies that a configured severity level threshold for dropping log entries will be loaded.
+	 */
+	@Test
+	public void configuredOverflowLevel() {
+		Configuration.set("writingthread.overflow.level", "error");
+		assertThat(ConfigurationParser.getOverflowLevel()).isEqualTo(Level.ERROR);
+	}
+
+	/**
+	 * Verifies that writers of the writing thread are flushed immediately by default.
+	 */
+	@Test
+	public void noConfiguredFlushPolicy() {
+		assertThat(ConfigurationParser.getFlushPolicy()).isSameAs(FlushPolicy.IMMEDIATE);
+	}
+
+	/**
+	 * Verifies that a configured flush interval will be loaded.
+	 */
+	@Test
+	public void configuredFlushInterval() {
+		Configuration.set("writingthread.flush.interval", "200ms");
+
+		FlushPolicy policy = ConfigurationParser.getFlushPolicy();
+		assertThat(policy.getInterval()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+		assertThat(policy.isDue(TimeUnit.MILLISECONDS.toNanos(199), Integer.MAX_VALUE)).isFalse();
+		assertThat(policy.isDue(TimeUnit.MILLISECONDS.toNanos(200), 1)).isTrue();
+		assertThat(policy.isUrgent(Level.ERROR)).isFalse();
+	}
+
+	/**
+	 * Verifies that a flush interval in seconds will be loaded.
+	 */
+	@Test
+	public void configuredFlushIntervalInSeconds() {
+		Configuration.set("writingthread.flush.interval", "2s");
+		assertThat(ConfigurationParser.getFlushPolicy().getInterval()).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+	}
+
+	/**
+	 * Verifies that a configured number of unflushed log entries will be loaded together with the default interval.
+	 */
+	@Test
+	public void configuredFlushEntries() {
+		Configuration.set("writingthread.flush.entries", "100");
+
+		FlushPolicy policy = ConfigurationParser.getFlushPolicy();
+		assertThat(policy.getInterval()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+		assertThat(policy.isDue(0, 99)).isFalse();
+		assertThat(policy.isDue(0, 100)).isTrue();
+	}
+
+	/**
+	 * Verifies that a configured severity level for immediate flushing will be loaded.
+	 */
+	@Test
+	public void configuredFlushLevel() {
+		Configuration.set("writingthread.flush.level", "error");
+
+		FlushPolicy policy = ConfigurationParser.getFlushPolicy();
+		assertThat(policy.isUrgent(Level.WARN)).isFalse();
+		assertThat(policy.isUrgent(Level.ERROR)).isTrue();
+	}
+
+	/**
+	 * Verifies that an error will be logged and flushing won't be deferred, if the flush interval or the number of
+	 * unflushed log entries is invalid.
+	 */
+	@Test
+	public void invalidFlushPolicy() {
+		Configuration.set("writingthread.flush.interval", "soon");
+		Configuration.set("writingthread.flush.entries", "-1");
+
+		FlushPolicy policy = ConfigurationParser.getFlushPolicy();
+		assertThat(policy.isDue(0, 1)).isTrue();
+		assertThat(systemStream.consumeErrorOutput()).contains("soon").contains("-1");
+	}
+
+	/**
+	 * Verifies that caching of stack trace elements is disabled by default.
+	 */
+	@Test
+	public void noConfiguredLocationCache() {
+		assertThat(ConfigurationParser.isLocationCacheEnabled()).isFalse();
+	}
+
+	/**
+	 * Verifies that caching of stack trace elements can be enabled.
+	 */
+	@Test
+	public void enabledLocationCache() {
+		Configuration.set("location.cache", "true");
+		assertThat(ConfigurationParser.isLocationCacheEnabled()).isTrue();
+	}
+
 	/**
 	 * Verifies that auto shutdown is disabled by default.
 	 */
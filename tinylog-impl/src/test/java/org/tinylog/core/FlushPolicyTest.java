@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.tinylog.Level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FlushPolicy}.
+ */
+public final class FlushPolicyTest {
+
+	/**
+	 * Verifies that {@link FlushPolicy#IMMEDIATE} requires flushing after each batch.
+	 */
+	@Test
+	public void immediate() {
+		assertThat(FlushPolicy.IMMEDIATE.getInterval()).isZero();
+		assertThat(FlushPolicy.IMMEDIATE.isDue(0, 0)).isTrue();
+		assertThat(FlushPolicy.IMMEDIATE.isDue(0, 1)).isTrue();
+		assertThat(FlushPolicy.IMMEDIATE.isUrgent(Level.ERROR)).isFalse();
+	}
+
+	/**
+	 * Verifies that flushing is due as soon as either the interval has elapsed or the number of log entries has been
+	 * reached.
+	 */
+	@Test
+	public void intervalAndEntries() {
+		FlushPolicy policy = new FlushPolicy(100, 10, Level.OFF);
+
+		assertThat(policy.getInterval()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(policy.isDue(TimeUnit.MILLISECONDS.toNanos(99), 9)).isFalse();
+		assertThat(policy.isDue(TimeUnit.MILLISECONDS.toNanos(100), 9)).isTrue();
+		assertThat(policy.isDue(TimeUnit.MILLISECONDS.toNanos(99), 10)).isTrue();
+	}
+
+	/**
+	 * Verifies that a default interval is applied, if only a number of log entries is defined.
+	 */
+	@Test
+	public void entriesWithDefaultInterval() {
+		FlushPolicy policy = new FlushPolicy(0, 10, Level.OFF);
+
+		assertThat(policy.getInterval()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+		assertThat(policy.isDue(TimeUnit.MILLISECONDS.toNanos(999), 9)).isFalse();
+		assertThat(policy.isDue(TimeUnit.SECONDS.toNanos(1), 1)).isTrue();
+		assertThat(policy.isDue(0, 10)).isTrue();
+	}
+
+	/**
+	 * Verifies that log entries with the defined or a more severe severity level are urgent.
+	 */
+	@Test
+	public void urgentLevel() {
+		FlushPolicy policy = new FlushPolicy(100, 0, Level.WARN);
+
+		assertThat(policy.isUrgent(Level.INFO)).isFalse();
+		assertThat(policy.isUrgent(Level.WARN)).isTrue();
+		assertThat(policy.isUrgent(Level.ERROR)).isTrue();
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.tinylog.Level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LogEntryPool}.
+ */
+public final class LogEntryPoolTest {
+
+	/**
+	 * Verifies that the size is rounded up to the next power of two.
+	 */
+	@Test
+	public void size() {
+		assertThat(new LogEntryPool(1).getSize()).isEqualTo(1);
+		assertThat(new LogEntryPool(8).getSize()).isEqualTo(8);
+		assertThat(new LogEntryPool(100).getSize()).isEqualTo(128);
+	}
+
+	/**
+	 * Verifies that all pooled log entries can be acquired and {@code null} is returned afterwards.
+	 */
+	@Test
+	public void exhaust() {
+		LogEntryPool pool = new LogEntryPool(4);
+
+		Set<LogEntry> logEntries = new HashSet<>();
+		for (int i = 0; i < 4; ++i) {
+			logEntries.add(pool.acquire(1));
+		}
+
+		assertThat(logEntries).hasSize(4).doesNotContainNull();
+		assertThat(pool.acquire(1)).isNull();
+	}
+
+	/**
+	 * Verifies that only a limited number of slots after the cursor is probed, if the pool is exhausted.
+	 */
+	@Test
+	public void boundedProbing() {
+		LogEntryPool pool = new LogEntryPool(64);
+
+		List<LogEntry> logEntries = new ArrayList<>();
+		for (int i = 0; i < 64; ++i) {
+			logEntries.add(pool.acquire(1));
+		}
+
+		logEntries.get(32).release();
+		assertThat(pool.acquire(1)).isNull();
+
+		logEntries.get(4).release();
+		assertThat(pool.acquire(1)).isSameAs(logEntries.get(4));
+	}
+
+	/**
+	 * Verifies that acquired log entries have a current timestamp.
+	 */
+	@Test
+	public void timestamp() {
+		long before = System.currentTimeMillis();
+		LogEntry logEntry = new LogEntryPool(1).acquire(1);
+		long after = System.currentTimeMillis();
+
+		assertThat(logEntry.getTimestamp().toDate().getTime()).isBetween(before, after);
+	}
+
+	/**
+	 * Verifies that a log entry will be recycled and cleared not before it has been released by all writers.
+	 */
+	@Test
+	public void recycle() {
+		LogEntryPool pool = new LogEntryPool(1);
+
+		LogEntry logEntry = pool.acquire(2);
+		logEntry.update(Thread.currentThread(), null, "Class", "method", "Class.java", 42, null, Level.INFO, "Hello", null);
+
+		logEntry.release();
+		assertThat(pool.acquire(1)).isNull();
+		assertThat(logEntry.getMessage()).isEqualTo("Hello");
+
+		logEntry.release();
+		assertThat(logEntry.getThread()).isNull();
+		assertThat(logEntry.getClassName()).isNull();
+		assertThat(logEntry.getLineNumber()).isEqualTo(-1);
+		assertThat(logEntry.getLevel()).isNull();
+		assertThat(logEntry.getMessage()).isNull();
+
+		assertThat(pool.acquire(1)).isSameAs(logEntry);
+	}
+
+	/**
+	 * Verifies that releasing non-pooled log entries has no effect.
+	 */
+	@Test
+	public void releaseNonPooled() {
+		LogEntry logEntry = new LogEntry(null, null, null, null, null, null, 0, null, Level.INFO, "Hello", null);
+		logEntry.release();
+
+		assertThat(logEntry.getMessage()).isEqualTo("Hello");
+	}
+
+}
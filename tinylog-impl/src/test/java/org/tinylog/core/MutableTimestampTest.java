@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.junit.Test;
+import org.tinylog.runtime.LegacyTimestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MutableTimestamp}.
+ */
+public final class MutableTimestampTest {
+
+	/**
+	 * Verifies that the timestamp can be converted into all supported types.
+	 */
+	@Test
+	public void conversion() {
+		MutableTimestamp timestamp = new MutableTimestamp();
+		timestamp.setMilliseconds(1_000_000);
+
+		assertThat(timestamp.toDate()).isEqualTo(new Date(1_000_000));
+		assertThat(timestamp.toInstant()).isEqualTo(Instant.ofEpochMilli(1_000_000));
+		assertThat(timestamp.toSqlTimestamp()).isEqualTo(new java.sql.Timestamp(1_000_000));
+	}
+
+	/**
+	 * Verifies that the timestamp can be updated.
+	 */
+	@Test
+	public void update() {
+		MutableTimestamp timestamp = new MutableTimestamp();
+		timestamp.setMilliseconds(1000);
+		timestamp.setMilliseconds(2000);
+
+		assertThat(timestamp.toDate()).isEqualTo(new Date(2000));
+	}
+
+	/**
+	 * Verifies that the difference to another timestamp can be calculated.
+	 */
+	@Test
+	public void difference() {
+		MutableTimestamp timestamp = new MutableTimestamp();
+		timestamp.setMilliseconds(1500);
+
+		assertThat(timestamp.calcDifferenceInNanoseconds(new LegacyTimestamp(1000))).isEqualTo(500_000_000L);
+	}
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.tinylog.util.LogEntryBuilder;
+import org.tinylog.writers.Writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RingBufferTaskQueue}.
+ */
+public final class RingBufferTaskQueueTest {
+
+	/**
+	 * Verifies that the capacity is rounded up to the next power of two.
+	 */
+	@Test
+	public void capacity() {
+		assertThat(new RingBufferTaskQueue(1).getCapacity()).isEqualTo(2);
+		assertThat(new RingBufferTaskQueue(8).getCapacity()).isEqualTo(8);
+		assertThat(new RingBufferTaskQueue(100).getCapacity()).isEqualTo(128);
+		assertThat(new RingBufferTaskQueue().getCapacity()).isEqualTo(RingBufferTaskQueue.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Verifies that added log entries are received in the same order.
+	 */
+	@Test
+	public void receiveInOrder() {
+		Writer writer = mock(Writer.class);
+		LogEntry first = LogEntryBuilder.empty().message("First").create();
+		LogEntry second = LogEntryBuilder.empty().message("Second").create();
+
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(4);
+		queue.add(writer, first);
+		queue.add(writer, second);
+
+		Writer[] writers = new Writer[4];
+		LogEntry[] logEntries = new LogEntry[4];
+
+		assertThat(queue.drain(writers, logEntries)).isEqualTo(2);
+		assertThat(writers).containsExactly(writer, writer, null, null);
+		assertThat(logEntries).containsExactly(first, second, null, null);
+	}
+
+	/**
+	 * Verifies that not more tasks are received than the passed arrays can hold.
+	 */
+	@Test
+	public void receiveLimitedBatch() {
+		Writer writer = mock(Writer.class);
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(8);
+		for (int i = 0; i < 5; ++i) {
+			queue.add(writer, LogEntryBuilder.empty().create());
+		}
+
+		Writer[] writers = new Writer[3];
+		LogEntry[] logEntries = new LogEntry[3];
+
+		assertThat(queue.drain(writers, logEntries)).isEqualTo(3);
+		assertThat(queue.drain(writers, logEntries)).isEqualTo(2);
+	}
+
+	/**
+	 * Verifies that the poison task is received as {@code null} writer after all previously added log entries.
+	 */
+	@Test
+	public void receivePoison() {
+		Writer writer = mock(Writer.class);
+		LogEntry logEntry = LogEntryBuilder.empty().create();
+
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(4);
+		queue.add(writer, logEntry);
+		queue.shutdown();
+
+		Writer[] writers = new Writer[4];
+		LogEntry[] logEntries = new LogEntry[4];
+
+		assertThat(queue.drain(writers, logEntries)).isEqualTo(2);
+		assertThat(writers).containsExactly(writer, null, null, null);
+		assertThat(logEntries).containsExactly(logEntry, null, null, null);
+	}
+
+	/**
+	 * Verifies that log entries are rejected without blocking if the queue is full.
+	 */
+	@Test
+	public void offerIfFull() {
+		Writer writer = mock(Writer.class);
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(2);
+
+		assertThat(queue.offer(writer, LogEntryBuilder.empty().create())).isTrue();
+		assertThat(queue.offer(writer, LogEntryBuilder.empty().create())).isTrue();
+		assertThat(queue.offer(writer, LogEntryBuilder.empty().create())).isFalse();
+	}
+
+	/**
+	 * Verifies that the oldest log entry can be discarded.
+	 */
+	@Test
+	public void discardOldest() {
+		Writer writer = mock(Writer.class);
+		LogEntry first = LogEntryBuilder.empty().message("First").create();
+		LogEntry second = LogEntryBuilder.empty().message("Second").create();
+
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(2);
+		queue.add(writer, first);
+		queue.add(writer, second);
+
+		assertThat(queue.discard()).isSameAs(first);
+		assertThat(queue.offer(writer, first)).isTrue();
+
+		Writer[] writers = new Writer[4];
+		LogEntry[] logEntries = new LogEntry[4];
+
+		assertThat(queue.drain(writers, logEntries)).isEqualTo(2);
+		assertThat(logEntries).containsExactly(second, first, null, null);
+		assertThat(queue.discard()).isNull();
+	}
+
+	/**
+	 * Verifies that the poison task will be never discarded.
+	 */
+	@Test
+	public void keepPoison() {
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(2);
+		queue.shutdown();
+
+		assertThat(queue.discard()).isNull();
+
+		Writer[] writers = new Writer[4];
+		LogEntry[] logEntries = new LogEntry[4];
+
+		assertThat(queue.drain(writers, logEntries)).isEqualTo(1);
+		assertThat(writers).containsOnlyNulls();
+	}
+
+	/**
+	 * Verifies that a waiting consumer will be woken up when a log entry is added.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the consumer
+	 */
+	@Test
+	public void wakeUpConsumer() throws InterruptedException {
+		Writer writer = mock(Writer.class);
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(4);
+		List<Integer> counts = new ArrayList<>();
+
+		Thread consumer = new Thread(() -> counts.add(queue.drain(new Writer[4], new LogEntry[4])));
+		consumer.start();
+
+		Thread.sleep(50);
+		queue.add(writer, LogEntryBuilder.empty().create());
+		consumer.join(1000);
+
+		assertThat(consumer.isAlive()).isFalse();
+		assertThat(counts).containsExactly(1);
+	}
+
+	/**
+	 * Verifies that an interrupted consumer returns without receiving any tasks.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the consumer
+	 */
+	@Test
+	public void interruptConsumer() throws InterruptedException {
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(4);
+		List<Integer> counts = new ArrayList<>();
+
+		Thread consumer = new Thread(() -> counts.add(queue.drain(new Writer[4], new LogEntry[4])));
+		consumer.start();
+
+		Thread.sleep(50);
+		consumer.interrupt();
+		consumer.join(1000);
+
+		assertThat(consumer.isAlive()).isFalse();
+		assertThat(counts).containsExactly(0);
+	}
+
+	/**
+	 * Verifies that producers wait if the queue is full and no log entries get lost.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a thread
+	 */
+	@Test
+	public void multipleProducers() throws InterruptedException {
+		Writer writer = mock(Writer.class);
+		LogEntry logEntry = LogEntryBuilder.empty().create();
+		RingBufferTaskQueue queue = new RingBufferTaskQueue(16);
+
+		List<Thread> producers = new ArrayList<>();
+		for (int i = 0; i < 8; ++i) {
+			producers.add(new Thread(() -> {
+				for (int j = 0; j < 1000; ++j) {
+					queue.add(writer, logEntry);
+				}
+			}));
+		}
+
+		producers.forEach(Thread::start);
+
+		Writer[] writers = new Writer[10];
+		LogEntry[] logEntries = new LogEntry[10];
+		int received = 0;
+		while (received < 8 * 1000) {
+			received += queue.drain(writers, logEntries);
+		}
+
+		for (Thread producer : producers) {
+			producer.join();
+		}
+
+		assertThat(received).isEqualTo(8 * 1000);
+	}
+
+	/**
+	 * Verifies that draining returns without receiving any tasks, if the timeout elapses.
+	 */
+	@Test
+	public void drainWithTimeout() {
+		RingBufferTaskQueue queue = new RingBufferTaskQueue();
+
+		long start = System.nanoTime();
+		assertThat(queue.drain(new Writer[4], new LogEntry[4], TimeUnit.MILLISECONDS.toNanos(50))).isZero();
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+
+		queue.add(mock(Writer.class), LogEntryBuilder.empty().create());
+		assertThat(queue.drain(new Writer[4], new LogEntry[4], TimeUnit.MILLISECONDS.toNanos(50))).isEqualTo(1);
+	}
+
+}
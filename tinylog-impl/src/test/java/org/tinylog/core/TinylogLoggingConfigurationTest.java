@@ -15,11 +15,15 @@ package org.tinylog.core;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatterBuilder;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -30,6 +34,8 @@ import org.junit.Test;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
 import org.tinylog.configuration.Configuration;
+import org.tinylog.format.AdvancedMessageFormatter;
+import org.tinylog.format.MessageFormatter;
 import org.tinylog.rules.SystemStreamCollector;
 import org.tinylog.throwable.ThrowableFilter;
 import org.tinylog.util.ConfigurationStoreWriter;
@@ -42,6 +48,10 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link ConfigurationParser}.
@@ -401,6 +411,28 @@ public final class TinylogLoggingConfigurationTest {
 		assertThat(requirements.get(4)).isTrue();
 	}	
 
+	/**
+	 * Verifies that the full stack trace requirements are calculated separately for each severity level.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void calcFullStackTraceRequirementsPerLevel() {
+		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
+
+		Collection<LogEntryValue>[][] logEntries = new Collection[1][Level.values().length - 1];
+		Arrays.fill(logEntries[0], Collections.singleton(LogEntryValue.MESSAGE));
+		logEntries[0][Level.WARN.ordinal()] = Arrays.asList(LogEntryValue.MESSAGE, LogEntryValue.LINE);
+		logEntries[0][Level.ERROR.ordinal()] = Arrays.asList(LogEntryValue.MESSAGE, LogEntryValue.LINE);
+
+		BitSet[] requirements = config.calculateFullStackTraceRequirementsPerLevel(logEntries);
+		assertThat(requirements).hasSize(1);
+		assertThat(requirements[0].get(Level.TRACE.ordinal())).isFalse();
+		assertThat(requirements[0].get(Level.DEBUG.ordinal())).isFalse();
+		assertThat(requirements[0].get(Level.INFO.ordinal())).isFalse();
+		assertThat(requirements[0].get(Level.WARN.ordinal())).isTrue();
+		assertThat(requirements[0].get(Level.ERROR.ordinal())).isTrue();
+	}
+
 	/**
 	 * Verifies that all writers can be obained.
 	 */
@@ -422,6 +454,46 @@ public final class TinylogLoggingConfigurationTest {
 			.hasAtLeastOneElementOfType(WriterTwo.class);
 	}		
 	
+	/**
+	 * Verifies that writers with the same thread name share a writing thread and all other writers use the default
+	 * writing thread.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the writing threads
+	 */
+	@Test
+	public void createWritingThreads() throws InterruptedException {
+		Configuration.set("writer1", "console");
+		Configuration.set("writer2", "console");
+		Configuration.set("writer2.thread", "io");
+		Configuration.set("writer3", "console");
+		Configuration.set("writer3.thread", "io");
+		Configuration.set("writer4", "console");
+		Configuration.set("writer4.thread", "network");
+
+		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
+		Collection<Writer>[][] writers = config.createWriters(emptyList(), Level.TRACE, true);
+		Map<Writer, WritingThread> threads = config.createWritingThreads(writers);
+
+		try {
+			assertThat(threads).hasSize(4);
+			assertThat(threads.values().stream().map(Thread::getName).collect(Collectors.toList())).containsExactlyInAnyOrder(
+				"tinylog-WritingThread",
+				"tinylog-WritingThread-io",
+				"tinylog-WritingThread-io",
+				"tinylog-WritingThread-network"
+			);
+			assertThat(threads.values().stream().distinct()).hasSize(3).allMatch(Thread::isAlive);
+		} finally {
+			for (WritingThread thread : threads.values()) {
+				thread.shutdown();
+			}
+			for (WritingThread thread : threads.values()) {
+				thread.join();
+			}
+		}
+	}
+
 	/**
 	 * Verifies that a log entry can be created properly.
 	 */
@@ -449,6 +521,108 @@ public final class TinylogLoggingConfigurationTest {
 		assertThat(entry3.getException().getMessage()).isEqualTo("test");
 	}
 
+	/**
+	 * Verifies that formatting of text messages is deferred until first access if all arguments are immutable.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deferFormattingOfImmutableArguments() {
+		Collection<LogEntryValue>[] requiredLogEntryValues = new Collection[Level.values().length - 1];
+		requiredLogEntryValues[Level.INFO.ordinal()] = singletonList(LogEntryValue.MESSAGE);
+
+		MessageFormatter formatter = spy(new AdvancedMessageFormatter(Locale.ROOT, false));
+		Object[] arguments = {"Alice", 42, null, Level.INFO, LocalDate.of(2020, 1, 1)};
+
+		LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(null, 1, true, null, null, Level.INFO, null,
+			formatter, "{} {} {} {} {}", arguments, requiredLogEntryValues, null);
+		verify(formatter, never()).format(any(), any());
+
+		arguments[0] = "Bob";
+
+		assertThat(logEntry.getMessage()).isEqualTo("Alice 42 null INFO 2020-01-01");
+		assertThat(logEntry.getMessage()).isEqualTo("Alice 42 null INFO 2020-01-01");
+		verify(formatter).format(any(), any());
+	}
+
+	/**
+	 * Verifies that text messages are formatted immediately if an argument is mutable.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void formatMutableArgumentsImmediately() {
+		Collection<LogEntryValue>[] requiredLogEntryValues = new Collection[Level.values().length - 1];
+		requiredLogEntryValues[Level.INFO.ordinal()] = singletonList(LogEntryValue.MESSAGE);
+
+		MessageFormatter formatter = spy(new AdvancedMessageFormatter(Locale.ROOT, false));
+		StringBuilder builder = new StringBuilder("Alice");
+
+		LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(null, 1, true, null, null, Level.INFO, null,
+			formatter, "Hello {}", new Object[] {builder}, requiredLogEntryValues, null);
+		verify(formatter).format(any(), any());
+
+		builder.replace(0, builder.length(), "Bob");
+		assertThat(logEntry.getMessage()).isEqualTo("Hello Alice");
+	}
+
+	/**
+	 * Verifies that text messages are formatted immediately if an argument is an enum constant with a custom string
+	 * representation, which can depend on mutable state.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void formatEnumWithCustomStringImmediately() {
+		Collection<LogEntryValue>[] requiredLogEntryValues = new Collection[Level.values().length - 1];
+		requiredLogEntryValues[Level.INFO.ordinal()] = singletonList(LogEntryValue.MESSAGE);
+
+		MessageFormatter formatter = spy(new AdvancedMessageFormatter(Locale.ROOT, false));
+		Counter.INSTANCE.value = 1;
+
+		LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(null, 1, true, null, null, Level.INFO, null,
+			formatter, "Count: {}", new Object[] {Counter.INSTANCE}, requiredLogEntryValues, null);
+		verify(formatter).format(any(), any());
+
+		Counter.INSTANCE.value = 2;
+		assertThat(logEntry.getMessage()).isEqualTo("Count: 1");
+	}
+
+	/**
+	 * Verifies that text messages are formatted immediately if an argument is a mutable class of the Java Date-Time
+	 * API.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void formatMutableDateTimeClassImmediately() {
+		Collection<LogEntryValue>[] requiredLogEntryValues = new Collection[Level.values().length - 1];
+		requiredLogEntryValues[Level.INFO.ordinal()] = singletonList(LogEntryValue.MESSAGE);
+
+		MessageFormatter formatter = spy(new AdvancedMessageFormatter(Locale.ROOT, false));
+		DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+
+		LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(null, 1, true, null, null, Level.INFO, null,
+			formatter, "Hello {}", new Object[] {builder}, requiredLogEntryValues, null);
+		verify(formatter).format(any(), any());
+
+		assertThat(logEntry.getMessage()).isEqualTo("Hello " + builder);
+	}
+
+	/**
+	 * Verifies that text messages are formatted immediately if deferred formatting is disabled.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void formatImmediatelyIfNotDeferred() {
+		Collection<LogEntryValue>[] requiredLogEntryValues = new Collection[Level.values().length - 1];
+		requiredLogEntryValues[Level.INFO.ordinal()] = singletonList(LogEntryValue.MESSAGE);
+
+		MessageFormatter formatter = spy(new AdvancedMessageFormatter(Locale.ROOT, false));
+
+		LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(null, 1, false, null, null, Level.INFO, null,
+			formatter, "Hello {}", new Object[] {"Alice"}, requiredLogEntryValues, null);
+		verify(formatter).format(any(), any());
+
+		assertThat(logEntry.getMessage()).isEqualTo("Hello Alice");
+	}
+
 	/**
 	 * Converts a 2D array in a collection.
 	 *
@@ -509,5 +683,24 @@ public final class TinylogLoggingConfigurationTest {
 		}
 
 	}
-	
+
+	/**
+	 * Enum with mutable state as string representation.
+	 */
+	private enum Counter {
+
+		/**
+		 * Singleton instance.
+		 */
+		INSTANCE;
+
+		private int value;
+
+		@Override
+		public String toString() {
+			return Integer.toString(value);
+		}
+
+	}
+
 }
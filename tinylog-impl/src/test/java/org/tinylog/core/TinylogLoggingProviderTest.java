@@ -18,6 +18,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 
 import org.assertj.core.api.Condition;
 import org.junit.After;
@@ -337,6 +338,29 @@ public final class TinylogLoggingProviderTest {
 			assertThat(provider.getMinimumLevel(tag)).isEqualTo(Level.DEBUG);
 		}
 
+		/**
+		 * Verifies that resolved severity levels are cached per class and remain the same for repeated calls.
+		 */
+		@Test
+		public void cacheResolvedLevels() {
+			assertThat(provider.isEnabled(DEPTH_INNER_CLASS, tag, Level.DEBUG)).isTrue();
+			assertThat(provider.isEnabled(DEPTH_INNER_CLASS, tag, Level.DEBUG)).isTrue();
+			assertThat(provider.isEnabled(DEPTH_INNER_CLASS, tag, Level.TRACE)).isFalse();
+
+			Map<String, Level> cache = Whitebox.getInternalState(provider, "levelCache");
+			assertThat(cache).containsEntry(CustomSeverityLevelForClass.class.getName(), Level.DEBUG);
+		}
+
+		/**
+		 * Verifies that the minimum severity level for the inner class is {@link Level#DEBUG} and for the outer class
+		 * {@link Level#WARN}.
+		 */
+		@Test
+		public void classMinimumLevel() {
+			assertThat(provider.getMinimumLevel(CustomSeverityLevelForClass.class.getName(), tag)).isEqualTo(Level.DEBUG);
+			assertThat(provider.getMinimumLevel(TinylogLoggingProviderTest.class.getName(), tag)).isEqualTo(Level.WARN);
+		}
+
 		/**
 		 * Verifies that trace severity level is disabled and no log entries will be output for inner class.
 		 */
@@ -810,6 +834,57 @@ public final class TinylogLoggingProviderTest {
 			provider.log(1, null, Level.INFO, null, null, "Hello World!");
 			String output = waitFor(systemStream::consumeStandardOutput, Strings::isNeitherNullNorEmpty, 100);
 			assertThat(output).containsOnlyOnce(Level.INFO.toString()).containsOnlyOnce("Hello World!");
+			assertThat(provider.getDroppedLogEntries()).isZero();
+			assertThat(provider.getDroppedLogEntries(Level.INFO)).isZero();
+		}
+
+	}
+
+	/**
+	 * Tests for garbage-free mode with recycled log entries.
+	 */
+	public static final class GarbageFreeEnabled extends AbstractTest {
+
+		/**
+		 * Activates garbage-free mode and writing thread, and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(doubletonMap("garbagefree", "true", "autoshutdown", "false"));
+			Configuration.set("writingthread", "true");
+			Configuration.set("writingthread.capacity", "2");
+		}
+
+		/**
+		 * Shuts down the logging provider.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@After
+		public void shutdown() throws InterruptedException {
+			provider.shutdown();
+		}
+
+		/**
+		 * Verifies that all log entries will be output correctly, even if pooled log entries have to be recycled.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void logging() throws InterruptedException {
+			for (int i = 0; i < 10; ++i) {
+				provider.log(1, null, Level.INFO, null, null, "Hello #" + i);
+			}
+
+			provider.shutdown();
+
+			String output = systemStream.consumeStandardOutput();
+			for (int i = 0; i < 10; ++i) {
+				assertThat(output).containsOnlyOnce("Hello #" + i);
+			}
 		}
 
 	}
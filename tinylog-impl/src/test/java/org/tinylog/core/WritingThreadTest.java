@@ -20,9 +20,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.tinylog.Level;
 import org.tinylog.rules.SystemStreamCollector;
 import org.tinylog.util.FileSystem;
 import org.tinylog.util.LogEntryBuilder;
@@ -32,8 +35,12 @@ import org.tinylog.writers.Writer;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -116,6 +123,347 @@ public final class WritingThreadTest {
 		assertThat(Files.readAllLines(Paths.get(file))).hasSize(10 * 1000).containsOnly("Hello World!");
 	}
 
+	/**
+	 * Verifies that multiple threads can serve log entries simultaneously if a ring buffer is used as queue.
+	 *
+	 * @throws IOException
+	 *             Failed creating or opening log file
+	 * @throws InterruptedException
+	 *             Failed waiting for a thread
+	 */
+	@Test
+	public void multiThreadedWithRingBuffer() throws IOException, InterruptedException {
+		String file = FileSystem.createTemporaryFile();
+		Map<String, String> configuration = new HashMap<>();
+		configuration.put("file", file);
+		configuration.put("buffered", "true");
+		configuration.put("format", "{message}");
+		configuration.put("writingthread", "true");
+
+		Writer writer = new FileWriter(configuration);
+		LogEntry entry = LogEntryBuilder.empty().message("Hello World!").create();
+
+		WritingThread writingThread = new WritingThread(singletonList(writer), new RingBufferTaskQueue(64));
+		writingThread.start();
+
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			threads.add(new Thread(() -> {
+				for (int j = 0; j < 1000; ++j) {
+					writingThread.add(writer, entry);
+				}
+			}));
+		}
+
+		threads.forEach(thread -> thread.start());
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		writingThread.shutdown();
+		writingThread.join();
+
+		assertThat(Files.readAllLines(Paths.get(file))).hasSize(10 * 1000).containsOnly("Hello World!");
+	}
+
+	/**
+	 * Verifies that new log entries are dropped and counted if the queue is full and
+	 * {@link OverflowPolicy#DROP_NEWEST} is configured.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void dropNewest() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry first = LogEntryBuilder.empty().level(Level.INFO).create();
+		LogEntry second = LogEntryBuilder.empty().level(Level.DEBUG).create();
+
+		TaskQueue queue = new SynchronizedTaskQueue(1);
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.DROP_NEWEST, Level.OFF);
+		thread.add(writer, first);
+		thread.add(writer, second);
+
+		assertThat(thread.getDroppedLogEntries()).isEqualTo(1);
+		assertThat(thread.getDroppedLogEntries(Level.DEBUG)).isEqualTo(1);
+		assertThat(thread.getDroppedLogEntries(Level.INFO)).isZero();
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN");
+
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		verify(writer).write(first);
+		verify(writer, never()).write(second);
+	}
+
+	/**
+	 * Verifies that the oldest waiting log entries are dropped and counted if the queue is full and
+	 * {@link OverflowPolicy#DROP_OLDEST} is configured.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void dropOldest() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry first = LogEntryBuilder.empty().level(Level.INFO).create();
+		LogEntry second = LogEntryBuilder.empty().level(Level.DEBUG).create();
+
+		TaskQueue queue = new RingBufferTaskQueue(2);
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.DROP_OLDEST, Level.OFF);
+		thread.add(writer, first);
+		thread.add(writer, second);
+		thread.add(writer, second);
+
+		assertThat(thread.getDroppedLogEntries()).isEqualTo(1);
+		assertThat(thread.getDroppedLogEntries(Level.INFO)).isEqualTo(1);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN");
+
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		verify(writer, never()).write(first);
+		verify(writer, times(2)).write(second);
+	}
+
+	/**
+	 * Verifies that producers are not blocked, if {@link OverflowPolicy#DROP_OLDEST} is configured and the writer
+	 * stalls while there are still received log entries that haven't been drained yet. These log entries are the oldest
+	 * ones and have to be dropped first.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void dropOldestWhileWriterStalls() throws Exception {
+		CountDownLatch stalled = new CountDownLatch(1);
+		CountDownLatch resume = new CountDownLatch(1);
+
+		Writer writer = mock(Writer.class);
+		doAnswer(invocation -> {
+			stalled.countDown();
+			resume.await();
+			return null;
+		}).when(writer).write(any());
+
+		TaskQueue queue = new SynchronizedTaskQueue(2000);
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.DROP_OLDEST, Level.OFF);
+		for (int i = 0; i < 2000; ++i) {
+			thread.add(writer, LogEntryBuilder.empty().level(Level.INFO).message("old").create());
+		}
+
+		thread.start();
+		assertThat(stalled.await(1, TimeUnit.SECONDS)).isTrue();
+
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < 5000; ++i) {
+				thread.add(writer, LogEntryBuilder.empty().level(Level.INFO).message("new").create());
+			}
+		});
+		producer.start();
+		producer.join(1000);
+
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(thread.getDroppedLogEntries()).isEqualTo(5000 - 1024);
+		systemStream.consumeErrorOutput();
+
+		resume.countDown();
+		thread.shutdown();
+		thread.join();
+
+		// Only the first batch of 1024 old log entries has been drained before the writer stalled
+		verify(writer, times(1024)).write(argThat(logEntry -> "old".equals(logEntry.getMessage())));
+		verify(writer, times(2000)).write(argThat(logEntry -> "new".equals(logEntry.getMessage())));
+	}
+
+	/**
+	 * Verifies that only log entries below the configured severity level are dropped if the queue is full and
+	 * {@link OverflowPolicy#DROP_BELOW_LEVEL} is configured. Log entries with a severity level equal or above the
+	 * configured severity level have to wait for free capacity instead.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void dropBelowLevel() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry first = LogEntryBuilder.empty().level(Level.INFO).create();
+		LogEntry second = LogEntryBuilder.empty().level(Level.INFO).create();
+		LogEntry third = LogEntryBuilder.empty().level(Level.WARN).create();
+
+		TaskQueue queue = new SynchronizedTaskQueue(1);
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.DROP_BELOW_LEVEL, Level.WARN);
+		thread.add(writer, first);
+		thread.add(writer, second);
+
+		Thread producer = new Thread(() -> thread.add(writer, third));
+		producer.start();
+		producer.join(100);
+		assertThat(producer.isAlive()).isTrue();
+
+		thread.start();
+		producer.join();
+		thread.shutdown();
+		thread.join();
+
+		assertThat(thread.getDroppedLogEntries()).isEqualTo(1);
+		assertThat(thread.getDroppedLogEntries(Level.INFO)).isEqualTo(1);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN");
+
+		verify(writer).write(first);
+		verify(writer, never()).write(second);
+		verify(writer).write(third);
+	}
+
+	/**
+	 * Verifies that new log entries are written by the logging thread itself if the queue is full and
+	 * {@link OverflowPolicy#SYNC} is configured.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void writeSynchronously() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry first = LogEntryBuilder.empty().create();
+		LogEntry second = LogEntryBuilder.empty().create();
+
+		TaskQueue queue = new SynchronizedTaskQueue(1);
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.SYNC, Level.OFF);
+		thread.add(writer, first);
+		thread.add(writer, second);
+
+		verify(writer, never()).write(first);
+		verify(writer).write(second);
+		verify(writer).flush();
+
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		verify(writer).write(first);
+		assertThat(thread.getDroppedLogEntries()).isZero();
+	}
+
+	/**
+	 * Verifies that flushing will be deferred until the flush interval has elapsed.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void flushAfterInterval() throws Exception {
+		Writer writer = mock(Writer.class);
+		TaskQueue queue = new SynchronizedTaskQueue();
+		FlushPolicy policy = new FlushPolicy(500, 0, Level.OFF);
+
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.BLOCK, Level.OFF, policy);
+		thread.start();
+
+		thread.add(writer, LogEntryBuilder.empty().create());
+		thread.add(writer, LogEntryBuilder.empty().create());
+		Thread.sleep(100);
+		verify(writer, never()).flush();
+
+		Thread.sleep(800); // Wait for flushing
+		verify(writer).flush();
+
+		thread.shutdown();
+		thread.join();
+
+		verify(writer, times(2)).write(any());
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that writers will be flushed as soon as the defined number of unflushed log entries has been reached.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void flushAfterEntries() throws Exception {
+		Writer writer = mock(Writer.class);
+		TaskQueue queue = new SynchronizedTaskQueue();
+		FlushPolicy policy = new FlushPolicy(0, 3, Level.OFF);
+
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.BLOCK, Level.OFF, policy);
+		thread.start();
+
+		thread.add(writer, LogEntryBuilder.empty().create());
+		thread.add(writer, LogEntryBuilder.empty().create());
+		Thread.sleep(100);
+		verify(writer, never()).flush();
+
+		thread.add(writer, LogEntryBuilder.empty().create());
+		Thread.sleep(100); // Wait for flushing
+		verify(writer).flush();
+
+		thread.shutdown();
+		thread.join();
+	}
+
+	/**
+	 * Verifies that writers will be flushed after the default interval, if fewer log entries than the defined number
+	 * are issued and no further log entries follow.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void flushTrickleAfterDefaultInterval() throws Exception {
+		Writer writer = mock(Writer.class);
+		TaskQueue queue = new SynchronizedTaskQueue();
+		FlushPolicy policy = new FlushPolicy(0, 100, Level.OFF);
+
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.BLOCK, Level.OFF, policy);
+		thread.start();
+
+		thread.add(writer, LogEntryBuilder.empty().create());
+		thread.add(writer, LogEntryBuilder.empty().create());
+		Thread.sleep(100);
+		verify(writer, never()).flush();
+
+		Thread.sleep(1500); // Wait for flushing
+		verify(writer).flush();
+
+		thread.shutdown();
+		thread.join();
+
+		verify(writer, times(2)).write(any());
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that writers will be flushed immediately after writing a log entry with an urgent severity level.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void flushUrgentLogEntry() throws Exception {
+		Writer writer = mock(Writer.class);
+		TaskQueue queue = new SynchronizedTaskQueue();
+		FlushPolicy policy = new FlushPolicy(60_000, 0, Level.ERROR);
+
+		WritingThread thread = new WritingThread(singletonList(writer), queue, OverflowPolicy.BLOCK, Level.OFF, policy);
+		thread.start();
+
+		thread.add(writer, LogEntryBuilder.empty().level(Level.WARN).create());
+		Thread.sleep(100);
+		verify(writer, never()).flush();
+
+		thread.add(writer, LogEntryBuilder.empty().level(Level.ERROR).create());
+		Thread.sleep(100); // Wait for flushing
+		verify(writer).flush();
+
+		thread.shutdown();
+		thread.join();
+	}
+
 	/**
 	 * Verifies that a thrown exception will be reported while writing.
 	 *
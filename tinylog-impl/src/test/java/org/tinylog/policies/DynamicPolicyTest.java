@@ -76,6 +76,7 @@ public final class DynamicPolicyTest {
 
 		DynamicPolicy.setReset();
 		assertThat(policy.continueCurrentFile(new byte[0])).isFalse();
+		assertThat(policy.continueCurrentFile(0)).isFalse();
 
 		policy.reset();
 		assertThat(policy.continueCurrentFile(new byte[0])).isTrue();
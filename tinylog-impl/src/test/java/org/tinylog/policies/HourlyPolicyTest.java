@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+/**
+ * Tests for {@link HourlyPolicy}.
+ */
+@RunWith(Enclosed.class)
+public final class HourlyPolicyTest {
+
+	/**
+	 * Converts a local date and time to epoch milliseconds.
+	 *
+	 * @param date
+	 *            Local date
+	 * @param time
+	 *            Local time
+	 * @return Milliseconds since 1970-01-01T00:00:00Z
+	 */
+	private static long asEpochMilliseconds(final LocalDate date, final LocalTime time) {
+		return ZonedDateTime.of(date, time, ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * Tests for hourly policy with default minute (full hour).
+	 */
+	@RunWith(PowerMockRunner.class)
+	@PrepareForTest(HourlyPolicy.class)
+	public static final class DefaultMinuteTest {
+
+		/**
+		 * Initialize mocking of {@link System} and {@link Calendar}.
+		 */
+		@Before
+		public void init() {
+			mockStatic(System.class, Calendar.class);
+		}
+
+		/**
+		 * Verifies that an already existing file from the current hour will be continued.
+		 *
+		 * @throws IOException
+		 *             Failed creating temporary file
+		 */
+		@Test
+		public void continueExistingFileFromCurrentHour() throws IOException {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 30));
+
+			String path = FileSystem.createTemporaryFile();
+			new File(path).setLastModified(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(12, 0)));
+
+			HourlyPolicy policy = new HourlyPolicy(null);
+			assertThat(policy.continueExistingFile(path)).isTrue();
+		}
+
+		/**
+		 * Verifies that an already existing file from the last hour will be discontinued.
+		 *
+		 * @throws IOException
+		 *             Failed creating temporary file
+		 */
+		@Test
+		public void discontinueExistingFileFromLastHour() throws IOException {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 30));
+
+			String path = FileSystem.createTemporaryFile();
+			new File(path).setLastModified(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(11, 59)));
+
+			HourlyPolicy policy = new HourlyPolicy(null);
+			assertThat(policy.continueExistingFile(path)).isFalse();
+		}
+
+		/**
+		 * Verifies that the next rollover is at the next full hour.
+		 */
+		@Test
+		public void nextRollover() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 30));
+			HourlyPolicy policy = new HourlyPolicy(null);
+
+			assertThat(policy.getNextRollover()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(13, 0)));
+		}
+
+		/**
+		 * Verifies that the current file will be continued until the next full hour.
+		 */
+		@Test
+		public void continueCurrentFileUntilFullHour() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 30));
+			HourlyPolicy policy = new HourlyPolicy(null);
+
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 59));
+			assertThat(policy.continueCurrentFile(0)).isTrue();
+
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(13, 0));
+			assertThat(policy.continueCurrentFile(0)).isFalse();
+
+			policy.reset();
+			assertThat(policy.continueCurrentFile(0)).isTrue();
+			assertThat(policy.getNextRollover()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(14, 0)));
+		}
+
+		/**
+		 * Verifies that the next rollover passes midnight.
+		 */
+		@Test
+		public void nextRolloverAtMidnight() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(23, 30));
+			HourlyPolicy policy = new HourlyPolicy(null);
+
+			assertThat(policy.getNextRollover()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 4), LocalTime.of(0, 0)));
+		}
+
+		/**
+		 * Sets the current date and time.
+		 *
+		 * @param date
+		 *            New current date
+		 * @param time
+		 *            New current time
+		 */
+		private static void setTime(final LocalDate date, final LocalTime time) {
+			long milliseconds = asEpochMilliseconds(date, time);
+
+			when(System.currentTimeMillis()).thenReturn(milliseconds);
+			when(Calendar.getInstance()).then(new CalendarAnswer(milliseconds));
+		}
+
+	}
+
+	/**
+	 * Tests for hourly policy with custom minute (30 minutes past each hour).
+	 */
+	@RunWith(PowerMockRunner.class)
+	@PrepareForTest(HourlyPolicy.class)
+	public static final class CustomMinuteTest {
+
+		/**
+		 * Initialize mocking of {@link System} and {@link Calendar}.
+		 */
+		@Before
+		public void init() {
+			mockStatic(System.class, Calendar.class);
+		}
+
+		/**
+		 * Verifies that the next rollover is at the custom minute of the current hour, if this minute is still ahead.
+		 */
+		@Test
+		public void nextRolloverInCurrentHour() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 10));
+			HourlyPolicy policy = new HourlyPolicy("30");
+
+			assertThat(policy.getNextRollover()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(12, 30)));
+		}
+
+		/**
+		 * Verifies that the next rollover is at the custom minute of the next hour, if this minute has already passed.
+		 */
+		@Test
+		public void nextRolloverInNextHour() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 40));
+			HourlyPolicy policy = new HourlyPolicy("30");
+
+			assertThat(policy.getNextRollover()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(13, 30)));
+		}
+
+		/**
+		 * Verifies that an already existing file will be continued, if it has been modified after the last rollover
+		 * event.
+		 *
+		 * @throws IOException
+		 *             Failed creating temporary file
+		 */
+		@Test
+		public void continueExistingFile() throws IOException {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 10));
+
+			String path = FileSystem.createTemporaryFile();
+			new File(path).setLastModified(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(11, 30)));
+
+			HourlyPolicy policy = new HourlyPolicy("30");
+			assertThat(policy.continueExistingFile(path)).isTrue();
+		}
+
+		/**
+		 * Sets the current date and time.
+		 *
+		 * @param date
+		 *            New current date
+		 * @param time
+		 *            New current time
+		 */
+		private static void setTime(final LocalDate date, final LocalTime time) {
+			long milliseconds = asEpochMilliseconds(date, time);
+
+			when(System.currentTimeMillis()).thenReturn(milliseconds);
+			when(Calendar.getInstance()).then(new CalendarAnswer(milliseconds));
+		}
+
+	}
+
+	/**
+	 * Tests for hourly policy with invalid custom minutes.
+	 */
+	public static final class InvalidCustomMinuteTest {
+
+		/**
+		 * Verifies that an illegal argument exception will be thrown if the minute argument does not contain any digits.
+		 */
+		@Test
+		public void nonNumericString() {
+			assertThatThrownBy(() -> new HourlyPolicy("abc")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("abc");
+		}
+
+		/**
+		 * Verifies that an illegal argument exception will be thrown if the minute is out of range.
+		 */
+		@Test
+		public void invalidMinute() {
+			assertThatThrownBy(() -> new HourlyPolicy("60")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("60");
+		}
+
+	}
+
+	/**
+	 * Tests for service registration.
+	 */
+	public static final class ServiceRegistrationTest {
+
+		/**
+		 * Verifies that policy is registered as service under the name "hourly".
+		 */
+		@Test
+		public void isRegistered() {
+			Policy policy = new ServiceLoader<>(Policy.class, String.class).create("hourly", (String) null);
+			assertThat(policy).isInstanceOf(HourlyPolicy.class);
+		}
+
+	}
+
+	/**
+	 * Answer for mocked calendars.
+	 */
+	private static final class CalendarAnswer implements Answer<Calendar> {
+
+		private final long milliseconds;
+
+		/**
+		 * @param milliseconds
+		 *            Milliseconds since 1970-01-01T00:00:00Z
+		 */
+		private CalendarAnswer(final long milliseconds) {
+			this.milliseconds = milliseconds;
+		}
+
+		@Override
+		public Calendar answer(final InvocationOnMock invocation) throws Throwable {
+			Calendar calendar = Calendar.getInstance();
+			calendar.setTimeInMillis(milliseconds);
+			return calendar;
+		}
+
+	}
+
+}
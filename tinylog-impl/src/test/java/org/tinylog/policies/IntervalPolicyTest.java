@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.policies;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+/**
+ * Tests for {@link IntervalPolicy}.
+ */
+@RunWith(Enclosed.class)
+public final class IntervalPolicyTest {
+
+	/**
+	 * Converts a local date and time to epoch milliseconds.
+	 *
+	 * @param date
+	 *            Local date
+	 * @param time
+	 *            Local time
+	 * @return Milliseconds since 1970-01-01T00:00:00Z
+	 */
+	private static long asEpochMilliseconds(final LocalDate date, final LocalTime time) {
+		return ZonedDateTime.of(date, time, ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * Tests for rollover events with mocked current time.
+	 */
+	@RunWith(PowerMockRunner.class)
+	@PrepareForTest(IntervalPolicy.class)
+	public static final class RolloverTest {
+
+		/**
+		 * Initialize mocking of {@link System}.
+		 */
+		@Before
+		public void init() {
+			mockStatic(System.class);
+		}
+
+		/**
+		 * Verifies that the next rollover is aligned to the local time.
+		 */
+		@Test
+		public void nextRollover() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 20));
+			IntervalPolicy policy = new IntervalPolicy("15m");
+
+			assertThat(policy.getNextRollover()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(12, 30)));
+		}
+
+		/**
+		 * Verifies that the next rollover for intervals of several hours is aligned to midnight.
+		 */
+		@Test
+		public void nextRolloverForHours() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(19, 0));
+			IntervalPolicy policy = new IntervalPolicy("6h");
+
+			assertThat(policy.getNextRollover()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 4), LocalTime.of(0, 0)));
+		}
+
+		/**
+		 * Verifies that the current file will be continued until the end of the current interval.
+		 */
+		@Test
+		public void continueCurrentFileUntilEndOfInterval() {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 20));
+			IntervalPolicy policy = new IntervalPolicy("15m");
+
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 29, 59));
+			assertThat(policy.continueCurrentFile(0)).isTrue();
+			assertThat(policy.continueCurrentFile(new byte[0])).isTrue();
+
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 30));
+			assertThat(policy.continueCurrentFile(0)).isFalse();
+			assertThat(policy.continueCurrentFile(new byte[0])).isFalse();
+
+			policy.reset();
+			assertThat(policy.continueCurrentFile(0)).isTrue();
+			assertThat(policy.getNextRollover()).isEqualTo(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(12, 45)));
+		}
+
+		/**
+		 * Verifies that an already existing file from the current interval will be continued.
+		 *
+		 * @throws IOException
+		 *             Failed creating temporary file
+		 */
+		@Test
+		public void continueExistingFile() throws IOException {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 20));
+
+			String path = FileSystem.createTemporaryFile();
+			new File(path).setLastModified(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(12, 15)));
+
+			assertThat(new IntervalPolicy("15m").continueExistingFile(path)).isTrue();
+		}
+
+		/**
+		 * Verifies that an already existing file from the previous interval will be discontinued.
+		 *
+		 * @throws IOException
+		 *             Failed creating temporary file
+		 */
+		@Test
+		public void discontinueExistingFile() throws IOException {
+			setTime(LocalDate.of(1985, 6, 3), LocalTime.of(12, 20));
+
+			String path = FileSystem.createTemporaryFile();
+			new File(path).setLastModified(asEpochMilliseconds(LocalDate.of(1985, 6, 3), LocalTime.of(12, 14)));
+
+			assertThat(new IntervalPolicy("15m").continueExistingFile(path)).isFalse();
+		}
+
+		/**
+		 * Sets the current date and time.
+		 *
+		 * @param date
+		 *            New current date
+		 * @param time
+		 *            New current time
+		 */
+		private static void setTime(final LocalDate date, final LocalTime time) {
+			when(System.currentTimeMillis()).thenReturn(asEpochMilliseconds(date, time));
+		}
+
+	}
+
+	/**
+	 * Tests for parsing intervals.
+	 */
+	public static final class ArgumentTest {
+
+		/**
+		 * Verifies that all supported units are accepted.
+		 */
+		@Test
+		public void supportedUnits() {
+			assertThat(new IntervalPolicy("30s").getNextRollover()).isGreaterThan(System.currentTimeMillis());
+			assertThat(new IntervalPolicy("15m").getNextRollover()).isGreaterThan(System.currentTimeMillis());
+			assertThat(new IntervalPolicy("2 H").getNextRollover()).isGreaterThan(System.currentTimeMillis());
+			assertThat(new IntervalPolicy("1d").getNextRollover()).isGreaterThan(System.currentTimeMillis());
+		}
+
+		/**
+		 * Verifies that an illegal argument exception will be thrown if no interval has been passed.
+		 */
+		@Test
+		public void missingArgument() {
+			assertThatThrownBy(() -> new IntervalPolicy(null)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("interval");
+		}
+
+		/**
+		 * Verifies that an illegal argument exception will be thrown if the interval has no unit.
+		 */
+		@Test
+		public void missingUnit() {
+			assertThatThrownBy(() -> new IntervalPolicy("15")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("15");
+		}
+
+		/**
+		 * Verifies that an illegal argument exception will be thrown if the interval is not positive.
+		 */
+		@Test
+		public void zeroInterval() {
+			assertThatThrownBy(() -> new IntervalPolicy("0m")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("0m");
+		}
+
+		/**
+		 * Verifies that an illegal argument exception will be thrown if the interval is not a number.
+		 */
+		@Test
+		public void invalidNumber() {
+			assertThatThrownBy(() -> new IntervalPolicy("xm")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("xm");
+		}
+
+	}
+
+	/**
+	 * Tests for service registration.
+	 */
+	public static final class ServiceRegistrationTest {
+
+		/**
+		 * Verifies that policy is registered as service under the name "interval".
+		 */
+		@Test
+		public void isRegistered() {
+			Policy policy = new ServiceLoader<>(Policy.class, String.class).create("interval", "15m");
+			assertThat(policy).isInstanceOf(IntervalPolicy.class);
+		}
+
+	}
+
+}
@@ -150,6 +150,20 @@ public final class SizePolicyTest {
 			assertThat(policy.continueCurrentFile(new byte[1])).isTrue();
 		}
 
+		/**
+		 * Verifies that the current log file is continued until the passed lengths exceed the defined maximum file
+		 * size.
+		 */
+		@Test
+		public void continueCurrentFileByLength() {
+			LengthAwarePolicy policy = new SizePolicy(argument);
+			assertThat(policy.continueCurrentFile(size - 1)).isTrue();
+			assertThat(policy.continueCurrentFile(1)).isTrue();
+			assertThat(policy.continueCurrentFile(1)).isFalse();
+			policy.reset();
+			assertThat(policy.continueCurrentFile(size)).isTrue();
+		}
+
 		/**
 		 * Creates a new temporary file. The created file will be deleted automatically when the virtual machine
 		 * terminates.
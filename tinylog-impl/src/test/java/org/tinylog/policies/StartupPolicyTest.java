@@ -52,6 +52,7 @@ public final class StartupPolicyTest {
 	@Test
 	public void continueCurrentFile() {
 		assertThat(new StartupPolicy(null).continueCurrentFile(new byte[0])).isTrue();
+		assertThat(new StartupPolicy(null).continueCurrentFile(0)).isTrue();
 	}
 
 	/**
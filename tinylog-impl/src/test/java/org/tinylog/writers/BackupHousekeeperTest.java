@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.tinylog.path.FileTuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link BackupHousekeeper}.
+ */
+public final class BackupHousekeeperTest {
+
+	/**
+	 * Temporary folder for creating log files.
+	 */
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Verifies that the oldest log files will be deleted, if the maximum count of log files is exceeded.
+	 *
+	 * @throws IOException
+	 *             Failed to create log files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the background thread
+	 */
+	@Test
+	public void retainByCount() throws IOException, InterruptedException {
+		List<FileTuple> files = createFiles(4, 10);
+
+		BackupHousekeeper housekeeper = new BackupHousekeeper(2, Long.MAX_VALUE, Long.MAX_VALUE);
+		housekeeper.register(files);
+		housekeeper.shutdown();
+
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("2", "3");
+	}
+
+	/**
+	 * Verifies that the oldest log files will be deleted, if the maximum total size of log files is exceeded.
+	 *
+	 * @throws IOException
+	 *             Failed to create log files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the background thread
+	 */
+	@Test
+	public void retainBySize() throws IOException, InterruptedException {
+		List<FileTuple> files = createFiles(4, 10);
+
+		BackupHousekeeper housekeeper = new BackupHousekeeper(Integer.MAX_VALUE, 25, Long.MAX_VALUE);
+		housekeeper.register(files);
+		housekeeper.shutdown();
+
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("2", "3");
+	}
+
+	/**
+	 * Verifies that the size of backup files is taken into account for the total size of log files.
+	 *
+	 * @throws IOException
+	 *             Failed to create log files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the background thread
+	 */
+	@Test
+	public void retainBySizeIncludingBackups() throws IOException, InterruptedException {
+		List<FileTuple> files = new ArrayList<>();
+		for (int i = 0; i < 3; ++i) {
+			File original = folder.newFile(Integer.toString(i));
+			File backup = new File(original.getPath() + ".gz");
+			Files.write(original.toPath(), new byte[10]);
+			Files.write(backup.toPath(), new byte[10]);
+			files.add(new FileTuple(original, backup));
+		}
+
+		BackupHousekeeper housekeeper = new BackupHousekeeper(Integer.MAX_VALUE, 45, Long.MAX_VALUE);
+		housekeeper.register(files);
+		housekeeper.shutdown();
+
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("1", "1.gz", "2", "2.gz");
+	}
+
+	/**
+	 * Verifies that log files will be deleted, if they are older than the maximum age.
+	 *
+	 * @throws IOException
+	 *             Failed to create log files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the background thread
+	 */
+	@Test
+	public void retainByAge() throws IOException, InterruptedException {
+		List<FileTuple> files = createFiles(4, 10);
+		long now = System.currentTimeMillis();
+		files.get(0).getOriginal().setLastModified(now - TimeUnit.DAYS.toMillis(3));
+		files.get(1).getOriginal().setLastModified(now - TimeUnit.DAYS.toMillis(2));
+
+		BackupHousekeeper housekeeper = new BackupHousekeeper(Integer.MAX_VALUE, Long.MAX_VALUE, TimeUnit.DAYS.toMillis(1));
+		housekeeper.register(files);
+		housekeeper.shutdown();
+
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("2", "3");
+	}
+
+	/**
+	 * Verifies that neither sizes nor ages of log files are determined, if log files are retained only by count.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the background thread
+	 */
+	@Test
+	public void retainByCountWithoutFileAccess() throws InterruptedException {
+		List<FileTuple> files = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			CountingFile original = new CountingFile(new File(folder.getRoot(), Integer.toString(i)));
+			files.add(new FileTuple(original, new CountingFile(new File(original.getPath() + ".gz"))));
+		}
+
+		BackupHousekeeper housekeeper = new BackupHousekeeper(10, Long.MAX_VALUE, Long.MAX_VALUE);
+		for (FileTuple tuple : files) {
+			housekeeper.register(Collections.singletonList(tuple));
+		}
+		housekeeper.shutdown();
+
+		for (FileTuple tuple : files) {
+			assertThat(((CountingFile) tuple.getOriginal()).accesses).isZero();
+			assertThat(((CountingFile) tuple.getBackup()).accesses).isZero();
+		}
+	}
+
+	/**
+	 * Verifies that the current log file will be never deleted, even if it exceeds all limits.
+	 *
+	 * @throws IOException
+	 *             Failed to create log files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the background thread
+	 */
+	@Test
+	public void keepCurrentFile() throws IOException, InterruptedException {
+		List<FileTuple> files = createFiles(2, 10);
+		files.get(1).getOriginal().setLastModified(0);
+
+		BackupHousekeeper housekeeper = new BackupHousekeeper(0, 1, 1);
+		housekeeper.register(files);
+		housekeeper.shutdown();
+
+		assertThat(folder.getRoot().list()).containsExactly("1");
+	}
+
+	/**
+	 * Verifies that newly registered log files are appended to the already known log files.
+	 *
+	 * @throws IOException
+	 *             Failed to create log files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the background thread
+	 */
+	@Test
+	public void registerSubsequently() throws IOException, InterruptedException {
+		List<FileTuple> files = createFiles(3, 10);
+
+		BackupHousekeeper housekeeper = new BackupHousekeeper(2, Long.MAX_VALUE, Long.MAX_VALUE);
+		housekeeper.register(files.subList(0, 2));
+		housekeeper.register(Collections.singletonList(files.get(0)));
+		housekeeper.register(Collections.singletonList(files.get(2)));
+		housekeeper.shutdown();
+
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("0", "2");
+	}
+
+	/**
+	 * Verifies that sizes with and without units can be parsed.
+	 */
+	@Test
+	public void parseValidSizes() {
+		assertThat(BackupHousekeeper.parseSize(null)).isEqualTo(Long.MAX_VALUE);
+		assertThat(BackupHousekeeper.parseSize("42")).isEqualTo(42);
+		assertThat(BackupHousekeeper.parseSize("42 bytes")).isEqualTo(42);
+		assertThat(BackupHousekeeper.parseSize("2KB")).isEqualTo(2 * 1024);
+		assertThat(BackupHousekeeper.parseSize("2mb")).isEqualTo(2 * 1024 * 1024);
+		assertThat(BackupHousekeeper.parseSize("20gb")).isEqualTo(20L * 1024 * 1024 * 1024);
+	}
+
+	/**
+	 * Verifies that invalid sizes are rejected.
+	 */
+	@Test
+	public void parseInvalidSizes() {
+		assertThatThrownBy(() -> BackupHousekeeper.parseSize("abc")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> BackupHousekeeper.parseSize("0")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Verifies that ages with units can be parsed.
+	 */
+	@Test
+	public void parseValidAges() {
+		assertThat(BackupHousekeeper.parseAge(null)).isEqualTo(Long.MAX_VALUE);
+		assertThat(BackupHousekeeper.parseAge("14d")).isEqualTo(TimeUnit.DAYS.toMillis(14));
+		assertThat(BackupHousekeeper.parseAge("12 h")).isEqualTo(TimeUnit.HOURS.toMillis(12));
+		assertThat(BackupHousekeeper.parseAge("30m")).isEqualTo(TimeUnit.MINUTES.toMillis(30));
+		assertThat(BackupHousekeeper.parseAge("45S")).isEqualTo(TimeUnit.SECONDS.toMillis(45));
+	}
+
+	/**
+	 * Verifies that invalid ages are rejected.
+	 */
+	@Test
+	public void parseInvalidAges() {
+		assertThatThrownBy(() -> BackupHousekeeper.parseAge("14")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> BackupHousekeeper.parseAge("xd")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> BackupHousekeeper.parseAge("0d")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Creates log files with ascending last modification dates.
+	 *
+	 * @param count
+	 *            Number of log files to create
+	 * @param size
+	 *            Size of each log file in bytes
+	 * @return Created log files, sorted from oldest to newest
+	 * @throws IOException
+	 *             Failed to create log files
+	 */
+	private List<FileTuple> createFiles(final int count, final int size) throws IOException {
+		long now = System.currentTimeMillis();
+		List<FileTuple> files = new ArrayList<>();
+
+		for (int i = 0; i < count; ++i) {
+			File file = folder.newFile(Integer.toString(i));
+			Files.write(file.toPath(), new byte[size]);
+			file.setLastModified(now - TimeUnit.SECONDS.toMillis(count - i));
+			files.add(new FileTuple(file, file));
+		}
+
+		return files;
+	}
+
+	/**
+	 * File that counts the number of determined sizes and last modification dates.
+	 */
+	@SuppressWarnings("serial")
+	private static final class CountingFile extends File {
+
+		private int accesses;
+
+		/**
+		 * @param file
+		 *            Original file
+		 */
+		private CountingFile(final File file) {
+			super(file.getPath());
+		}
+
+		@Override
+		public long length() {
+			accesses += 1;
+			return super.length();
+		}
+
+		@Override
+		public long lastModified() {
+			accesses += 1;
+			return super.lastModified();
+		}
+
+	}
+
+}
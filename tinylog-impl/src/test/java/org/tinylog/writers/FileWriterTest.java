@@ -15,6 +15,7 @@ package org.tinylog.writers;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.Rule;
@@ -87,6 +88,119 @@ public final class FileWriterTest {
 		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
 	}
 
+	/**
+	 * Verifies that log entries will be immediately output, if the file is written via a file channel.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void channelWriting() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		FileWriter writer = new FileWriter(tripletonMap("file", file, "format", "{message}", "io", "channel"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that log entries will be output, if the file is written via memory mapping.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void mappedWriting() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		FileWriter writer = new FileWriter(tripletonMap("file", file, "format", "{message}", "io", "mmap"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file)).startsWith("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that a configured buffer size will be used.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void customBufferSize() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("buffered", "true");
+		properties.put("buffer.size", "5 bytes");
+		FileWriter writer = new FileWriter(properties);
+
+		writer.write(LogEntryBuilder.empty().message("Hi").create());
+		assertThat(FileSystem.readFile(file)).isEmpty();
+
+		writer.write(LogEntryBuilder.empty().message("Hi").create());
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hi" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hi" + NEW_LINE + "Hi" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that log entries will be output asynchronously after flushing, if double buffering is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the I/O thread
+	 */
+	@Test
+	public void doubleBufferedWriting() throws IOException, InterruptedException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("buffered", "true");
+		properties.put("buffer.double", "true");
+		FileWriter writer = new FileWriter(properties);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file)).isEmpty();
+
+		writer.flush();
+		for (int i = 0; i < 100 && FileSystem.readFile(file).isEmpty(); ++i) {
+			Thread.sleep(10);
+		}
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that log entries will be output and forced to the storage device, if sync mode is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void syncedWriting() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		FileWriter writer = new FileWriter(tripletonMap("file", file, "format", "{message}", "sync", "batch"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
 	/**
 	 * Verifies that an already existing file will be overridden, if append mode is disabled.
 	 *
@@ -223,6 +337,54 @@ public final class FileWriterTest {
 		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("charset").containsOnlyOnce("UTF-42");
 	}
 
+	/**
+	 * Verifies that an error will be logged and the file will be written as usual, if the I/O method is invalid.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void invalidFileIo() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		FileWriter writer = new FileWriter(tripletonMap("file", file, "format", "{message}", "io", "foo"));
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("I/O method").containsOnlyOnce("foo");
+	}
+
+	/**
+	 * Verifies that an error will be logged and the default buffer size will be used, if the buffer size is invalid.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void invalidBufferSize() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		new FileWriter(tripletonMap("file", file, "buffered", "true", "buffer.size", "huge")).close();
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("buffer size").containsOnlyOnce("huge");
+	}
+
+	/**
+	 * Verifies that an error will be logged, if the sync mode or the sync interval is invalid.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void invalidSync() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		new FileWriter(tripletonMap("file", file, "sync", "always", "sync.interval", "later")).close();
+
+		assertThat(systemStream.consumeErrorOutput())
+			.contains("sync mode").contains("always")
+			.contains("sync interval").contains("later");
+	}
+
 	/**
 	 * Verifies that writer is registered as service under the name "file".
 	 *
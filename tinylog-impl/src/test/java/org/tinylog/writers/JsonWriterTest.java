@@ -429,6 +429,33 @@ public final class JsonWriterTest {
 			assertThat(resultingEntry).contains(expectedMessage);
 		}
 
+		/**
+		 * Verifies that backslashes and control characters without short escape sequence get escaped.
+		 *
+		 * @throws IOException Failed writing to file
+		 */
+		@Test
+		public void escapesBackslashesAndControlCharacters() throws IOException {
+			String file = FileSystem.createTemporaryFile();
+			Map<String, String> properties = new HashMap<>();
+			properties.put("file", file);
+			properties.put("format", "JSON");
+			properties.put("writingthread", Boolean.toString(writingThread));
+			properties.put("charset", charset.name());
+			properties.put("field.message", "message");
+
+			JsonWriter writer = new JsonWriter(properties);
+			LogEntry givenLogEntry = LogEntryBuilder.prefilled(JsonWriterTest.class)
+					.message("C:\\temp\u0000\u001f").create();
+			writer.write(givenLogEntry);
+			writer.close();
+
+			String expectedMessage = "C:\\\\temp\\u0000\\u001f\"";
+			String resultingEntry = FileSystem.readFile(file, charset);
+
+			assertThat(resultingEntry).contains(expectedMessage);
+		}
+
 		/**
 		 * Verifies that an exception is thrown when there is an invalid JSON file
 		 * (currently only missing closing bracket).
@@ -718,6 +745,33 @@ public final class JsonWriterTest {
 			assertThat(resultingEntry).contains(expectedMessage);
 		}
 
+		/**
+		 * Verifies that backslashes and control characters without short escape sequence get escaped.
+		 *
+		 * @throws IOException Failed writing to file
+		 */
+		@Test
+		public void escapesBackslashesAndControlCharacters() throws IOException {
+			String file = FileSystem.createTemporaryFile();
+			Map<String, String> properties = new HashMap<>();
+			properties.put("file", file);
+			properties.put("format", "LDJSON");
+			properties.put("writingthread", Boolean.toString(writingThread));
+			properties.put("charset", charset.name());
+			properties.put("field.message", "message");
+
+			JsonWriter writer = new JsonWriter(properties);
+			LogEntry givenLogEntry = LogEntryBuilder.prefilled(JsonWriterTest.class)
+					.message("C:\\temp\u0000\u001f").create();
+			writer.write(givenLogEntry);
+			writer.close();
+
+			String expectedMessage = "C:\\\\temp\\u0000\\u001f\"";
+			String resultingEntry = FileSystem.readFile(file, charset);
+
+			assertThat(resultingEntry).contains(expectedMessage);
+		}
+
 		@Test
 		public void handlesInvalidJsonFile() throws IOException {
 			String file = FileSystem.createTemporaryFile(charset, "[{}");
@@ -14,10 +14,13 @@
 package org.tinylog.writers;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.After;
 import org.junit.Rule;
@@ -26,6 +29,7 @@ import org.junit.rules.TemporaryFolder;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.configuration.ServiceLoader;
 import org.tinylog.converters.FileConverter;
+import org.tinylog.converters.GzipFileConverter;
 import org.tinylog.core.LogEntryValue;
 import org.tinylog.path.DynamicSegment;
 import org.tinylog.policies.DynamicPolicy;
@@ -397,6 +401,60 @@ public final class RollingFileWriterTest {
 		verify(converter).close();
 	}
 
+	/**
+	 * Verifies that an argument can be passed to the file converter.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void passArgumentToFileConverter() throws IOException, InterruptedException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("convert", "gzip: 2");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		try {
+			Object converter = Whitebox.getInternalState(writer, "converter");
+			assertThat(converter).isInstanceOf(GzipFileConverter.class);
+			assertThat(Whitebox.<Integer>getInternalState(converter, "threads")).isEqualTo(2);
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Verifies that log entries can be compressed while writing them into the log file.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void streamingCompression() throws IOException, InterruptedException {
+		File file = new File(folder.getRoot(), "log.txt.gz");
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file.getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("convert", "streaming gzip");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.write(LogEntryBuilder.empty().message("Goodbye!").create());
+		writer.close();
+
+		try (InputStream stream = new GZIPInputStream(new FileInputStream(file))) {
+			assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8))
+				.isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
+		}
+	}
+
 	/**
 	 * Verifies that all backup files will be kept if deletion of backups is disabled.
 	 *
@@ -459,13 +517,11 @@ public final class RollingFileWriterTest {
 		properties.put("backups", "2");
 
 		RollingFileWriter writer = new RollingFileWriter(properties);
-		try {
-			assertThat(file1).doesNotExist();
-			assertThat(file2).exists();
-			assertThat(file3).exists();
-		} finally {
-			writer.close();
-		}
+		writer.close();
+
+		assertThat(file1).doesNotExist();
+		assertThat(file2).exists();
+		assertThat(file3).exists();
 	}
 
 	/**
@@ -503,13 +559,187 @@ public final class RollingFileWriterTest {
 
 		writer.write(LogEntryBuilder.empty().message("First").create());
 		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.close();
 
 		assertThat(file1).doesNotExist();
 		assertThat(file2).exists();
 		assertThat(file3).hasContent("First" + NEW_LINE);
 		assertThat(file4).hasContent("Second" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that obsolete log files will be deleted, if they exceed the configured total size.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void deleteBackupsBySize() throws IOException, InterruptedException {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}").getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "size: 10");
+		properties.put("backups.size", "12 bytes");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.write(LogEntryBuilder.empty().message("Third").create());
+		writer.write(LogEntryBuilder.empty().message("Fourth").create());
+		writer.write(LogEntryBuilder.empty().message("Fifth").create());
+		writer.close();
+
+		assertThat(folder.getRoot().list()).containsExactly("2");
+	}
+
+	/**
+	 * Verifies that the next log file can be opened in advance and is used at rollover.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void preopenNextFile() throws IOException, InterruptedException {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}.log").getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "size: 10");
+		properties.put("preopen", "true");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.write(LogEntryBuilder.empty().message("Third").create());
+		writer.write(LogEntryBuilder.empty().message("Fourth").create());
+
+		writer.close();
 
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("0.log", "1.log", "2.log");
+		assertThat(new File(folder.getRoot(), "0.log")).hasContent("First" + NEW_LINE);
+		assertThat(new File(folder.getRoot(), "1.log")).hasContent("Second" + NEW_LINE + "Third" + NEW_LINE);
+		assertThat(new File(folder.getRoot(), "2.log")).hasContent("Fourth" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that the link to the latest log file is updated, if the next log file has been opened in advance.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void linkToPreopenedFile() throws IOException, InterruptedException {
+		File latest = new File(folder.getRoot(), "latest");
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}").getAbsolutePath());
+		properties.put("latest", latest.getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "size: 10");
+		properties.put("preopen", "true");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		try {
+			writer.write(LogEntryBuilder.empty().message("First").create());
+			writer.write(LogEntryBuilder.empty().message("Second").create());
+		} finally {
+			writer.close();
+		}
+
+		assertThat(latest).hasContent("Second" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that a time based policy triggers a rollover at its precomputed next rollover.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void rolloverByInterval() throws IOException, InterruptedException {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}").getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "interval: 1s");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		Thread.sleep(1100);
+		writer.write(LogEntryBuilder.empty().message("Second").create());
 		writer.close();
+
+		assertThat(new File(folder.getRoot(), "0")).hasContent("First" + NEW_LINE);
+		assertThat(new File(folder.getRoot(), "1")).hasContent("Second" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that log files, which have been created by other processes after startup, are not taken into account
+	 * when deleting backups at rollover, as the writer maintains its own index of known log files.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void deleteOnlyKnownBackupsAtRollOver() throws IOException, InterruptedException {
+		File file1 = folder.newFile("0");
+		file1.setLastModified(0);
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", new File(folder.getRoot(), "{count}").getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "size: 10");
+		properties.put("backups", "2");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+
+		File foreignFile = folder.newFile("00");
+		foreignFile.setLastModified(0);
+
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.write(LogEntryBuilder.empty().message("Third").create());
+		writer.write(LogEntryBuilder.empty().message("Fourth").create());
+
+		writer.close();
+
+		assertThat(foreignFile).exists();
+		assertThat(folder.getRoot().list()).containsExactlyInAnyOrder("00", "1", "2");
+	}
+
+	/**
+	 * Verifies that a reused file name is only counted once, when deleting backups at rollover.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary folder or files
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the converter
+	 */
+	@Test
+	public void keepReusedFileAtRollOver() throws IOException, InterruptedException {
+		File file = new File(folder.getRoot(), "log.txt");
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file.getAbsolutePath());
+		properties.put("format", "{message}");
+		properties.put("policies", "size: 10");
+		properties.put("backups", "1");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("First").create());
+		writer.write(LogEntryBuilder.empty().message("Second").create());
+		writer.write(LogEntryBuilder.empty().message("Third").create());
+		writer.close();
+
+		assertThat(file).hasContent("Second" + NEW_LINE + "Third" + NEW_LINE);
 	}
 
 	/**
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ThreadLocalBuilder}.
+ */
+public final class ThreadLocalBuilderTest {
+
+	/**
+	 * Verifies that the same thread gets always the same empty string builder.
+	 */
+	@Test
+	public void reuseForSameThread() {
+		ThreadLocalBuilder builders = new ThreadLocalBuilder(16, 1024);
+
+		StringBuilder first = builders.acquire();
+		first.append("Hello World!");
+		builders.release(first);
+
+		StringBuilder second = builders.acquire();
+		assertThat(second).isSameAs(first).isEmpty();
+		assertThat(second.capacity()).isGreaterThanOrEqualTo(16);
+	}
+
+	/**
+	 * Verifies that different threads get different string builders.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the other thread
+	 */
+	@Test
+	public void separateForDifferentThreads() throws InterruptedException {
+		ThreadLocalBuilder builders = new ThreadLocalBuilder(16, 1024);
+		AtomicReference<StringBuilder> other = new AtomicReference<>();
+
+		Thread thread = new Thread(() -> other.set(builders.acquire()));
+		thread.start();
+		thread.join();
+
+		assertThat(other.get()).isNotNull().isNotSameAs(builders.acquire());
+	}
+
+	/**
+	 * Verifies that a string builder, which has grown beyond the maximum capacity, is discarded on release.
+	 */
+	@Test
+	public void discardOversizedBuilder() {
+		ThreadLocalBuilder builders = new ThreadLocalBuilder(16, 64);
+
+		StringBuilder first = builders.acquire();
+		for (int i = 0; i < 10; ++i) {
+			first.append("0123456789");
+		}
+		builders.release(first);
+
+		StringBuilder second = builders.acquire();
+		assertThat(second).isNotSameAs(first).isEmpty();
+		assertThat(second.capacity()).isEqualTo(16);
+	}
+
+	/**
+	 * Verifies that a re-entrant acquisition by the same thread gets a separate string builder and doesn't overwrite
+	 * the string builder in use.
+	 */
+	@Test
+	public void separateForReentrantAcquisition() {
+		ThreadLocalBuilder builders = new ThreadLocalBuilder(16, 1024);
+
+		StringBuilder outer = builders.acquire();
+		outer.append("outer");
+
+		StringBuilder inner = builders.acquire();
+		inner.append("inner");
+		builders.release(inner);
+
+		assertThat(inner).isNotSameAs(outer);
+		assertThat(outer).hasToString("outer");
+
+		builders.release(outer);
+		assertThat(builders.acquire()).isSameAs(outer).isEmpty();
+	}
+
+	/**
+	 * Verifies that the string builder of the current thread is discarded on close.
+	 */
+	@Test
+	public void discardOnClose() {
+		ThreadLocalBuilder builders = new ThreadLocalBuilder(16, 1024);
+
+		StringBuilder first = builders.acquire();
+		builders.release(first);
+		builders.close();
+
+		assertThat(builders.acquire()).isNotSameAs(first);
+	}
+
+}
@@ -114,6 +114,29 @@ public final class BufferedWriterDecoratorTest {
 			.hasSize(BUFFER_CAPACITY + 1);
 	}
 
+	/**
+	 * Verifies that a custom buffer capacity will be used.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void customCapacity() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		BufferedWriterDecorator decorator = new BufferedWriterDecorator(writer, 4);
+
+		decorator.write(new byte[] { 1, 2, 3, 4 }, 4);
+		assertThat(Files.readAllBytes(Paths.get(path))).isEmpty();
+
+		decorator.write(new byte[] { 5 }, 1);
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4);
+
+		decorator.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5);
+	}
+
 	/**
 	 * Verifies that byte arrays bigger than the internal buffer capacity can be output completely.
 	 *
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.atIndex;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link DoubleBufferedWriterDecorator}.
+ */
+public final class DoubleBufferedWriterDecoratorTest {
+
+	private static final int BUFFER_CAPACITY = 16;
+
+	/**
+	 * Verifies that stored data can be read from tail.
+	 *
+	 * @throws IOException Reading failed
+	 */
+	@Test
+	public void reading() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY);
+
+		decorator.write(new byte[] { 0, 1, 2, 3, 4 }, 0, 5);
+		decorator.flush();
+		decorator.write(new byte[] { 5, 6, 7, 8, 9 }, 0, 5);
+
+		byte[] data = new byte[8];
+
+		assertThat(decorator.readTail(data, 2, 4)).isEqualTo(4);
+		assertThat(data)
+			.contains(6, atIndex(2))
+			.contains(7, atIndex(3))
+			.contains(8, atIndex(4))
+			.contains(9, atIndex(5));
+
+		assertThat(decorator.readTail(data, 0, 8)).isEqualTo(8);
+		assertThat(data).startsWith(2, 3, 4, 5, 6, 7, 8, 9);
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that all written data will be available in the correct order after closing writer, even if the
+	 * buffers have been swapped multiple times.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void writing() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY);
+
+		byte[] expected = new byte[1000];
+		for (int i = 0; i < expected.length; i += 5) {
+			for (int j = 0; j < 5; ++j) {
+				expected[i + j] = (byte) (i + j);
+			}
+			decorator.write(expected, i, 5);
+		}
+
+		decorator.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).isEqualTo(expected);
+	}
+
+	/**
+	 * Verifies that data will be written completely after invoking {@link DoubleBufferedWriterDecorator#flush()}, if
+	 * flushing is configured to wait for the I/O thread.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void flushing() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY, true);
+
+		decorator.write(new byte[] { 1, 2, 3 }, 3);
+		assertThat(Files.readAllBytes(Paths.get(path))).isEmpty();
+
+		decorator.flush();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3);
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that flushing hands the data over to the I/O thread without waiting. Thereby, the caller can continue
+	 * filling the other buffer, while the I/O thread is still writing.
+	 *
+	 * @throws Exception
+	 *             Writing failed or interrupted while waiting for the I/O thread
+	 */
+	@Test
+	public void flushingWithoutWaiting() throws Exception {
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch resume = new CountDownLatch(1);
+
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		doAnswer(invocation -> {
+			writing.countDown();
+			resume.await();
+			return null;
+		}).when(writer).write(any(byte[].class), eq(0), anyInt());
+
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY);
+		decorator.write(new byte[] { 1, 2, 3 }, 3);
+		decorator.flush();
+
+		assertThat(writing.await(1, TimeUnit.SECONDS)).isTrue();
+		decorator.write(new byte[] { 4, 5 }, 2);
+		verify(writer, never()).flush();
+
+		resume.countDown();
+		decorator.close();
+
+		verify(writer).write(any(byte[].class), eq(0), eq(3));
+		verify(writer).write(any(byte[].class), eq(0), eq(2));
+		verify(writer).flush();
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that byte arrays bigger than the internal buffer capacity can be output completely.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void dataBiggerThanBuffer() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY);
+
+		byte[] data = new byte[BUFFER_CAPACITY + 1];
+		data[0] = 1;
+		data[BUFFER_CAPACITY - 1] = 2;
+		data[BUFFER_CAPACITY] = 3;
+
+		decorator.write(new byte[] { 42 }, 1);
+		decorator.write(data, 0, data.length);
+		decorator.close();
+
+		byte[] expected = new byte[data.length + 1];
+		expected[0] = 42;
+		System.arraycopy(data, 0, expected, 1, data.length);
+		assertThat(Files.readAllBytes(Paths.get(path))).isEqualTo(expected);
+	}
+
+	/**
+	 * Verifies that stored data can be shrunk.
+	 *
+	 * @throws IOException Resizing failed
+	 */
+	@Test
+	public void truncating() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY);
+
+		decorator.write(new byte[] { 0, 1, 2, 3, 4 }, 0, 5);
+		decorator.flush();
+		decorator.write(new byte[] { 5, 6, 7, 8, 9 }, 0, 5);
+
+		byte[] data = new byte[16];
+
+		decorator.truncate(4);
+		assertThat(decorator.readTail(data, 0, 16)).isEqualTo(6);
+		assertThat(data).startsWith(0, 1, 2, 3, 4, 5);
+
+		decorator.truncate(4);
+		assertThat(decorator.readTail(data, 0, 16)).isEqualTo(2);
+		assertThat(data).startsWith(0, 1);
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that a failure of the I/O thread will be thrown to the caller.
+	 *
+	 * @throws IOException
+	 *             Closing failed
+	 */
+	@Test
+	public void propagateFailure() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		doThrow(new IOException("Disk full")).when(writer).write(any(byte[].class), eq(0), anyInt());
+
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY, true);
+		decorator.write(new byte[] { 1, 2, 3 }, 3);
+
+		assertThatThrownBy(decorator::flush).isInstanceOf(IOException.class).hasMessage("Disk full");
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that a failure of the I/O thread after flushing without waiting will be thrown to the caller on
+	 * closing.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void propagateFailureOnClose() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		doThrow(new IOException("Disk full")).when(writer).write(any(byte[].class), eq(0), anyInt());
+
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY);
+		decorator.write(new byte[] { 1, 2, 3 }, 3);
+		decorator.flush();
+
+		assertThatThrownBy(decorator::close).isInstanceOf(IOException.class).hasMessage("Disk full");
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that a runtime exception of the underlying writer is passed to the caller and does not stop the I/O
+	 * thread.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void propagateRuntimeException() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		doThrow(new IllegalStateException("Broken")).doNothing().when(writer).write(any(byte[].class), eq(0), anyInt());
+
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, BUFFER_CAPACITY, true);
+		decorator.write(new byte[] { 1, 2, 3 }, 3);
+
+		assertThatThrownBy(decorator::flush).isInstanceOf(IllegalStateException.class).hasMessage("Broken");
+
+		decorator.write(new byte[] { 4, 5, 6 }, 3);
+		decorator.flush();
+		verify(writer, times(2)).write(any(byte[].class), eq(0), eq(3));
+
+		decorator.close();
+	}
+
+}
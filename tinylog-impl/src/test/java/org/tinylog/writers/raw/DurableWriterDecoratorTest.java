@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link DurableWriterDecorator}.
+ */
+public final class DurableWriterDecoratorTest {
+
+	/**
+	 * Verifies that data will be forced once per flush in batch mode.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void batch() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		FileChannel channel = mock(FileChannel.class);
+		DurableWriterDecorator decorator = new DurableWriterDecorator(writer, channel, SyncMode.BATCH, 0);
+
+		decorator.write(new byte[] { 1 }, 1);
+		decorator.write(new byte[] { 2 }, 1);
+		verify(channel, never()).force(anyBoolean());
+
+		decorator.flush();
+		verify(channel, times(1)).force(false);
+
+		decorator.flush();
+		verify(channel, times(1)).force(false);
+
+		decorator.close();
+		verify(channel, times(1)).force(false);
+
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that data will be forced at most once per interval in interval mode.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the interval to elapse
+	 */
+	@Test
+	public void interval() throws IOException, InterruptedException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		FileChannel channel = mock(FileChannel.class);
+		DurableWriterDecorator decorator = new DurableWriterDecorator(writer, channel, SyncMode.INTERVAL, 100);
+
+		decorator.write(new byte[] { 1 }, 1);
+		decorator.flush();
+		verify(channel, never()).force(anyBoolean());
+
+		Thread.sleep(150);
+
+		decorator.write(new byte[] { 2 }, 1);
+		verify(writer, times(2)).flush();
+		verify(channel).force(false);
+
+		decorator.write(new byte[] { 3 }, 1);
+		verify(channel).force(false);
+
+		decorator.close();
+		verify(channel, times(2)).force(false);
+	}
+
+	/**
+	 * Verifies that data will be forced after the interval in interval mode, even if no further data is written.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the interval to elapse
+	 */
+	@Test
+	public void deferredInterval() throws IOException, InterruptedException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		FileChannel channel = mock(FileChannel.class);
+		DurableWriterDecorator decorator = new DurableWriterDecorator(writer, channel, SyncMode.INTERVAL, 100);
+
+		decorator.write(new byte[] { 1 }, 1);
+		verify(channel, never()).force(anyBoolean());
+
+		Thread.sleep(300);
+		verify(writer).flush();
+		verify(channel, times(1)).force(false);
+
+		decorator.close();
+		verify(channel, times(1)).force(false);
+	}
+
+	/**
+	 * Verifies that each write will be forced immediately in interval mode without an interval.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void zeroInterval() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		FileChannel channel = mock(FileChannel.class);
+		DurableWriterDecorator decorator = new DurableWriterDecorator(writer, channel, SyncMode.INTERVAL, 0);
+
+		decorator.write(new byte[] { 1 }, 1);
+		decorator.write(new byte[] { 2 }, 1);
+		verify(channel, times(2)).force(false);
+
+		decorator.close();
+		verify(channel, times(2)).force(false);
+	}
+
+	/**
+	 * Verifies that reading and truncating are passed to the underlying writer.
+	 *
+	 * @throws IOException
+	 *             Reading or truncating failed
+	 */
+	@Test
+	public void delegating() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		FileChannel channel = mock(FileChannel.class);
+		DurableWriterDecorator decorator = new DurableWriterDecorator(writer, channel, SyncMode.BATCH, 0);
+
+		byte[] data = new byte[4];
+		decorator.readTail(data, 0, 4);
+		verify(writer).readTail(data, 0, 4);
+
+		decorator.truncate(2);
+		verify(writer).truncate(2);
+
+		decorator.close();
+		verify(channel).force(false);
+	}
+
+	/**
+	 * Verifies that data of a memory-mapped file writer will be forced via the writer itself.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void mapped() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		MappedFileWriter writer = new MappedFileWriter(new RandomAccessFile(path, "rw"), true);
+		DurableWriterDecorator decorator = new DurableWriterDecorator(writer, writer, SyncMode.BATCH, 0);
+
+		decorator.write(new byte[] { 1, 2, 3 }, 3);
+		decorator.flush();
+		assertThat(Files.readAllBytes(Paths.get(path))).startsWith(1, 2, 3);
+
+		decorator.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3);
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.atIndex;
+
+/**
+ * Tests for {@link MappedFileWriter}.
+ */
+public final class MappedFileWriterTest {
+
+	/**
+	 * Verifies that stored data can be read from tail.
+	 *
+	 * @throws IOException Reading failed
+	 */
+	@Test
+	public void reading() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		file.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 });
+
+		MappedFileWriter writer = new MappedFileWriter(file);
+		writer.write(new byte[] { 8, 9 }, 2);
+		byte[] data = new byte[16];
+
+		assertThat(writer.readTail(data, 2, 4)).isEqualTo(4);
+		assertThat(data)
+			.contains(6, atIndex(2))
+			.contains(7, atIndex(3))
+			.contains(8, atIndex(4))
+			.contains(9, atIndex(5));
+
+		assertThat(writer.readTail(data, 0, 16)).isEqualTo(10);
+		assertThat(data).startsWith(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+		writer.close();
+	}
+
+	/**
+	 * Verifies that written data will be available after writing and that the file will be cut to the written data
+	 * after closing the writer.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void writing() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		MappedFileWriter writer = new MappedFileWriter(file);
+
+		writer.write(new byte[] { 1, 2, 3 }, 2);
+		writer.write(new byte[] { 4, 5, 6, 7 }, 1, 2);
+		assertThat(Files.readAllBytes(Paths.get(path))).startsWith(1, 2, 5, 6);
+
+		writer.flush();
+		writer.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 5, 6);
+	}
+
+	/**
+	 * Verifies that data will be written across multiple mapped windows.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void writingAcrossWindows() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		MappedFileWriter writer = new MappedFileWriter(file, 4);
+
+		writer.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, 1, 9);
+		writer.write(new byte[] { 10 }, 1);
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+	}
+
+	/**
+	 * Verifies that data will be written across multiple mapped windows and can be forced in durable mode.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void forcingInDurableMode() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		MappedFileWriter writer = new MappedFileWriter(file, 4, true);
+
+		writer.write(new byte[] { 1, 2, 3, 4, 5, 6 }, 6);
+		writer.force();
+		assertThat(Files.readAllBytes(Paths.get(path))).startsWith(1, 2, 3, 4, 5, 6);
+
+		writer.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5, 6);
+	}
+
+	/**
+	 * Verifies that existing data will be continued.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void appending() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		file.write(new byte[] { 1, 2 });
+
+		MappedFileWriter writer = new MappedFileWriter(file);
+		writer.write(new byte[] { 3 }, 1);
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3);
+	}
+
+	/**
+	 * Verifies that trailing zero bytes of a mapped region are cut off, if a file is reopened after a writer has not
+	 * been closed properly.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void appendingAfterUnclosedWriter() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		MappedFileWriter writer = new MappedFileWriter(file, 16);
+		writer.write(new byte[] { 1, 2, 0, 3 }, 4);
+		writer.force();
+		file.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).hasSize(16);
+
+		file = new RandomAccessFile(path, "rw");
+		writer = new MappedFileWriter(file, 16);
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 0, 3);
+
+		writer.write(new byte[] { 4 }, 1);
+		writer.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 0, 3, 4);
+	}
+
+	/**
+	 * Verifies that stored data can be shrunk and new data will be appended after the shrunk data.
+	 *
+	 * @throws IOException Resizing failed
+	 */
+	@Test
+	public void truncating() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		MappedFileWriter writer = new MappedFileWriter(file);
+
+		writer.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, 10);
+		writer.truncate(4);
+		writer.write(new byte[] { 42 }, 1);
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(0, 1, 2, 3, 4, 5, 42);
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TextEncoder}.
+ */
+public final class TextEncoderTest {
+
+	private static final String ASCII_TEXT = "Hello World!\n";
+	private static final String LATIN_1_TEXT = "Grüße aus Köln\n";
+	private static final String UNICODE_TEXT = "Grüße € 世界 😀\n";
+	private static final String MALFORMED_TEXT = "high " + (char) 0xD83D + " low " + (char) 0xDE00 + " end" + (char) 0xD83D;
+
+	/**
+	 * Verifies that texts are encoded identically to {@link String#getBytes(Charset)} for US-ASCII.
+	 */
+	@Test
+	public void ascii() {
+		verify(StandardCharsets.US_ASCII, ASCII_TEXT, LATIN_1_TEXT, UNICODE_TEXT, MALFORMED_TEXT);
+	}
+
+	/**
+	 * Verifies that texts are encoded identically to {@link String#getBytes(Charset)} for ISO-8859-1.
+	 */
+	@Test
+	public void latin1() {
+		verify(StandardCharsets.ISO_8859_1, ASCII_TEXT, LATIN_1_TEXT, UNICODE_TEXT, MALFORMED_TEXT);
+	}
+
+	/**
+	 * Verifies that texts are encoded identically to {@link String#getBytes(Charset)} for UTF-8.
+	 */
+	@Test
+	public void utf8() {
+		verify(StandardCharsets.UTF_8, ASCII_TEXT, LATIN_1_TEXT, UNICODE_TEXT, MALFORMED_TEXT);
+	}
+
+	/**
+	 * Verifies that texts are encoded identically to {@link String#getBytes(Charset)} for charsets without fast path.
+	 */
+	@Test
+	public void otherCharsets() {
+		verify(StandardCharsets.UTF_16, ASCII_TEXT, LATIN_1_TEXT, UNICODE_TEXT);
+		verify(Charset.forName("windows-1252"), ASCII_TEXT, LATIN_1_TEXT, UNICODE_TEXT);
+	}
+
+	/**
+	 * Verifies that the internal byte array is reused for subsequent texts.
+	 */
+	@Test
+	public void reuseBuffer() {
+		TextEncoder encoder = new TextEncoder(StandardCharsets.UTF_8);
+
+		encoder.encode(LATIN_1_TEXT);
+		byte[] buffer = encoder.getBuffer();
+
+		encoder.encode(ASCII_TEXT);
+		assertThat(encoder.getBuffer()).isSameAs(buffer);
+		assertThat(encoder.getLength()).isEqualTo(ASCII_TEXT.length());
+	}
+
+	/**
+	 * Verifies that the internal byte array grows for texts that don't fit into the initial capacity.
+	 */
+	@Test
+	public void growBuffer() {
+		char[] characters = new char[100];
+		Arrays.fill(characters, '€');
+		String text = new String(characters);
+
+		TextEncoder encoder = new TextEncoder(StandardCharsets.UTF_8, 10);
+		encoder.encode(text);
+
+		assertThat(encoder.getLength()).isEqualTo(300);
+		assertThat(encoder.toByteArray()).isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Verifies that the internal byte array grows to the exact number of required bytes for UTF-8 instead of reserving
+	 * the maximum number of bytes per character.
+	 */
+	@Test
+	public void growBufferExactly() {
+		TextEncoder encoder = new TextEncoder(StandardCharsets.UTF_8, 0);
+		encoder.encode(ASCII_TEXT);
+
+		assertThat(encoder.getBuffer()).hasSize(ASCII_TEXT.length());
+		assertThat(encoder.toByteArray()).isEqualTo(ASCII_TEXT.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Verifies that all passed texts are encoded identically to {@link String#getBytes(Charset)} by the same encoder.
+	 *
+	 * @param charset
+	 *            Charset for encoding
+	 * @param texts
+	 *            Texts to encode
+	 */
+	private static void verify(final Charset charset, final String... texts) {
+		TextEncoder encoder = new TextEncoder(charset, 1);
+		for (String text : texts) {
+			encoder.encode(new StringBuilder(text));
+			assertThat(Arrays.copyOf(encoder.getBuffer(), encoder.getLength())).as(text).isEqualTo(text.getBytes(charset));
+			assertThat(encoder.toByteArray()).as(text).isEqualTo(text.getBytes(charset));
+		}
+	}
+
+}